@@ -76,7 +76,11 @@ if ($Deploy) {
     kubectl apply -f "$k8sPath\service.yaml"
     
     Write-Host "`n⏳ Attente du déploiement..."
-    kubectl rollout status deployment/audit-management -n $Namespace --timeout=120s
+    kubectl rollout status statefulset/audit-management -n $Namespace --timeout=120s
+    
+    # Ancien Deployment (avant le passage en StatefulSet): non supprimé par kubectl apply
+    Write-Host "8. Suppression de l'ancien Deployment..."
+    kubectl delete deployment audit-management -n $Namespace --ignore-not-found
     
     Write-Host "✅ Déploiement terminé!" -ForegroundColor Green
 }
@@ -91,7 +95,7 @@ if ($Status) {
     kubectl get svc -n $Namespace
     
     Write-Host "`n📊 Deployments:" -ForegroundColor White
-    kubectl get deployments -n $Namespace
+    kubectl get deployments,statefulsets -n $Namespace
     
     Write-Host "`n💾 PVC:" -ForegroundColor White
     kubectl get pvc -n $Namespace
@@ -0,0 +1,27 @@
+package com.example.audit.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * API de lecture réactive des utilisateurs (WebFlux + R2DBC).
+ * 
+ * Le jar de l'application MVC est sur le classpath (DTO partagés) avec ses
+ * fichiers application*.yaml: la configuration de ce module est donc lue
+ * dans reactive*.yaml.
+ */
+@SpringBootApplication
+public class AuditReactiveApplication {
+
+	/**
+	 * Propriété à reprendre dans les tests (@SpringBootTest, @WebFluxTest...).
+	 */
+	public static final String CONFIG_NAME = "spring.config.name=reactive";
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(AuditReactiveApplication.class)
+				.properties(CONFIG_NAME)
+				.run(args);
+	}
+
+}
@@ -0,0 +1,193 @@
+package com.example.audit.reactive.controller;
+
+import com.example.audit.audit_management.controller.UserETags;
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.service.UserService;
+import com.example.audit.reactive.service.ReactiveUserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Contrôleur WebFlux des lectures d'utilisateurs.
+ *
+ * Mêmes chemins, paramètres, en-têtes (X-Next-Cursor, Link, ETag) et corps JSON
+ * que les lectures de UserController: un répartiteur peut envoyer les GET
+ * /api/users/** ici et les écritures à l'application MVC. Les listes non
+ * bornées sont écrites élément par élément, au rythme du client.
+ *
+ * Non servis ici (index en mémoire de l'application MVC): /suggest et /filter.
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Utilisateurs (lecture réactive)", description = "API de lecture non bloquante des utilisateurs")
+public class ReactiveUserController {
+
+    /**
+     * En-tête portant le curseur opaque de la page suivante.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final ReactiveUserService userService;
+
+    /**
+     * GET /api/users?after=xxx&limit=50 - Récupère une page d'utilisateurs
+     */
+    @GetMapping
+    @Operation(
+            summary = "Récupérer les utilisateurs (pagination par curseur)",
+            description = "Retourne une page d'utilisateurs triés par identifiant. "
+                    + "Le curseur de la page suivante est fourni dans l'en-tête X-Next-Cursor "
+                    + "et dans l'en-tête Link (rel=\"next\")"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page d'utilisateurs récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun utilisateur modifié depuis l'ETag fourni (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Curseur invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public Mono<ResponseEntity<List<UserDTO>>> getAllUsers(
+            @Parameter(description = "Curseur opaque renvoyé par la page précédente")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Nombre maximal d'utilisateurs (max " + UserService.MAX_PAGE_SIZE + ")", example = "50")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int limit,
+            ServerWebExchange exchange) {
+        log.info("GET /api/users - Récupération d'une page d'utilisateurs (after={}, limit={})", after, limit);
+        return userService.getListVersion(null)
+                .map(version -> UserETags.of(version, null))
+                .flatMap(etag -> exchange.checkNotModified(etag)
+                        ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<List<UserDTO>>build())
+                        : userService.getAllUsers(after, limit).map(page -> {
+                            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+                            if (page.isHasMore()) {
+                                String next = UriComponentsBuilder.fromUri(exchange.getRequest().getURI())
+                                        .replaceQueryParam("after", page.getNextCursor())
+                                        .replaceQueryParam("limit", limit)
+                                        .toUriString();
+                                response.header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                                        .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+                            }
+                            return response.body(page.getContent());
+                        }));
+    }
+
+    /**
+     * GET /api/users/export - Diffuse tous les utilisateurs en NDJSON
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Exporter tous les utilisateurs",
+            description = "Diffuse tous les utilisateurs au format NDJSON (un objet JSON par ligne), "
+                    + "lus en base au rythme de consommation du client"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export en cours de diffusion"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public Flux<UserDTO> exportUsers() {
+        log.info("GET /api/users/export - Export NDJSON des utilisateurs");
+        return userService.exportUsers();
+    }
+
+    /**
+     * GET /api/users/{id} - Récupère un utilisateur par son ID
+     */
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Récupérer un utilisateur par ID",
+            description = "Retourne un utilisateur spécifique basé sur son identifiant unique"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Utilisateur trouvé"),
+            @ApiResponse(responseCode = "304", description = "Utilisateur non modifié (If-None-Match / If-Modified-Since)"),
+            @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public Mono<ResponseEntity<UserDTO>> getUserById(
+            @Parameter(description = "ID de l'utilisateur", required = true, example = "1")
+            @PathVariable Long id) {
+        log.info("GET /api/users/{} - Récupération de l'utilisateur", id);
+        // ETag et Last-Modified: WebFlux répond 304 sans sérialiser le corps si le client est à jour
+        return userService.getUserById(id).map(ReactiveUserController::withValidators);
+    }
+
+    /**
+     * GET /api/users/search?username=xxx&limit=20 - Recherche par nom
+     */
+    @GetMapping("/search")
+    @Operation(
+            summary = "Rechercher des utilisateurs par nom",
+            description = "Recherche les utilisateurs dont le nom contient la chaîne fournie (insensible à la casse), "
+                    + "classés par pertinence et limités à 'limit' résultats (100 maximum)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Résultats de la recherche"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public Flux<UserDTO> searchUsers(
+            @Parameter(description = "Terme de recherche pour le nom d'utilisateur", example = "john")
+            @RequestParam String username,
+            @Parameter(description = "Nombre maximal de résultats", example = "20")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_SEARCH_LIMIT) int limit) {
+        log.info("GET /api/users/search?username={}&limit={} - Recherche d'utilisateurs", username, limit);
+        return userService.searchUsersByUsername(username, limit);
+    }
+
+    /**
+     * GET /api/users/role/{role} - Filtre par rôle
+     */
+    @GetMapping("/role/{role}")
+    @Operation(
+            summary = "Récupérer les utilisateurs par rôle",
+            description = "Retourne tous les utilisateurs ayant le rôle spécifié, écrits au rythme du client"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste des utilisateurs filtrés par rôle"),
+            @ApiResponse(responseCode = "304", description = "Aucun utilisateur de ce rôle modifié depuis l'ETag fourni"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public Mono<ResponseEntity<Flux<UserDTO>>> getUsersByRole(
+            @Parameter(description = "Rôle à rechercher", example = "AUDITOR")
+            @PathVariable String role,
+            ServerWebExchange exchange) {
+        log.info("GET /api/users/role/{} - Récupération des utilisateurs par rôle", role);
+        // Le flux n'est souscrit (lignes lues) que si l'ETag du client est périmé
+        return userService.getListVersion(role)
+                .map(version -> UserETags.of(version, null))
+                .map(etag -> exchange.checkNotModified(etag)
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Flux<UserDTO>>build()
+                        : ResponseEntity.ok().eTag(etag).body(userService.getUsersByRole(role)));
+    }
+
+    private static ResponseEntity<UserDTO> withValidators(UserDTO user) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (user.getVersion() != null) {
+            response.eTag(UserETags.of(user));
+        }
+        if (user.getUpdatedAt() != null) {
+            response.lastModified(UserETags.lastModified(user));
+        }
+        return response.body(user);
+    }
+}
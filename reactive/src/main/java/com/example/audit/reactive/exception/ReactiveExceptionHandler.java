@@ -0,0 +1,81 @@
+package com.example.audit.reactive.exception;
+
+import com.example.audit.audit_management.exception.BadRequestException;
+import com.example.audit.audit_management.exception.ErrorResponse;
+import com.example.audit.audit_management.exception.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gestionnaire des exceptions de l'API réactive.
+ *
+ * Mêmes statuts et même corps (ErrorResponse) que GlobalExceptionHandler
+ * pour les erreurs que peuvent produire les lectures.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    /**
+     * Gère les erreurs de ressource non trouvée.
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFound(
+            ResourceNotFoundException ex,
+            ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, "Ressource non trouvée", ex.getMessage(), request);
+    }
+
+    /**
+     * Gère les paramètres de requête invalides (curseur illisible, identifiant non numérique).
+     */
+    @ExceptionHandler({BadRequestException.class, ServerWebInputException.class})
+    public ResponseEntity<ErrorResponse> handleBadRequest(
+            RuntimeException ex,
+            ServerHttpRequest request) {
+        String message = ex instanceof ServerWebInputException input ? input.getReason() : ex.getMessage();
+        return error(HttpStatus.BAD_REQUEST, "Requête invalide", message, request);
+    }
+
+    /**
+     * Gère les erreurs de routage de WebFlux (chemin inconnu, méthode non supportée...)
+     * en conservant leur statut.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(
+            ResponseStatusException ex,
+            ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        return error(status, status.getReasonPhrase(), ex.getReason(), request);
+    }
+
+    /**
+     * Gère toutes les autres exceptions non prévues.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Erreur interne du serveur",
+                "Une erreur inattendue s'est produite", request);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                       ServerHttpRequest request) {
+        ErrorResponse response = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(status).body(response);
+    }
+}
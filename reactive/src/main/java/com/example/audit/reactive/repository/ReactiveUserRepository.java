@@ -0,0 +1,131 @@
+package com.example.audit.reactive.repository;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Pendant R2DBC des lectures de UserRepository, en SQL explicite vers UserDTO
+ * (pas d'entité: ce module ne fait que lire la table users gérée par l'application MVC).
+ *
+ * Les flux non bornés (rôle, export) sont lus par lots de {@value #FETCH_SIZE}
+ * lignes: le pilote ne demande le lot suivant à la base que lorsque l'abonné
+ * a consommé le précédent (backpressure jusqu'à la base).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    static final int FETCH_SIZE = 256;
+
+    private static final String USER_SELECT =
+            "SELECT id, username, email, role, created_at, updated_at, version FROM users";
+
+    /**
+     * Même classement que l'index trigrammes en mémoire: noms commençant par
+     * le terme, puis les plus courts, puis ordre alphabétique.
+     */
+    private static final String SEARCH_SQL = USER_SELECT
+            + " WHERE lower(username) LIKE :pattern ESCAPE '\\'"
+            + " ORDER BY CASE WHEN lower(username) LIKE :prefix ESCAPE '\\' THEN 0 ELSE 1 END,"
+            + " length(username), lower(username), id"
+            + " LIMIT :limit";
+
+    private static final String STAMP_SELECT = "SELECT count(*) AS row_count, max(updated_at) AS last_modified,"
+            + " CAST(coalesce(sum(version), 0) AS BIGINT) AS version_sum FROM users";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UserDTO> findById(long id) {
+        return databaseClient.sql(USER_SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toDto)
+                .one();
+    }
+
+    /**
+     * Page de la pagination par curseur.
+     *
+     * @param afterId L'identifiant après lequel reprendre, ou null pour la première page
+     * @param limit Le nombre maximal de lignes
+     */
+    public Flux<UserDTO> findPage(Long afterId, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = afterId == null
+                ? databaseClient.sql(USER_SELECT + " ORDER BY id LIMIT :limit")
+                : databaseClient.sql(USER_SELECT + " WHERE id > :after ORDER BY id LIMIT :limit").bind("after", afterId);
+        return spec.bind("limit", limit)
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    public Flux<UserDTO> findByRole(String role) {
+        return databaseClient.sql(USER_SELECT + " WHERE role = :role")
+                .bind("role", role)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    public Flux<UserDTO> findAll() {
+        return databaseClient.sql(USER_SELECT + " ORDER BY id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    /**
+     * @param term Le terme recherché (insensible à la casse)
+     * @param limit Le nombre maximal de résultats
+     */
+    public Flux<UserDTO> searchByUsername(String term, int limit) {
+        String escaped = escapeLike(term.toLowerCase(Locale.ROOT));
+        return databaseClient.sql(SEARCH_SQL)
+                .bind("pattern", "%" + escaped + "%")
+                .bind("prefix", escaped + "%")
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    /**
+     * Empreinte des utilisateurs (tous, ou d'un rôle) pour les ETags de liste:
+     * la même agrégation que UserRepository.findListStamp.
+     *
+     * @param role Le rôle, ou null pour tous les utilisateurs
+     */
+    public Mono<UserListVersionDTO> findListStamp(String role) {
+        DatabaseClient.GenericExecuteSpec spec = role == null
+                ? databaseClient.sql(STAMP_SELECT)
+                : databaseClient.sql(STAMP_SELECT + " WHERE role = :role").bind("role", role);
+        return spec.map(row -> UserListVersionDTO.builder()
+                        .count(row.get("row_count", Long.class))
+                        .lastModified(row.get("last_modified", LocalDateTime.class))
+                        .versionSum(row.get("version_sum", Long.class))
+                        .build())
+                .one();
+    }
+
+    static UserDTO toDto(Readable row) {
+        return UserDTO.builder()
+                .id(row.get("id", Long.class))
+                .username(row.get("username", String.class))
+                .email(row.get("email", String.class))
+                .role(row.get("role", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.audit.reactive.service;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lectures non bloquantes des utilisateurs.
+ * 
+ * Mêmes règles que les lectures de UserService (curseurs, plafonds des limites,
+ * recherche vide), mêmes erreurs, signalées dans le flux plutôt que levées.
+ * Les limites par défaut et maximales sont celles de UserService.
+ */
+public interface ReactiveUserService {
+
+    /**
+     * Récupère une page d'utilisateurs triés par identifiant (pagination par curseur).
+     *
+     * @param after Le curseur opaque de la page précédente (null pour la première page)
+     * @param limit Le nombre maximal d'utilisateurs (plafonné à UserService.MAX_PAGE_SIZE)
+     * @return La page; erreur BadRequestException si le curseur est invalide
+     */
+    Mono<UserPageDTO> getAllUsers(String after, int limit);
+
+    /**
+     * @return L'utilisateur; erreur ResourceNotFoundException si non trouvé
+     */
+    Mono<UserDTO> getUserById(Long id);
+
+    /**
+     * Diffuse les utilisateurs d'un rôle, au rythme de l'abonné.
+     */
+    Flux<UserDTO> getUsersByRole(String role);
+
+    /**
+     * Diffuse tous les utilisateurs triés par identifiant, au rythme de l'abonné.
+     */
+    Flux<UserDTO> exportUsers();
+
+    /**
+     * @param username Le terme recherché (vide: aucun résultat)
+     * @param limit Le nombre maximal de résultats (plafonné à UserService.MAX_SEARCH_LIMIT)
+     */
+    Flux<UserDTO> searchUsersByUsername(String username, int limit);
+
+    /**
+     * @param role Le rôle, ou null pour tous les utilisateurs
+     * @return L'empreinte de la liste, pour son ETag
+     */
+    Mono<UserListVersionDTO> getListVersion(String role);
+}
@@ -0,0 +1,91 @@
+package com.example.audit.reactive.service.impl;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import com.example.audit.audit_management.exception.ResourceNotFoundException;
+import com.example.audit.audit_management.service.impl.UserCursorCodec;
+import com.example.audit.reactive.repository.ReactiveUserRepository;
+import com.example.audit.reactive.service.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.example.audit.audit_management.service.UserService.MAX_PAGE_SIZE;
+import static com.example.audit.audit_management.service.UserService.MAX_SEARCH_LIMIT;
+
+/**
+ * Implémentation des lectures réactives.
+ * 
+ * Pas de cache local ici (il est invalidé par les écritures de l'application
+ * MVC, que ce module ne voit pas): chaque lecture interroge la base.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<UserPageDTO> getAllUsers(String after, int limit) {
+        // decode lève BadRequestException: defer la transforme en signal d'erreur
+        return Mono.defer(() -> {
+            Long afterId = UserCursorCodec.decode(after);
+            int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            log.debug("Récupération d'une page d'utilisateurs: after={}, limit={}", afterId, pageSize);
+
+            // Une ligne de plus que demandé pour savoir s'il existe une page suivante, sans COUNT(*)
+            return userRepository.findPage(afterId, pageSize + 1)
+                    .collectList()
+                    .map(users -> toPage(users, pageSize));
+        });
+    }
+
+    @Override
+    public Mono<UserDTO> getUserById(Long id) {
+        log.debug("Récupération de l'utilisateur avec l'id: {}", id);
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Utilisateur", "id", id)));
+    }
+
+    @Override
+    public Flux<UserDTO> getUsersByRole(String role) {
+        log.debug("Recherche des utilisateurs avec le rôle: {}", role);
+        return userRepository.findByRole(role);
+    }
+
+    @Override
+    public Flux<UserDTO> exportUsers() {
+        return userRepository.findAll();
+    }
+
+    @Override
+    public Flux<UserDTO> searchUsersByUsername(String username, int limit) {
+        if (username == null || username.isBlank()) {
+            return Flux.empty();
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        log.debug("Recherche des utilisateurs contenant: {} (limit={})", username, maxResults);
+        return userRepository.searchByUsername(username.trim(), maxResults);
+    }
+
+    @Override
+    public Mono<UserListVersionDTO> getListVersion(String role) {
+        return userRepository.findListStamp(role);
+    }
+
+    private static UserPageDTO toPage(List<UserDTO> users, int pageSize) {
+        boolean hasMore = users.size() > pageSize;
+        List<UserDTO> content = hasMore ? users.subList(0, pageSize) : users;
+        return UserPageDTO.builder()
+                .content(content)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? UserCursorCodec.encode(content.get(pageSize - 1).getId()) : null)
+                .build();
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.audit.reactive.controller;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import com.example.audit.audit_management.exception.BadRequestException;
+import com.example.audit.audit_management.exception.ResourceNotFoundException;
+import com.example.audit.reactive.AuditReactiveApplication;
+import com.example.audit.reactive.exception.ReactiveExceptionHandler;
+import com.example.audit.reactive.service.ReactiveUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests du contrôleur réactif avec @WebFluxTest.
+ *
+ * Vérifient que les réponses (statuts, en-têtes, corps) sont celles
+ * des lectures de l'application MVC.
+ */
+@WebFluxTest(controllers = ReactiveUserController.class, properties = AuditReactiveApplication.CONFIG_NAME)
+@Import(ReactiveExceptionHandler.class)
+@DisplayName("ReactiveUserController - Tests WebTestClient")
+class ReactiveUserControllerTest {
+
+    private static final String LIST_ETAG = "\"1-0-3\"";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveUserService userService;
+
+    private UserDTO userDTO;
+
+    @BeforeEach
+    void setUp() {
+        userDTO = UserDTO.builder()
+                .id(1L)
+                .username("john.doe")
+                .email("john.doe@example.com")
+                .role("AUDITOR")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.of(2024, 1, 16, 8, 0))
+                .version(3L)
+                .build();
+        when(userService.getListVersion(any())).thenReturn(Mono.just(UserListVersionDTO.builder()
+                .count(1)
+                .versionSum(3)
+                .build()));
+    }
+
+    @Nested
+    @DisplayName("GET /api/users")
+    class GetAllUsersTests {
+
+        @Test
+        @DisplayName("Doit retourner la page avec le curseur suivant et l'ETag de liste")
+        void shouldReturnPageWithNextCursor() {
+            // Given
+            when(userService.getAllUsers(null, 1)).thenReturn(Mono.just(UserPageDTO.builder()
+                    .content(List.of(userDTO))
+                    .hasMore(true)
+                    .nextCursor("dTE6MQ")
+                    .build()));
+
+            // When/Then
+            webTestClient.get().uri("/api/users?limit=1")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals(ReactiveUserController.NEXT_CURSOR_HEADER, "dTE6MQ")
+                    .expectHeader().valueMatches(HttpHeaders.LINK, ".*after=dTE6MQ.*rel=\"next\"")
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, LIST_ETAG)
+                    .expectBody()
+                    .jsonPath("$[0].username").isEqualTo("john.doe")
+                    .jsonPath("$.length()").isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Doit retourner 304 sans lire les lignes si l'ETag de liste est à jour")
+        void shouldReturn304WhenListUnchanged() {
+            // When/Then
+            webTestClient.get().uri("/api/users")
+                    .header(HttpHeaders.IF_NONE_MATCH, LIST_ETAG)
+                    .exchange()
+                    .expectStatus().isNotModified()
+                    .expectBody().isEmpty();
+            verify(userService, never()).getAllUsers(any(), eq(50));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 400 si le curseur est invalide")
+        void shouldReturn400WhenCursorInvalid() {
+            // Given
+            when(userService.getAllUsers("bad", 50))
+                    .thenReturn(Mono.error(new BadRequestException("after", "bad")));
+
+            // When/Then
+            webTestClient.get().uri("/api/users?after=bad")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(400)
+                    .jsonPath("$.path").isEqualTo("/api/users");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/users/{id}")
+    class GetUserByIdTests {
+
+        @Test
+        @DisplayName("Doit retourner 200 avec ETag et Last-Modified")
+        void shouldReturnUser() {
+            // Given
+            when(userService.getUserById(1L)).thenReturn(Mono.just(userDTO));
+
+            // When/Then
+            webTestClient.get().uri("/api/users/1")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                    .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                    .expectBody()
+                    .jsonPath("$.id").isEqualTo(1)
+                    .jsonPath("$.version").isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Doit retourner 304 si l'ETag est à jour")
+        void shouldReturn304WhenETagMatches() {
+            // Given
+            when(userService.getUserById(1L)).thenReturn(Mono.just(userDTO));
+
+            // When/Then
+            webTestClient.get().uri("/api/users/1")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                    .exchange()
+                    .expectStatus().isNotModified();
+        }
+
+        @Test
+        @DisplayName("Doit retourner 404 si utilisateur non trouvé")
+        void shouldReturn404WhenNotFound() {
+            // Given
+            when(userService.getUserById(99L))
+                    .thenReturn(Mono.error(new ResourceNotFoundException("Utilisateur", "id", 99L)));
+
+            // When/Then
+            webTestClient.get().uri("/api/users/99")
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Listes en flux")
+    class StreamedListTests {
+
+        @Test
+        @DisplayName("GET /role/{role} - Doit écrire les utilisateurs du rôle en tableau JSON")
+        void shouldStreamUsersByRole() {
+            // Given
+            when(userService.getUsersByRole("AUDITOR")).thenReturn(Flux.just(userDTO));
+
+            // When/Then
+            webTestClient.get().uri("/api/users/role/AUDITOR")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, LIST_ETAG)
+                    .expectBody()
+                    .jsonPath("$[0].role").isEqualTo("AUDITOR");
+        }
+
+        @Test
+        @DisplayName("GET /role/{role} - Doit retourner 304 sans souscrire au flux")
+        void shouldReturn304ForUnchangedRole() {
+            // When/Then
+            webTestClient.get().uri("/api/users/role/AUDITOR")
+                    .header(HttpHeaders.IF_NONE_MATCH, LIST_ETAG)
+                    .exchange()
+                    .expectStatus().isNotModified();
+            verify(userService, never()).getUsersByRole("AUDITOR");
+        }
+
+        @Test
+        @DisplayName("GET /export - Doit écrire un objet JSON par ligne")
+        void shouldExportNdjson() {
+            // Given
+            when(userService.exportUsers()).thenReturn(Flux.just(userDTO, userDTO));
+
+            // When/Then
+            webTestClient.get().uri("/api/users/export")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    .expectBodyList(UserDTO.class).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("GET /search - Doit retourner les résultats de la recherche")
+        void shouldSearchUsers() {
+            // Given
+            when(userService.searchUsersByUsername("john", 20)).thenReturn(Flux.just(userDTO));
+
+            // When/Then
+            webTestClient.get().uri("/api/users/search?username=john")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$[0].username").isEqualTo("john.doe");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.audit.reactive.repository;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.reactive.AuditReactiveApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests du repository R2DBC avec @DataR2dbcTest, sur H2 en mémoire
+ * (schéma de la table users dans schema.sql).
+ */
+@DataR2dbcTest(properties = AuditReactiveApplication.CONFIG_NAME)
+@ActiveProfiles("test")
+@Import(ReactiveUserRepository.class)
+@DisplayName("ReactiveUserRepository - Tests d'intégration R2DBC")
+class ReactiveUserRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM users").then()
+                .thenMany(Flux.just(
+                        insert(1L, "john.doe", "AUDITOR"),
+                        insert(2L, "jane.smith", "ADMIN"),
+                        insert(3L, "johnny", "AUDITOR"),
+                        insert(4L, "big_john", "AUDITOR")))
+                .concatMap(DatabaseClient.GenericExecuteSpec::then)
+                .blockLast();
+    }
+
+    @Test
+    @DisplayName("findById - Doit retourner l'utilisateur en DTO")
+    void findById_ShouldReturnDto() {
+        StepVerifier.create(userRepository.findById(1L))
+                .assertNext(user -> {
+                    assertThat(user.getUsername()).isEqualTo("john.doe");
+                    assertThat(user.getCreatedAt()).isEqualTo(CREATED_AT);
+                    assertThat(user.getVersion()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findById - Doit être vide si non trouvé")
+    void findById_ShouldBeEmpty() {
+        StepVerifier.create(userRepository.findById(99L)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPage - Doit reprendre après le curseur, triée par id")
+    void findPage_ShouldResumeAfterCursor() {
+        StepVerifier.create(userRepository.findPage(1L, 2).map(UserDTO::getId))
+                .expectNext(2L, 3L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findByRole - Doit diffuser les utilisateurs du rôle, à la demande")
+    void findByRole_ShouldStreamWithBackpressure() {
+        StepVerifier.create(userRepository.findByRole("AUDITOR"), 1)
+                .expectNextCount(1)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("searchByUsername - Doit classer les préfixes en tête et traiter '_' littéralement")
+    void searchByUsername_ShouldRankPrefixFirst() {
+        StepVerifier.create(userRepository.searchByUsername("JOHN", 10).map(UserDTO::getUsername))
+                .expectNext("johnny", "john.doe", "big_john")
+                .verifyComplete();
+        StepVerifier.create(userRepository.searchByUsername("g_j", 10).map(UserDTO::getUsername))
+                .expectNext("big_john")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findListStamp - Doit agréger nombre et somme des versions")
+    void findListStamp_ShouldAggregate() {
+        StepVerifier.create(userRepository.findListStamp("AUDITOR"))
+                .assertNext(stamp -> {
+                    assertThat(stamp.getCount()).isEqualTo(3);
+                    assertThat(stamp.getVersionSum()).isZero();
+                    assertThat(stamp.getLastModified()).isNotNull();
+                })
+                .verifyComplete();
+    }
+
+    private DatabaseClient.GenericExecuteSpec insert(long id, String username, String role) {
+        return databaseClient.sql("INSERT INTO users (id, username, email, role, created_at) "
+                        + "VALUES (:id, :username, :email, :role, :createdAt)")
+                .bind("id", id)
+                .bind("username", username)
+                .bind("email", username + "@example.com")
+                .bind("role", role)
+                .bind("createdAt", CREATED_AT);
+    }
+}
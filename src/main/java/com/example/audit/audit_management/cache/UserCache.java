@@ -0,0 +1,114 @@
+package com.example.audit.audit_management.cache;
+
+import com.example.audit.audit_management.datasource.ReplicaRoutingContext;
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Cache local (near cache) des utilisateurs lus par identifiant.
+ * 
+ * - Éviction W-TinyLFU de Caffeine, bornée par la taille mémoire estimée des entrées
+ * - Valeurs immuables ({@link UserSnapshot}), copiées en DTO à chaque lecture
+ * - Invalidation à l'écriture puis après validation de la transaction,
+ *   et sur notification des autres instances ({@link UserInvalidationBus})
+ * - Métriques Micrometer: cache.gets (hit/miss), cache.evictions, cache.size...
+ *   avec le tag cache=users
+ */
+@Component
+@Slf4j
+public class UserCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "users";
+
+    private final Cache<Long, UserSnapshot> cache;
+
+    public UserCache(@Value("${app.cache.users.max-weight-bytes:16777216}") long maxWeightBytes,
+                     @Value("${app.cache.users.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, UserSnapshot user) -> user.estimatedSizeInBytes())
+                // Filet de sécurité si une invalidation était perdue
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Retourne l'utilisateur depuis le cache, ou le charge via le loader en cas d'absence.
+     * Les exceptions du loader (ex: utilisateur non trouvé) sont propagées et rien n'est mis en cache.
+     * Le loader lit le primaire: une valeur lue sur un réplica en retard, juste après
+     * une invalidation, resterait en cache jusqu'à expire-after-write.
+     *
+     * @param id L'identifiant de l'utilisateur
+     * @param loader Le chargement depuis la base en cas d'absence
+     * @return Une copie de l'utilisateur, propre à l'appelant
+     */
+    public UserDTO get(Long id, Function<Long, UserDTO> loader) {
+        return cache.get(id, key -> UserSnapshot.of(ReplicaRoutingContext.onPrimary(() -> loader.apply(key))))
+                .toDTO();
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Première invalidation, dès l'écriture: une relecture dans la même
+     * transaction ne voit pas l'ancienne valeur.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /**
+     * Invalidation définitive une fois l'écriture validée: une lecture concurrente
+     * a pu remettre en cache la valeur antérieure pendant la transaction.
+     */
+    @TransactionalEventListener
+    public void onUserChangedCommitted(UserChangedEvent event) {
+        log.debug("Invalidation du cache utilisateur: id={} ({})", event.userId(), event.type());
+        invalidate(event.userId());
+    }
+
+    /**
+     * Modifications effectuées par une autre instance (voir {@link UserInvalidationBus}).
+     */
+    @EventListener
+    public void onRemoteUsersChanged(RemoteUsersChangedEvent event) {
+        if (event.fullResync()) {
+            log.info("Invalidation complète du cache utilisateurs");
+            invalidateAll();
+        } else {
+            invalidateAll(event.userIds());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
@@ -0,0 +1,394 @@
+package com.example.audit.audit_management.cache;
+
+import com.example.audit.audit_management.datasource.ReplicaRoutingContext;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bus d'invalidation inter-instances basé sur PostgreSQL LISTEN/NOTIFY.
+ *
+ * Chaque instance garde un cache local des utilisateurs: une écriture sur une
+ * instance doit donc être signalée aux autres. Fonctionnement:
+ * - Publication: les ids modifiés sont collectés après commit, dédupliqués,
+ *   puis envoyés toutes les {@code flush-interval} par pg_notify en messages
+ *   groupés (payload "nœud|id,id,..." inférieur à la limite de 8000 octets)
+ * - Réception: un thread dédié écoute le canal sur une connexion JDBC qui lui
+ *   est propre (hors pool Hikari); les {@link RemoteUsersChangedEvent} des
+ *   notifications émises par les autres instances sont publiés sur un second
+ *   thread (les listeners relisent la base), par lots d'au plus
+ *   {@value #MAX_IDS_PER_EVENT} ids pour borner leurs clauses IN
+ * - Échec d'un listener: invalidation complète plutôt que la perte silencieuse
+ *   de l'écoute
+ * - Connexion: keepalive TCP et SELECT 1 périodique (app.cache.invalidation.keepalive)
+ *   pour détecter une connexion à moitié ouverte, que l'attente de notifications
+ *   seule ne voit jamais
+ * - Connexion et reconnexion: des notifications ont pu être perdues avant
+ *   l'écoute (pendant une coupure, ou entre la construction des index au
+ *   démarrage et le premier LISTEN), une invalidation complète est donc
+ *   demandée après chaque LISTEN réussi, premier compris
+ *
+ * Activé par app.cache.invalidation.enabled=true (profil prod).
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true")
+@Slf4j
+public class UserInvalidationBus {
+
+    /**
+     * Taille maximale d'un payload, sous la limite PostgreSQL de 8000 octets.
+     */
+    static final int MAX_PAYLOAD_LENGTH = 7_500;
+
+    /**
+     * Ids par événement, sous la limite de 32767 paramètres liés de PostgreSQL.
+     */
+    static final int MAX_IDS_PER_EVENT = 1_000;
+
+    private static final char NODE_SEPARATOR = '|';
+    private static final char ID_SEPARATOR = ',';
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final String SOCKET_TIMEOUT_SECONDS = "10";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final Duration flushInterval;
+    private final long keepaliveIntervalMs;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * Ids modifiés localement et non encore publiés (les doublons sont fusionnés).
+     */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final Counter publishedNotifications;
+    private final Counter receivedNotifications;
+    private final Counter reconnections;
+
+    private ScheduledExecutorService flusher;
+    private ExecutorService dispatcher;
+    private Thread listenerThread;
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+
+    public UserInvalidationBus(DataSourceProperties dataSourceProperties,
+                               JdbcTemplate jdbcTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.cache.invalidation.channel:user_invalidation}") String channel,
+                               @Value("${app.cache.invalidation.flush-interval:50ms}") Duration flushInterval,
+                               @Value("${app.cache.invalidation.keepalive:30s}") Duration keepalive) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+        this.flushInterval = flushInterval;
+        this.keepaliveIntervalMs = Math.max(POLL_TIMEOUT_MS, keepalive.toMillis());
+        this.publishedNotifications = Counter.builder("users.invalidation.notifications")
+                .tag("direction", "published")
+                .description("Notifications d'invalidation envoyées")
+                .register(meterRegistry);
+        this.receivedNotifications = Counter.builder("users.invalidation.notifications")
+                .tag("direction", "received")
+                .description("Notifications d'invalidation reçues des autres instances")
+                .register(meterRegistry);
+        this.reconnections = Counter.builder("users.invalidation.reconnections")
+                .description("Reconnexions de l'écoute LISTEN (suivies d'une invalidation complète)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-invalidation-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-invalidation-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        listenerThread = new Thread(this::listenLoop, "user-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Bus d'invalidation démarré: canal={}, nœud={}", channel, nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(listenConnection);
+    }
+
+    /**
+     * Enregistre l'id modifié; la publication est différée et groupée.
+     */
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        pending.add(event.userId());
+    }
+
+    /**
+     * Publie les ids en attente, en autant de notifications que nécessaire.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> batch = new ArrayList<>(pending.size());
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        for (String payload : encode(nodeId, batch)) {
+            try {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+                publishedNotifications.increment();
+            } catch (RuntimeException ex) {
+                // Les ids seront republiés au prochain cycle
+                log.warn("Échec de publication d'une invalidation, nouvel essai au prochain cycle: {}", ex.getMessage());
+                pending.addAll(decodeIds(payload));
+            }
+        }
+    }
+
+    private void listenLoop() {
+        long reconnectDelayMs = 1_000;
+        boolean firstConnection = true;
+        while (running) {
+            try {
+                Connection connection = connect();
+                if (!firstConnection) {
+                    reconnections.increment();
+                    log.warn("Écoute des invalidations rétablie: invalidation complète des caches locaux");
+                }
+                firstConnection = false;
+                // Des écritures distantes ont pu avoir lieu avant l'écoute (pendant la coupure, ou entre
+                // la construction des index au démarrage et le premier LISTEN): rien de ce qui est en cache n'est sûr
+                publish(RemoteUsersChangedEvent.resync());
+                reconnectDelayMs = 1_000;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                long lastActivity = System.currentTimeMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    long now = System.currentTimeMillis();
+                    if (notifications != null && notifications.length > 0) {
+                        dispatch(notifications);
+                        lastActivity = now;
+                    } else if (now - lastActivity >= keepaliveIntervalMs) {
+                        keepalive(connection);
+                        lastActivity = now;
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    break;
+                }
+                // Toute erreur mène à une reconnexion (suivie d'une invalidation complète), jamais à la fin du thread
+                log.warn("Connexion LISTEN perdue ({}), nouvelle tentative dans {} ms", ex.getMessage(), reconnectDelayMs);
+                closeQuietly(listenConnection);
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_DELAY_MS);
+            }
+        }
+        closeQuietly(listenConnection);
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        properties.setProperty("password", dataSourceProperties.determinePassword());
+        properties.setProperty("tcpKeepAlive", "true");
+        // Borne l'attente d'une réponse au SELECT 1 sur une connexion morte
+        properties.setProperty("socketTimeout", SOCKET_TIMEOUT_SECONDS);
+        Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            // Le nom du canal vient de la configuration, jamais d'une entrée utilisateur
+            statement.execute("LISTEN " + channel);
+        }
+        listenConnection = connection;
+        return connection;
+    }
+
+    /**
+     * Aller-retour avec le serveur: échoue (SQLException) si la connexion est morte.
+     */
+    private static void keepalive(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    private void dispatch(PGNotification[] notifications) {
+        Set<Long> remoteIds = new HashSet<>();
+        for (PGNotification notification : notifications) {
+            String payload = notification.getParameter();
+            if (payload == null || payload.startsWith(nodeId + NODE_SEPARATOR)) {
+                continue; // Nos propres écritures sont déjà invalidées localement
+            }
+            receivedNotifications.increment();
+            remoteIds.addAll(decodeIds(payload));
+        }
+        if (!remoteIds.isEmpty()) {
+            log.debug("Invalidation de {} utilisateurs modifiés par une autre instance", remoteIds.size());
+            for (Set<Long> chunk : chunk(remoteIds, MAX_IDS_PER_EVENT)) {
+                publish(RemoteUsersChangedEvent.of(chunk));
+            }
+        }
+    }
+
+    /**
+     * Publie l'événement sur le thread dispatcher: l'écoute n'attend jamais les
+     * relectures en base des listeners. En cas d'échec d'un listener, les
+     * données locales ne sont plus sûres: invalidation complète. Les relectures
+     * vont au primaire, qui a validé les écritures notifiées.
+     */
+    private void publish(RemoteUsersChangedEvent event) {
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    ReplicaRoutingContext.runOnPrimary(() -> eventPublisher.publishEvent(event));
+                } catch (RuntimeException ex) {
+                    if (event.fullResync()) {
+                        log.error("Échec de l'invalidation complète des données locales", ex);
+                        return;
+                    }
+                    log.warn("Échec du traitement d'une invalidation distante ({} ids), invalidation complète: {}",
+                            event.userIds().size(), ex.getMessage());
+                    publish(RemoteUsersChangedEvent.resync());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.debug("Invalidation ignorée: bus arrêté");
+        }
+    }
+
+    /**
+     * Découpe un ensemble d'ids en lots d'au plus {@code size} éléments.
+     */
+    static List<Set<Long>> chunk(Set<Long> ids, int size) {
+        List<Set<Long>> chunks = new ArrayList<>();
+        Set<Long> current = new HashSet<>();
+        for (Long id : ids) {
+            current.add(id);
+            if (current.size() == size) {
+                chunks.add(current);
+                current = new HashSet<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * Découpe une liste d'ids en payloads "nœud|id,id,..." de taille bornée.
+     */
+    static List<String> encode(String nodeId, List<Long> ids) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder current = new StringBuilder(nodeId).append(NODE_SEPARATOR);
+        int headerLength = current.length();
+        for (Long id : ids) {
+            String value = String.valueOf(id);
+            if (current.length() + value.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(current.toString());
+                current.setLength(headerLength);
+            }
+            if (current.length() > headerLength) {
+                current.append(ID_SEPARATOR);
+            }
+            current.append(value);
+        }
+        if (current.length() > headerLength) {
+            payloads.add(current.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * Extrait les ids d'un payload; les valeurs illisibles sont ignorées.
+     */
+    static Set<Long> decodeIds(String payload) {
+        Set<Long> ids = new HashSet<>();
+        int start = payload.indexOf(NODE_SEPARATOR) + 1;
+        for (String value : payload.substring(start).split(String.valueOf(ID_SEPARATOR))) {
+            try {
+                ids.add(Long.parseLong(value));
+            } catch (NumberFormatException ex) {
+                log.debug("Identifiant d'invalidation ignoré: '{}'", value);
+            }
+        }
+        return ids;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Erreur à la fermeture de la connexion LISTEN: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.audit.audit_management.cache;
+
+import com.example.audit.audit_management.datasource.ReplicaRoutingContext;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache local des empreintes de liste (ETag des endpoints de liste).
+ *
+ * L'empreinte est une agrégation sur toute la table (ou tout un rôle): elle
+ * n'est calculée qu'après une écriture, pas à chaque page. La valeur mise en
+ * cache reste celle de la base (lue sur le primaire), les ETags sont donc
+ * identiques d'une instance et d'une API (reactive/) à l'autre.
+ *
+ * Toute écriture validée, locale ou distante ({@link UserInvalidationBus}),
+ * invalide toutes les empreintes. Chaque entrée porte la génération lue avant
+ * l'agrégation: une valeur calculée pendant une écriture concurrente n'est
+ * jamais servie après l'invalidation de celle-ci. Comme pour {@link UserCache},
+ * une durée de vie bornée (expire-after-write) limite l'effet d'une
+ * invalidation perdue: sans elle, une liste modifiée recevrait des 304 indéfiniment.
+ */
+@Component
+public class UserListStampCache {
+
+    private static final String ALL_ROLES = "";
+
+    private record Entry(long generation, long loadedAtNanos, UserListVersionDTO version) {
+    }
+
+    private final long expireAfterWriteNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserListStampCache(@Value("${app.cache.list-stamps.expire-after-write:10s}") Duration expireAfterWrite) {
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+    }
+
+    /**
+     * @param role Le rôle, ou null pour tous les utilisateurs
+     * @param loader L'agrégation en base, en cas d'absence ou d'invalidation
+     * @return Une copie de l'empreinte, propre à l'appelant
+     */
+    public UserListVersionDTO get(String role, Supplier<UserListVersionDTO> loader) {
+        String key = role == null ? ALL_ROLES : role;
+        long current = generation.get();
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.generation() != current || now - entry.loadedAtNanos() >= expireAfterWriteNanos) {
+            entry = new Entry(current, now, ReplicaRoutingContext.onPrimary(loader));
+            entries.put(key, entry);
+        }
+        UserListVersionDTO version = entry.version();
+        return new UserListVersionDTO(version.getCount(), version.getLastModified(), version.getVersionSum());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void onRemoteUsersChanged(RemoteUsersChangedEvent event) {
+        invalidateAll();
+    }
+}
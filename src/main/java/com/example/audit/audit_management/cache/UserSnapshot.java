@@ -0,0 +1,51 @@
+package com.example.audit.audit_management.cache;
+
+import com.example.audit.audit_management.dto.UserDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copie immuable d'un utilisateur conservée dans le cache.
+ * 
+ * Le cache ne stocke jamais de {@link UserDTO} (mutable): chaque lecture
+ * reçoit une nouvelle instance, qu'un appelant peut modifier sans
+ * affecter les autres.
+ */
+record UserSnapshot(Long id, String username, String email, String role, LocalDateTime createdAt,
+                    LocalDateTime updatedAt, Long version) {
+
+    /**
+     * Coût fixe estimé d'une entrée: en-têtes d'objets, références,
+     * Long, LocalDateTime et nœud interne du cache.
+     */
+    private static final int FIXED_OVERHEAD_BYTES = 224;
+
+    static UserSnapshot of(UserDTO dto) {
+        return new UserSnapshot(dto.getId(), dto.getUsername(), dto.getEmail(), dto.getRole(), dto.getCreatedAt(),
+                dto.getUpdatedAt(), dto.getVersion());
+    }
+
+    UserDTO toDTO() {
+        return UserDTO.builder()
+                .id(id)
+                .username(username)
+                .email(email)
+                .role(role)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
+
+    /**
+     * @return Taille approximative en mémoire, utilisée comme poids dans le cache
+     */
+    int estimatedSizeInBytes() {
+        return FIXED_OVERHEAD_BYTES + sizeOf(username) + sizeOf(email) + sizeOf(role);
+    }
+
+    private static int sizeOf(String value) {
+        // En-tête String + tableau de octets (chaînes compactes Latin-1)
+        return value == null ? 0 : 40 + value.length();
+    }
+}
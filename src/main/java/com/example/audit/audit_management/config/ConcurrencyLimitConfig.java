@@ -0,0 +1,51 @@
+package com.example.audit.audit_management.config;
+
+import com.example.audit.audit_management.limiter.AdaptiveConcurrencyLimit;
+import com.example.audit.audit_management.limiter.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Limite de concurrence adaptative devant /api/users (voir ConcurrencyLimitFilter).
+ *
+ * Filtre placé juste après l'observation HTTP: les 503 de délestage restent
+ * visibles dans http.server.requests, mais sont rendus avant tout autre
+ * traitement (proxy JDBC, cookie des réplicas). Désactivable avec
+ * app.concurrency-limit.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${app.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${app.concurrency-limit.window-samples:20}") int windowSamples,
+            @Value("${app.concurrency-limit.retry-after:1s}") Duration retryAfter,
+            @Value("${app.concurrency-limit.read.initial-limit:50}") int readInitialLimit,
+            @Value("${app.concurrency-limit.read.max-limit:400}") int readMaxLimit,
+            @Value("${app.concurrency-limit.write.initial-limit:20}") int writeInitialLimit,
+            @Value("${app.concurrency-limit.write.max-limit:100}") int writeMaxLimit) {
+        AdaptiveConcurrencyLimit readLimit = new AdaptiveConcurrencyLimit(
+                readInitialLimit, minLimit, readMaxLimit, rttTolerance, windowSamples);
+        AdaptiveConcurrencyLimit writeLimit = new AdaptiveConcurrencyLimit(
+                writeInitialLimit, minLimit, writeMaxLimit, rttTolerance, windowSamples);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readLimit, writeLimit, meterRegistry, objectMapper, retryAfter));
+        registration.addUrlPatterns("/api/users", "/api/users/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.audit.audit_management.config;
+
+import com.example.audit.audit_management.monitoring.SqlQueriesPerRequestFilter;
+import com.example.audit.audit_management.monitoring.SqlStatementListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Couche proxy JDBC (datasource-proxy) devant le DataSource: chaque instruction
+ * est chronométrée et comptée par SqlStatementListener, remplace show-sql en
+ * production (voir application-prod.yaml).
+ *
+ * Le proxy enveloppe le DataSource après sa création: Hikari et ses métriques
+ * restent inchangés, unwrap() donne toujours accès aux connexions natives.
+ * Désactivable avec app.sql.metrics.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public SqlStatementListener sqlStatementListener(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql.slow-query.threshold:100ms}") Duration slowQueryThreshold) {
+        return new SqlStatementListener(meterRegistry, slowQueryThreshold);
+    }
+
+    /**
+     * Statique: un BeanPostProcessor est créé avant les autres beans, le listener
+     * n'est résolu qu'à l'enveloppement du DataSource.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SqlStatementListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlQueriesPerRequestFilter> sqlQueriesPerRequestFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlQueriesPerRequestFilter> registration =
+                new FilterRegistrationBean<>(new SqlQueriesPerRequestFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
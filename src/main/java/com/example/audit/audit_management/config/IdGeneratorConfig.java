@@ -0,0 +1,30 @@
+package com.example.audit.audit_management.config;
+
+import com.example.audit.audit_management.entity.id.IdGenerator;
+import com.example.audit.audit_management.entity.id.IdGenerators;
+import com.example.audit.audit_management.entity.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration du générateur d'identifiants des entités.
+ * 
+ * L'identifiant de nœud doit être unique parmi les instances actives:
+ * en Kubernetes il est dérivé de l'ordinal du pod du StatefulSet
+ * (voir k8s/deployment.yaml), et peut être forcé via app.id.node-id.
+ */
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${app.id.node-id:#{null}}") Integer nodeId) {
+        int resolvedNodeId = IdGenerators.resolveNodeId(nodeId);
+        IdGenerator generator = new SnowflakeIdGenerator(resolvedNodeId);
+        IdGenerators.register(generator);
+        log.info("Générateur d'identifiants Snowflake initialisé: nœud {}", resolvedNodeId);
+        return generator;
+    }
+}
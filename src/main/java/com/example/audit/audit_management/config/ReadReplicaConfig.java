@@ -0,0 +1,119 @@
+package com.example.audit.audit_management.config;
+
+import com.example.audit.audit_management.datasource.ReadYourWritesFilter;
+import com.example.audit.audit_management.datasource.ReplicaLagMonitor;
+import com.example.audit.audit_management.datasource.ReplicaPools;
+import com.example.audit.audit_management.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Séparation lecture/écriture: les transactions readOnly (getUserById,
+ * getAllUsers, recherches, exports...) sont servies par des réplicas PostgreSQL,
+ * les écritures et tout le reste par le primaire.
+ *
+ * Opt-in avec app.datasource.replicas.enabled=true (DB_REPLICAS_ENABLED):
+ * - un pool Hikari par réplica (app.datasource.replicas.urls, mêmes identifiants
+ *   et réglages spring.datasource.hikari que le primaire), en lecture seule
+ * - réplicas écartés au-delà de app.datasource.replicas.max-lag (ReplicaLagMonitor)
+ * - lecture de ses propres écritures pendant app.datasource.replicas.stickiness
+ *   après une écriture du client (ReadYourWritesFilter)
+ *
+ * Les pools ne sont pas des beans: seul le DataSource de routage est exposé,
+ * enveloppé une seule fois par le proxy JDBC (DataSourceProxyConfig). Métriques
+ * hikaricp.* par pool (étiquette pool: primary, replica-1...).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPools replicaPools(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls:}") String replicaUrls) {
+        List<String> urls = Arrays.stream(replicaUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        if (urls.isEmpty()) {
+            throw new IllegalStateException(
+                    "app.datasource.replicas.enabled=true sans app.datasource.replicas.urls (DB_REPLICA_URLS)");
+        }
+
+        HikariDataSource primary = pool(properties, environment, meterRegistry, properties.determineUrl(), "primary");
+        List<ReplicaPools.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = pool(properties, environment, meterRegistry, urls.get(i), name);
+            replica.setReadOnly(true);
+            replicas.add(new ReplicaPools.Replica(name, replica));
+        }
+        return new ReplicaPools(primary, replicas);
+    }
+
+    /**
+     * Le DataSource de l'application: le routage est retardé à la première
+     * instruction, une fois le drapeau readOnly de la transaction connu.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaPools replicaPools, MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaPools, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean(destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaPools replicaPools,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.max-lag:10s}") Duration maxLag,
+            @Value("${app.datasource.replicas.lag-query:}") String lagQuery,
+            @Value("${app.datasource.replicas.lag-check-interval:5s}") Duration lagCheckInterval) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaPools, meterRegistry, maxLag,
+                lagQuery.isBlank() ? ReplicaLagMonitor.POSTGRES_LAG_QUERY : lagQuery);
+        monitor.start(lagCheckInterval);
+        return monitor;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replicas.stickiness:5s}") Duration stickiness) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickiness));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Environment environment,
+                                         MeterRegistry meterRegistry, String url, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
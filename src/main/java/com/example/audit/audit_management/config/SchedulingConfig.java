@@ -0,0 +1,12 @@
+package com.example.audit.audit_management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Active les tâches planifiées (@Scheduled), ex: reconstruction des index en mémoire.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,14 @@
 package com.example.audit.audit_management.controller;
 
+import com.example.audit.audit_management.dto.UserBatchResultDTO;
+import com.example.audit.audit_management.dto.UserBulkResultDTO;
 import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserFilterResultDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import com.example.audit.audit_management.dto.UserPatchDTO;
+import com.example.audit.audit_management.dto.UserSuggestionDTO;
+import com.example.audit.audit_management.service.UserExportService;
+import com.example.audit.audit_management.service.UserJsonStreamService;
 import com.example.audit.audit_management.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,13 +17,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -23,6 +38,10 @@ import java.util.List;
  * 
  * Expose les endpoints CRUD pour manipuler les utilisateurs.
  * Chaque endpoint est documenté avec les annotations OpenAPI/Swagger.
+ * 
+ * Requêtes conditionnelles: GET /{id} et les listes complètes (pagination, rôle)
+ * portent un ETag fort; If-None-Match est traité avant toute sérialisation
+ * (304), et pour les listes avant toute lecture des lignes. PUT accepte If-Match.
  */
 @RestController
 @RequestMapping("/api/users")
@@ -31,24 +50,109 @@ import java.util.List;
 @Tag(name = "Utilisateurs", description = "API de gestion des utilisateurs")
 public class UserController {
 
+    /**
+     * En-tête portant le curseur opaque de la page suivante.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Type de contenu JSON Merge Patch (RFC 7396), accepté par PATCH.
+     */
+    public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final UserService userService;
+    private final UserExportService userExportService;
+    private final UserJsonStreamService userJsonStreamService;
 
     /**
-     * GET /api/users - Récupère tous les utilisateurs
+     * GET /api/users?after=xxx&limit=50 - Récupère une page d'utilisateurs
      */
     @GetMapping
     @Operation(
-            summary = "Récupérer tous les utilisateurs",
-            description = "Retourne la liste complète des utilisateurs enregistrés dans le système"
+            summary = "Récupérer les utilisateurs (pagination par curseur)",
+            description = "Retourne une page d'utilisateurs triés par identifiant. "
+                    + "Le curseur de la page suivante est fourni dans l'en-tête X-Next-Cursor "
+                    + "et dans l'en-tête Link (rel=\"next\")"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Liste des utilisateurs récupérée avec succès"),
+            @ApiResponse(responseCode = "200", description = "Page d'utilisateurs récupérée avec succès"),
+            @ApiResponse(responseCode = "304", description = "Aucun utilisateur modifié depuis l'ETag fourni (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Curseur invalide"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        log.info("GET /api/users - Récupération de tous les utilisateurs");
-        List<UserDTO> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @Parameter(description = "Curseur opaque renvoyé par la page précédente")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Nombre maximal d'utilisateurs (max " + UserService.MAX_PAGE_SIZE + ")", example = "50")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request) {
+        log.info("GET /api/users - Récupération d'une page d'utilisateurs (after={}, limit={})", after, limit);
+        if (request.checkNotModified(UserETags.of(userService.getListVersion(null), null))) {
+            return null;
+        }
+        UserPageDTO page = userService.getAllUsers(after, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.isHasMore()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.getNextCursor())
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.getContent());
+    }
+
+    /**
+     * GET /api/users (Accept: application/vnd.audit.users+json) - Page d'utilisateurs en flux
+     */
+    @GetMapping(produces = UserJsonStreamService.MEDIA_TYPE)
+    @Operation(
+            summary = "Récupérer les utilisateurs en flux (pagination par curseur)",
+            description = "Variante de GET /api/users sélectionnée par l'en-tête Accept: les lignes sont écrites "
+                    + "directement dans la réponse. Le curseur suivant est dans le corps "
+                    + "({\"content\":[...],\"nextCursor\":...,\"hasMore\":...})"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page d'utilisateurs en cours de diffusion"),
+            @ApiResponse(responseCode = "304", description = "Aucun utilisateur modifié depuis l'ETag fourni (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Curseur invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public void streamAllUsers(
+            @Parameter(description = "Curseur opaque renvoyé par la page précédente")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Nombre maximal d'utilisateurs (max " + UserService.MAX_PAGE_SIZE + ")", example = "50")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request,
+            HttpServletResponse response) throws IOException {
+        log.info("GET /api/users - Page d'utilisateurs en flux (after={}, limit={})", after, limit);
+        if (request.checkNotModified(UserETags.of(userService.getListVersion(null), UserETags.STREAM_VARIANT))) {
+            return;
+        }
+        prepareStream(response);
+        userJsonStreamService.writePage(after, limit, response.getOutputStream());
+    }
+
+    /**
+     * GET /api/users/export - Exporte tous les utilisateurs en NDJSON
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Exporter tous les utilisateurs",
+            description = "Diffuse tous les utilisateurs au format NDJSON (un objet JSON par ligne), "
+                    + "en flux continu et à mémoire constante"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export en cours de diffusion"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        log.info("GET /api/users/export - Export NDJSON des utilisateurs");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        userExportService.exportUsersAsNdjson(response.getOutputStream());
     }
 
     /**
@@ -61,6 +165,7 @@ public class UserController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Utilisateur trouvé"),
+            @ApiResponse(responseCode = "304", description = "Utilisateur non modifié (If-None-Match / If-Modified-Since)"),
             @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
@@ -69,7 +174,8 @@ public class UserController {
             @PathVariable Long id) {
         log.info("GET /api/users/{} - Récupération de l'utilisateur", id);
         UserDTO user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+        // ETag et Last-Modified: Spring répond 304 sans sérialiser le corps si le client est à jour
+        return withValidators(user);
     }
 
     /**
@@ -94,6 +200,30 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
     }
 
+    /**
+     * POST /api/users/batch - Crée un lot d'utilisateurs
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Créer un lot d'utilisateurs",
+            description = "Crée jusqu'à " + UserService.MAX_BATCH_SIZE + " utilisateurs en une seule requête. "
+                    + "Les éléments invalides ou en conflit sont rejetés individuellement"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tous les utilisateurs ont été créés"),
+            @ApiResponse(responseCode = "207", description = "Création partielle - voir le statut de chaque élément"),
+            @ApiResponse(responseCode = "400", description = "Lot vide ou trop volumineux"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<UserBatchResultDTO> createUsers(
+            @Parameter(description = "Utilisateurs à créer", required = true)
+            @RequestBody List<UserDTO> userDTOs) {
+        log.info("POST /api/users/batch - Création d'un lot de {} utilisateurs", userDTOs.size());
+        UserBatchResultDTO result = userService.createUsers(userDTOs);
+        HttpStatus status = result.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
     /**
      * PUT /api/users/{id} - Met à jour un utilisateur existant
      */
@@ -106,17 +236,49 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "Utilisateur mis à jour avec succès"),
             @ApiResponse(responseCode = "400", description = "Données invalides"),
             @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé"),
-            @ApiResponse(responseCode = "409", description = "Conflit - Username ou email déjà existant"),
+            @ApiResponse(responseCode = "409", description = "Conflit - Username ou email déjà existant, ou modification simultanée"),
+            @ApiResponse(responseCode = "412", description = "La version de l'en-tête If-Match n'est plus à jour"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<UserDTO> updateUser(
             @Parameter(description = "ID de l'utilisateur à modifier", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "Nouvelles données de l'utilisateur", required = true)
-            @Valid @RequestBody UserDTO userDTO) {
+            @Valid @RequestBody UserDTO userDTO,
+            @Parameter(description = "ETag de la version lue (verrouillage optimiste)", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/users/{} - Mise à jour de l'utilisateur", id);
-        UserDTO updatedUser = userService.updateUser(id, userDTO);
-        return ResponseEntity.ok(updatedUser);
+        UserDTO updatedUser = userService.updateUser(id, userDTO, UserETags.expectedVersion(ifMatch));
+        return withValidators(updatedUser);
+    }
+
+    /**
+     * PATCH /api/users/{id} - Modifie partiellement un utilisateur
+     */
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MERGE_PATCH_JSON})
+    @Operation(
+            summary = "Modifier partiellement un utilisateur",
+            description = "Modifie uniquement les champs fournis, en une seule instruction SQL. "
+                    + "L'en-tête If-Match (ETag) active le contrôle de version"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Utilisateur modifié avec succès"),
+            @ApiResponse(responseCode = "400", description = "Données invalides ou aucun champ à modifier"),
+            @ApiResponse(responseCode = "404", description = "Utilisateur non trouvé"),
+            @ApiResponse(responseCode = "409", description = "Conflit - Username ou email déjà existant"),
+            @ApiResponse(responseCode = "412", description = "La version de l'en-tête If-Match n'est plus à jour"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<UserDTO> patchUser(
+            @Parameter(description = "ID de l'utilisateur à modifier", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Champs à modifier", required = true)
+            @Valid @RequestBody UserPatchDTO patch,
+            @Parameter(description = "ETag de la version lue (verrouillage optimiste)", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/users/{} - Modification partielle de l'utilisateur", id);
+        UserDTO patchedUser = userService.patchUser(id, patch, UserETags.expectedVersion(ifMatch));
+        return withValidators(patchedUser);
     }
 
     /**
@@ -141,12 +303,34 @@ public class UserController {
     }
 
     /**
-     * GET /api/users/search?username=xxx - Recherche par nom
+     * POST /api/users/batch/delete - Supprime un ensemble d'utilisateurs
+     */
+    @PostMapping("/batch/delete")
+    @Operation(
+            summary = "Supprimer un ensemble d'utilisateurs",
+            description = "Supprime jusqu'à " + UserService.MAX_BATCH_SIZE + " utilisateurs en une seule instruction. "
+                    + "Les identifiants inexistants sont ignorés"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'utilisateurs supprimés"),
+            @ApiResponse(responseCode = "400", description = "Liste vide ou trop volumineuse"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<UserBulkResultDTO> deleteUsers(
+            @Parameter(description = "Identifiants des utilisateurs à supprimer", required = true)
+            @RequestBody List<Long> ids) {
+        log.info("POST /api/users/batch/delete - Suppression groupée de {} utilisateurs", ids.size());
+        return ResponseEntity.ok(userService.deleteUsers(ids));
+    }
+
+    /**
+     * GET /api/users/search?username=xxx&limit=20 - Recherche par nom
      */
     @GetMapping("/search")
     @Operation(
             summary = "Rechercher des utilisateurs par nom",
-            description = "Recherche les utilisateurs dont le nom contient la chaîne fournie (insensible à la casse)"
+            description = "Recherche les utilisateurs dont le nom contient la chaîne fournie (insensible à la casse), "
+                    + "classés par pertinence et limités à 'limit' résultats (100 maximum)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Résultats de la recherche"),
@@ -154,12 +338,94 @@ public class UserController {
     })
     public ResponseEntity<List<UserDTO>> searchUsers(
             @Parameter(description = "Terme de recherche pour le nom d'utilisateur", example = "john")
-            @RequestParam String username) {
-        log.info("GET /api/users/search?username={} - Recherche d'utilisateurs", username);
-        List<UserDTO> users = userService.searchUsersByUsername(username);
+            @RequestParam String username,
+            @Parameter(description = "Nombre maximal de résultats", example = "20")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_SEARCH_LIMIT) int limit) {
+        log.info("GET /api/users/search?username={}&limit={} - Recherche d'utilisateurs", username, limit);
+        List<UserDTO> users = userService.searchUsersByUsername(username, limit);
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * GET /api/users/search (Accept: application/vnd.audit.users+json) - Recherche, réponse en flux
+     */
+    @GetMapping(value = "/search", produces = UserJsonStreamService.MEDIA_TYPE)
+    @Operation(
+            summary = "Rechercher des utilisateurs par nom (réponse en flux)",
+            description = "Variante de GET /api/users/search sélectionnée par l'en-tête Accept"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Résultats de la recherche"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public void streamSearchUsers(
+            @Parameter(description = "Terme de recherche pour le nom d'utilisateur", example = "john")
+            @RequestParam String username,
+            @Parameter(description = "Nombre maximal de résultats", example = "20")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_SEARCH_LIMIT) int limit,
+            HttpServletResponse response) throws IOException {
+        log.info("GET /api/users/search?username={}&limit={} - Recherche d'utilisateurs en flux", username, limit);
+        // Résultats bornés et classés par le moteur de recherche: seule l'écriture est en flux
+        List<UserDTO> users = userService.searchUsersByUsername(username, limit);
+        prepareStream(response);
+        userJsonStreamService.writeUsers(users, response.getOutputStream());
+    }
+
+    /**
+     * GET /api/users/suggest?prefix=xxx&limit=10 - Autocomplétion
+     */
+    @GetMapping("/suggest")
+    @Operation(
+            summary = "Suggérer des utilisateurs (autocomplétion)",
+            description = "Retourne les utilisateurs dont le nom ou l'email commence par le préfixe "
+                    + "(insensible à la casse), servis depuis la mémoire sans accès à la base"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<List<UserSuggestionDTO>> suggestUsers(
+            @Parameter(description = "Préfixe du nom d'utilisateur ou de l'email", example = "jo")
+            @RequestParam String prefix,
+            @Parameter(description = "Nombre maximal de suggestions", example = "10")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_SUGGEST_LIMIT) int limit) {
+        log.debug("GET /api/users/suggest?prefix={}&limit={} - Autocomplétion", prefix, limit);
+        return ResponseEntity.ok(userService.suggestUsers(prefix, limit));
+    }
+
+    /**
+     * GET /api/users/filter?role=AUDITOR&emailDomain=client.com&createdFrom=2024-07&createdTo=2024-09
+     * - Filtrage multicritère
+     */
+    @GetMapping("/filter")
+    @Operation(
+            summary = "Filtrer les utilisateurs (multicritère)",
+            description = "Combine rôle, domaine de l'email et période de création (mois inclus). "
+                    + "Le comptage est servi depuis l'index en mémoire; countOnly=true évite toute lecture en base"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Résultat du filtrage"),
+            @ApiResponse(responseCode = "400", description = "Mois invalide (format attendu: yyyy-MM)"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<UserFilterResultDTO> filterUsers(
+            @Parameter(description = "Rôle exact", example = "AUDITOR")
+            @RequestParam(required = false) String role,
+            @Parameter(description = "Domaine de l'email", example = "client.com")
+            @RequestParam(required = false) String emailDomain,
+            @Parameter(description = "Premier mois de création inclus (yyyy-MM)", example = "2024-07")
+            @RequestParam(required = false) String createdFrom,
+            @Parameter(description = "Dernier mois de création inclus (yyyy-MM)", example = "2024-09")
+            @RequestParam(required = false) String createdTo,
+            @Parameter(description = "Nombre maximal d'utilisateurs retournés", example = "50")
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Ne retourner que le comptage")
+            @RequestParam(defaultValue = "false") boolean countOnly) {
+        log.info("GET /api/users/filter - Filtrage (role={}, emailDomain={}, createdFrom={}, createdTo={}, countOnly={})",
+                role, emailDomain, createdFrom, createdTo, countOnly);
+        return ResponseEntity.ok(userService.filterUsers(role, emailDomain, createdFrom, createdTo, limit, countOnly));
+    }
+
     /**
      * GET /api/users/role/{role} - Filtre par rôle
      */
@@ -170,13 +436,102 @@ public class UserController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Liste des utilisateurs filtrés par rôle"),
+            @ApiResponse(responseCode = "304", description = "Aucun utilisateur de ce rôle modifié depuis l'ETag fourni"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<List<UserDTO>> getUsersByRole(
             @Parameter(description = "Rôle à rechercher", example = "AUDITOR")
-            @PathVariable String role) {
+            @PathVariable String role,
+            WebRequest request) {
         log.info("GET /api/users/role/{} - Récupération des utilisateurs par rôle", role);
+        if (request.checkNotModified(UserETags.of(userService.getListVersion(role), null))) {
+            return null;
+        }
         List<UserDTO> users = userService.getUsersByRole(role);
         return ResponseEntity.ok(users);
     }
+
+    /**
+     * GET /api/users/role/{role} (Accept: application/vnd.audit.users+json) - Filtre par rôle, en flux
+     */
+    @GetMapping(value = "/role/{role}", produces = UserJsonStreamService.MEDIA_TYPE)
+    @Operation(
+            summary = "Récupérer les utilisateurs par rôle (réponse en flux)",
+            description = "Variante de GET /api/users/role/{role} sélectionnée par l'en-tête Accept: "
+                    + "les lignes sont écrites directement dans la réponse"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Liste en cours de diffusion"),
+            @ApiResponse(responseCode = "304", description = "Aucun utilisateur de ce rôle modifié depuis l'ETag fourni"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public void streamUsersByRole(
+            @Parameter(description = "Rôle à rechercher", example = "AUDITOR")
+            @PathVariable String role,
+            WebRequest request,
+            HttpServletResponse response) throws IOException {
+        log.info("GET /api/users/role/{} - Utilisateurs par rôle en flux", role);
+        if (request.checkNotModified(UserETags.of(userService.getListVersion(role), UserETags.STREAM_VARIANT))) {
+            return;
+        }
+        prepareStream(response);
+        userJsonStreamService.writeByRole(role, response.getOutputStream());
+    }
+
+    /**
+     * DELETE /api/users/role/{role} - Supprime tous les utilisateurs d'un rôle
+     */
+    @DeleteMapping("/role/{role}")
+    @Operation(
+            summary = "Supprimer les utilisateurs d'un rôle",
+            description = "Supprime tous les utilisateurs ayant le rôle spécifié, en une seule instruction"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'utilisateurs supprimés"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<UserBulkResultDTO> deleteUsersByRole(
+            @Parameter(description = "Rôle à supprimer", example = "AUDITOR")
+            @PathVariable String role) {
+        log.info("DELETE /api/users/role/{} - Suppression des utilisateurs du rôle", role);
+        return ResponseEntity.ok(userService.deleteUsersByRole(role));
+    }
+
+    /**
+     * POST /api/users/role/{role}/reassign?to=xxx - Réattribue un rôle
+     */
+    @PostMapping("/role/{role}/reassign")
+    @Operation(
+            summary = "Réattribuer un rôle",
+            description = "Attribue le rôle 'to' à tous les utilisateurs ayant le rôle spécifié, en une seule instruction"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nombre d'utilisateurs modifiés"),
+            @ApiResponse(responseCode = "400", description = "Nouveau rôle invalide ou identique"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<UserBulkResultDTO> reassignRole(
+            @Parameter(description = "Rôle actuel", example = "AUDITOR")
+            @PathVariable String role,
+            @Parameter(description = "Nouveau rôle", required = true, example = "USER")
+            @RequestParam String to) {
+        log.info("POST /api/users/role/{}/reassign?to={} - Réattribution de rôle", role, to);
+        return ResponseEntity.ok(userService.reassignRole(role, to));
+    }
+
+    private static ResponseEntity<UserDTO> withValidators(UserDTO user) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (user.getVersion() != null) {
+            response.eTag(UserETags.of(user));
+        }
+        if (user.getUpdatedAt() != null) {
+            response.lastModified(UserETags.lastModified(user));
+        }
+        return response.body(user);
+    }
+
+    private static void prepareStream(HttpServletResponse response) {
+        response.setContentType(UserJsonStreamService.MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
 }
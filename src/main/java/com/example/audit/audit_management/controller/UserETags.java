@@ -0,0 +1,82 @@
+package com.example.audit.audit_management.controller;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.exception.PreconditionFailedException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Construction et lecture des ETags des utilisateurs.
+ * 
+ * - Utilisateur: ETag fort "version" (la version @Version change à chaque modification)
+ * - Liste: ETag fort dérivé de l'empreinte (nombre, dernière modification, somme
+ *   des versions), suffixé par la représentation (JSON ou flux)
+ * 
+ * Les dates de la base sont des LocalDateTime écrites dans le fuseau du serveur.
+ * 
+ * Public: le module réactif (reactive/) produit les mêmes ETags, un client peut
+ * donc revalider auprès de l'une ou l'autre API.
+ */
+public final class UserETags {
+
+    /**
+     * Suffixe des ETags de liste de la représentation application/vnd.audit.users+json.
+     */
+    public static final String STREAM_VARIANT = "stream";
+
+    private UserETags() {
+    }
+
+    public static String of(UserDTO user) {
+        return "\"" + user.getVersion() + "\"";
+    }
+
+    public static String of(UserListVersionDTO version, String variant) {
+        long lastModified = version.getLastModified() == null
+                ? 0
+                : ChronoUnit.MICROS.between(Instant.EPOCH, toInstant(version.getLastModified()));
+        StringBuilder tag = new StringBuilder("\"")
+                .append(Long.toString(version.getCount(), 36)).append('-')
+                .append(Long.toString(lastModified, 36)).append('-')
+                .append(Long.toString(version.getVersionSum(), 36));
+        if (variant != null) {
+            tag.append('-').append(variant);
+        }
+        return tag.append('"').toString();
+    }
+
+    public static Instant lastModified(UserDTO user) {
+        return toInstant(user.getUpdatedAt());
+    }
+
+    /**
+     * Version attendue par un en-tête If-Match.
+     *
+     * @param ifMatch La valeur de l'en-tête (null ou "*" si absente ou quelconque)
+     * @return La version attendue, ou null si aucune n'est imposée
+     * @throws PreconditionFailedException si la valeur n'est pas un ETag fort de version
+     *         (un ETag faible ne peut pas correspondre à une comparaison forte)
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ex) {
+                // ETag inconnu: traité comme une version périmée
+            }
+        }
+        throw new PreconditionFailedException("L'en-tête If-Match ne correspond à aucune version: " + tag);
+    }
+
+    private static Instant toInstant(LocalDateTime value) {
+        return value.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
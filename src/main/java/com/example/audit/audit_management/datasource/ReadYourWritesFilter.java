@@ -0,0 +1,76 @@
+package com.example.audit.audit_management.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Lecture de ses propres écritures avec des réplicas en retard.
+ *
+ * À la première écriture d'une requête, un cookie {@value #COOKIE_NAME}
+ * contenant l'instant de fin de la période de stickiness est posé (réponse
+ * pas encore envoyée: l'écriture précède la sérialisation). Tant que cet
+ * instant n'est pas dépassé, les lectures de ce client vont au primaire,
+ * quelle que soit l'instance qui les reçoit.
+ *
+ * Un instant au-delà de maintenant + stickiness est ignoré (cookie forgé).
+ * Les clients sans gestion des cookies lisent sur les réplicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "primary-until";
+
+    private final long stickinessMillis;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.stickinessMillis = stickiness.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        long until = primaryUntil(request);
+        boolean primaryRequired = until > now && until <= now + stickinessMillis;
+        ReplicaRoutingContext.begin(primaryRequired, () -> markWrite(response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.end();
+        }
+    }
+
+    private void markWrite(HttpServletResponse response) {
+        if (stickinessMillis <= 0 || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis() + stickinessMillis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, Math.ceilDiv(stickinessMillis, 1_000)));
+        response.addCookie(cookie);
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.audit.audit_management.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure périodique du retard de réplication de chaque réplica:
+ * - Gauge db.replica.lag{replica} (secondes, NaN si la mesure échoue)
+ * - Gauge db.replica.available{replica} (1 si le réplica reçoit des lectures)
+ *
+ * Un réplica dont le retard dépasse app.datasource.replicas.max-lag, ou dont
+ * la mesure échoue, est retiré du routage jusqu'à la mesure suivante: les
+ * lectures retombent sur le primaire si aucun réplica n'est disponible.
+ *
+ * La requête de mesure est configurable (app.datasource.replicas.lag-query):
+ * par défaut le délai depuis la dernière transaction rejouée par un standby
+ * PostgreSQL, 0 si le standby a tout rejoué.
+ *
+ * La mesure tourne sur son propre thread (start/stop), et non sur le
+ * planificateur @Scheduled partagé: une reconstruction nocturne d'index
+ * y figerait la disponibilité des réplicas pendant toute sa durée.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final ReplicaPools pools;
+    private final double maxLagSeconds;
+    private final String lagQuery;
+    private final Map<String, JdbcTemplate> jdbcTemplates = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(ReplicaPools pools, MeterRegistry meterRegistry, Duration maxLag, String lagQuery) {
+        this.pools = pools;
+        this.maxLagSeconds = maxLag.toMillis() / 1_000.0;
+        this.lagQuery = lagQuery;
+        for (ReplicaPools.Replica replica : pools.replicas()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.dataSource());
+            jdbcTemplate.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+            jdbcTemplates.put(replica.name(), jdbcTemplate);
+            Gauge.builder("db.replica.lag", replica, ReplicaPools.Replica::lagSeconds)
+                    .description("Retard de réplication mesuré")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("Réplica utilisé pour les lectures (1) ou écarté (0)")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Démarre la mesure périodique, la première immédiatement.
+     *
+     * @param interval Le délai entre deux mesures
+     */
+    public void start(Duration interval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1, interval.toMillis());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkLag();
+            } catch (RuntimeException ex) {
+                // Une exception arrêterait les mesures suivantes
+                log.error("Échec de la mesure du retard des réplicas", ex);
+            }
+        }, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void checkLag() {
+        for (ReplicaPools.Replica replica : pools.replicas()) {
+            double lag;
+            try {
+                Number measured = jdbcTemplates.get(replica.name()).queryForObject(lagQuery, Number.class);
+                lag = measured == null ? 0 : measured.doubleValue();
+            } catch (DataAccessException ex) {
+                if (replica.isAvailable()) {
+                    log.warn("Réplica {} écarté: mesure du retard en échec ({})", replica.name(), ex.getMessage());
+                }
+                replica.update(Double.NaN, false);
+                continue;
+            }
+            boolean available = lag <= maxLagSeconds;
+            if (available != replica.isAvailable()) {
+                if (available) {
+                    log.info("Réplica {} disponible pour les lectures (retard {} s)", replica.name(), lag);
+                } else {
+                    log.warn("Réplica {} écarté: retard {} s au-delà de {} s", replica.name(), lag, maxLagSeconds);
+                }
+            }
+            replica.update(lag, available);
+        }
+    }
+}
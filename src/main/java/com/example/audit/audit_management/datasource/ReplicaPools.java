@@ -0,0 +1,85 @@
+package com.example.audit.audit_management.datasource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pools de connexions du primaire et des réplicas en lecture.
+ *
+ * Chaque réplica porte son état de disponibilité, mis à jour par
+ * ReplicaLagMonitor: un réplica indisponible (retard au-delà du seuil,
+ * ou mesure en échec) ne reçoit plus de lectures.
+ */
+public class ReplicaPools implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+
+    public ReplicaPools(DataSource primary, List<Replica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<DataSource> pools = new ArrayList<>();
+        pools.add(primary);
+        replicas.forEach(replica -> pools.add(replica.dataSource()));
+        for (DataSource pool : pools) {
+            if (pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * Un réplica: indisponible tant que son retard n'a pas été mesuré.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        /**
+         * @return Le dernier retard mesuré, en secondes (NaN si inconnu)
+         */
+        public double lagSeconds() {
+            return lagSeconds;
+        }
+
+        void update(double lagSeconds, boolean available) {
+            this.lagSeconds = lagSeconds;
+            this.available = available;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.audit.audit_management.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Contexte de lecture de ses propres écritures, par thread (une requête HTTP):
+ * - primaryRequired: les lectures vont au primaire (écriture récente du client,
+ *   ou écriture plus tôt dans la même requête)
+ * - onWrite: appelé à la première écriture de la requête (ex: pose du cookie
+ *   de ReadYourWritesFilter)
+ *
+ * Hors requête (tâches planifiées, démarrage), aucun contexte: les lectures
+ * en transaction readOnly vont aux réplicas.
+ *
+ * Portée primaire ({@link #onPrimary}): les lectures qui alimentent un état
+ * local durable (cache, index en mémoire, relecture après notification d'une
+ * autre instance) vont au primaire, requête ou non. Lue sur un réplica en
+ * retard, une valeur antérieure à l'écriture resterait servie jusqu'à
+ * l'expiration du cache ou la reconstruction suivante.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<ReplicaRoutingContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Profondeur des portées primaires imbriquées, indépendante de begin/end.
+     */
+    private static final ThreadLocal<Integer> PRIMARY_SCOPE = new ThreadLocal<>();
+
+    private final Runnable onWrite;
+    private boolean primaryRequired;
+    private boolean written;
+
+    private ReplicaRoutingContext(boolean primaryRequired, Runnable onWrite) {
+        this.primaryRequired = primaryRequired;
+        this.onWrite = onWrite;
+    }
+
+    public static void begin(boolean primaryRequired, Runnable onWrite) {
+        CURRENT.set(new ReplicaRoutingContext(primaryRequired, onWrite));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Exécute l'action en routant toutes ses lectures vers le primaire.
+     *
+     * @param action Les lectures à effectuer (sur le thread courant)
+     * @return Le résultat de l'action
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Integer depth = PRIMARY_SCOPE.get();
+        PRIMARY_SCOPE.set(depth == null ? 1 : depth + 1);
+        try {
+            return action.get();
+        } finally {
+            if (depth == null) {
+                PRIMARY_SCOPE.remove();
+            } else {
+                PRIMARY_SCOPE.set(depth);
+            }
+        }
+    }
+
+    /**
+     * Variante sans résultat de {@link #onPrimary(Supplier)}.
+     */
+    public static void runOnPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_SCOPE.get() != null;
+    }
+
+    static boolean isPrimaryRequired() {
+        ReplicaRoutingContext context = CURRENT.get();
+        return context != null && context.primaryRequired;
+    }
+
+    /**
+     * Une transaction en écriture a été routée vers le primaire.
+     */
+    static void writeRouted() {
+        ReplicaRoutingContext context = CURRENT.get();
+        if (context != null && !context.written) {
+            context.written = true;
+            context.primaryRequired = true;
+            context.onWrite.run();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.audit.audit_management.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routage lecture/écriture: les transactions readOnly vont à un réplica
+ * disponible (tour de rôle), tout le reste au primaire.
+ *
+ * Les lectures restent sur le primaire si le client vient d'écrire
+ * (ReplicaRoutingContext), si elles alimentent un état local (portée
+ * ReplicaRoutingContext.onPrimary) ou si aucun réplica n'est disponible (retard
+ * au-delà du seuil). Compteur db.reads.routed{target, reason}.
+ *
+ * Doit être enveloppé dans un LazyConnectionDataSourceProxy: la connexion
+ * est obtenue au début de la transaction, avant que le drapeau readOnly ne
+ * soit positionné; le proxy retarde le choix à la première instruction.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<ReplicaPools.Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter toReplica;
+    private final Counter toPrimarySticky;
+    private final Counter toPrimaryForced;
+    private final Counter toPrimaryUnavailable;
+
+    public ReplicaRoutingDataSource(ReplicaPools pools, MeterRegistry meterRegistry) {
+        this.replicas = pools.replicas();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, pools.primary());
+        replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.primary());
+
+        this.toReplica = readsRouted(meterRegistry, "replica", "read-only");
+        this.toPrimarySticky = readsRouted(meterRegistry, PRIMARY, "read-your-writes");
+        this.toPrimaryForced = readsRouted(meterRegistry, PRIMARY, "local-state");
+        this.toPrimaryUnavailable = readsRouted(meterRegistry, PRIMARY, "replica-unavailable");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReplicaRoutingContext.writeRouted();
+            }
+            return PRIMARY;
+        }
+        if (ReplicaRoutingContext.isPrimaryForced()) {
+            toPrimaryForced.increment();
+            return PRIMARY;
+        }
+        if (ReplicaRoutingContext.isPrimaryRequired()) {
+            toPrimarySticky.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaPools.Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                toReplica.increment();
+                return replica.name();
+            }
+        }
+        toPrimaryUnavailable.increment();
+        return PRIMARY;
+    }
+
+    private static Counter readsRouted(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.reads.routed")
+                .description("Transactions en lecture seule par destination")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
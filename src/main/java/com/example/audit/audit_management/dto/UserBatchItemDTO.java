@@ -0,0 +1,40 @@
+package com.example.audit.audit_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Résultat de la création d'un élément d'un lot d'utilisateurs.
+ * 
+ * L'index correspond à la position de l'élément dans la requête,
+ * ce qui permet au client de corriger puis renvoyer uniquement les rejets.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Résultat de la création d'un utilisateur dans un lot")
+public class UserBatchItemDTO {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    @Schema(description = "Position de l'élément dans le lot", example = "0")
+    private int index;
+
+    @Schema(description = "Statut de l'élément", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "Utilisateur créé (si statut CREATED)")
+    private UserDTO user;
+
+    @Schema(description = "Erreurs par champ (si statut REJECTED)")
+    private Map<String, String> errors;
+}
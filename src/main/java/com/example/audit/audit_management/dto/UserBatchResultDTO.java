@@ -0,0 +1,32 @@
+package com.example.audit.audit_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Résultat global de la création d'un lot d'utilisateurs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Résultat de la création d'un lot d'utilisateurs")
+public class UserBatchResultDTO {
+
+    @Schema(description = "Nombre d'éléments reçus", example = "3")
+    private int requested;
+
+    @Schema(description = "Nombre d'utilisateurs créés", example = "2")
+    private int created;
+
+    @Schema(description = "Nombre d'éléments rejetés", example = "1")
+    private int rejected;
+
+    @Schema(description = "Résultat de chaque élément, dans l'ordre de la requête")
+    private List<UserBatchItemDTO> items;
+}
@@ -0,0 +1,21 @@
+package com.example.audit.audit_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat d'une opération ensembliste (suppression, réattribution de rôle).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Résultat d'une opération ensembliste sur les utilisateurs")
+public class UserBulkResultDTO {
+
+    @Schema(description = "Nombre d'utilisateurs supprimés ou modifiés", example = "42")
+    private long affected;
+}
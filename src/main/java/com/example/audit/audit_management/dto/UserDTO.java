@@ -44,4 +44,10 @@ public class UserDTO {
 
     @Schema(description = "Date de création", example = "2024-01-15T10:30:00", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime createdAt;
+
+    @Schema(description = "Date de dernière modification", example = "2024-01-16T08:00:00", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "Version de l'utilisateur (ETag), incrémentée à chaque modification", example = "0", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
 }
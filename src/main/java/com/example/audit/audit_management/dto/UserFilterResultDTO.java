@@ -0,0 +1,29 @@
+package com.example.audit.audit_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Résultat d'un filtrage multicritère.
+ * 
+ * Le comptage provient de l'index en mémoire; seuls les utilisateurs
+ * de {@code content} sont lus en base.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Résultat d'un filtrage multicritère")
+public class UserFilterResultDTO {
+
+    @Schema(description = "Nombre total d'utilisateurs correspondants", example = "42")
+    private long count;
+
+    @Schema(description = "Premiers utilisateurs correspondants, triés par identifiant (vide en mode comptage)")
+    private List<UserDTO> content;
+}
@@ -0,0 +1,28 @@
+package com.example.audit.audit_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Empreinte d'une liste d'utilisateurs, pour les requêtes conditionnelles
+ * (ETag) sur les endpoints de liste.
+ * 
+ * Toute écriture modifie au moins un des champs: une création ou une
+ * suppression change le nombre, une mise à jour incrémente une version.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserListVersionDTO {
+
+    private long count;
+
+    private LocalDateTime lastModified;
+
+    private long versionSum;
+}
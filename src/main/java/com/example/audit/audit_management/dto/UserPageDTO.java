@@ -0,0 +1,26 @@
+package com.example.audit.audit_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page d'utilisateurs obtenue par pagination par curseur (keyset).
+ * 
+ * Le curseur est opaque pour le client: il suffit de le renvoyer
+ * tel quel dans le paramètre {@code after} pour obtenir la page suivante.
+ * Aucun COUNT(*) n'est effectué, seul l'indicateur {@code hasMore} est fourni.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPageDTO {
+
+    private List<UserDTO> content;
+    private String nextCursor;
+    private boolean hasMore;
+}
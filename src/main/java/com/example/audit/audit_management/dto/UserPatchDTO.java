@@ -0,0 +1,43 @@
+package com.example.audit.audit_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Modification partielle d'un utilisateur (PATCH).
+ * 
+ * Seuls les champs renseignés sont modifiés; un champ absent ou null
+ * conserve sa valeur (les champs obligatoires ne peuvent pas être effacés).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Modification partielle d'un utilisateur: seuls les champs fournis sont modifiés")
+public class UserPatchDTO {
+
+    @Size(min = 3, max = 50, message = "Le nom d'utilisateur doit contenir entre 3 et 50 caractères")
+    @Schema(description = "Nouveau nom d'utilisateur", example = "john.doe")
+    private String username;
+
+    @Email(message = "L'email doit être valide")
+    @Size(min = 3, max = 100, message = "L'email doit contenir entre 3 et 100 caractères")
+    @Schema(description = "Nouvelle adresse email", example = "john.doe@example.com")
+    private String email;
+
+    @Size(min = 1, max = 30, message = "Le rôle doit contenir entre 1 et 30 caractères")
+    @Schema(description = "Nouveau rôle", example = "ADMIN")
+    private String role;
+
+    /**
+     * @return true si aucun champ n'est à modifier
+     */
+    public boolean isEmpty() {
+        return username == null && email == null && role == null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.audit.audit_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Suggestion d'autocomplétion: un utilisateur dont le nom ou l'email
+ * commence par le préfixe saisi.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Suggestion d'autocomplétion")
+public class UserSuggestionDTO {
+
+    @Schema(description = "Identifiant de l'utilisateur", example = "1")
+    private Long id;
+
+    @Schema(description = "Nom d'utilisateur", example = "john.doe")
+    private String username;
+
+    @Schema(description = "Adresse email", example = "john.doe@example.com")
+    private String email;
+}
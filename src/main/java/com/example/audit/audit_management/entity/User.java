@@ -1,5 +1,6 @@
 package com.example.audit.audit_management.entity;
 
+import com.example.audit.audit_management.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -18,19 +19,31 @@ import java.time.LocalDateTime;
  * et Lombok pour réduire le code boilerplate.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User {
 
+    /**
+     * Noms des contraintes d'unicité, utilisés pour identifier le champ en conflit
+     * lorsqu'un INSERT ou un UPDATE est rejeté par la base.
+     */
+    public static final String UK_USERNAME = "uk_users_username";
+    public static final String UK_EMAIL = "uk_users_email";
+
     /**
      * Identifiant unique de l'utilisateur.
-     * Généré automatiquement par la base de données.
+     * Calculé en mémoire par le générateur Snowflake (temps + nœud + séquence):
+     * aucun aller-retour base n'est nécessaire et les insertions peuvent être regroupées
+     * en batch JDBC. Les ids croissent avec le temps de création.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /**
@@ -39,7 +52,7 @@ public class User {
      */
     @NotBlank(message = "Le nom d'utilisateur est obligatoire")
     @Size(min = 3, max = 50, message = "Le nom d'utilisateur doit contenir entre 3 et 50 caractères")
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String username;
 
     /**
@@ -48,7 +61,7 @@ public class User {
      */
     @NotBlank(message = "L'email est obligatoire")
     @Email(message = "L'email doit être valide")
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     /**
@@ -67,12 +80,36 @@ public class User {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Date de dernière modification (en-tête Last-Modified).
+     * Les valeurs par défaut permettent l'ajout de la colonne à une table existante (ddl-auto: update).
+     */
+    @Column(name = "updated_at", columnDefinition = "timestamp(6) default current_timestamp not null")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Version de verrouillage optimiste, incrémentée par Hibernate à chaque UPDATE
+     * (clause "where version = ?"). Sert d'ETag et de contrôle If-Match.
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     /**
      * Callback JPA exécuté avant la persistance.
-     * Définit automatiquement la date de création.
+     * Définit automatiquement les dates de création et de modification.
      */
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    /**
+     * Callback JPA exécuté avant chaque mise à jour.
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
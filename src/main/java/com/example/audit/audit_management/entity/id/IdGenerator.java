@@ -0,0 +1,17 @@
+package com.example.audit.audit_management.entity.id;
+
+/**
+ * Générateur d'identifiants calculés côté application.
+ * 
+ * Contrairement à une colonne IDENTITY, l'identifiant est connu
+ * avant l'INSERT: aucun aller-retour n'est nécessaire pour l'obtenir
+ * et Hibernate peut regrouper les insertions en batch JDBC.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * @return Un nouvel identifiant, unique et strictement positif
+     */
+    long nextId();
+}
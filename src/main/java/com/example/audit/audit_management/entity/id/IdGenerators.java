@@ -0,0 +1,124 @@
+package com.example.audit.audit_management.entity.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Point d'accès au générateur d'identifiants utilisé par Hibernate.
+ * 
+ * Hibernate instancie lui-même {@link SnowflakeIdentifierGenerator}: ce registre
+ * permet à la configuration Spring d'y brancher l'implémentation voulue.
+ * Sans configuration explicite (ex: tests @DataJpaTest), un générateur Snowflake
+ * est créé à la demande à partir de l'identifiant de nœud résolu par {@link #resolveNodeId}.
+ */
+@Slf4j
+public final class IdGenerators {
+
+    /**
+     * Variable d'environnement forçant l'identifiant de nœud.
+     */
+    public static final String NODE_ID_ENV = "ID_NODE_ID";
+
+    /**
+     * Variable d'environnement portant le nom du StatefulSet: seul un HOSTNAME
+     * de la forme "<nom>-<ordinal>" pour ce nom exact est interprété comme ordinal.
+     */
+    public static final String STATEFULSET_NAME_ENV = "ID_STATEFULSET_NAME";
+
+    /**
+     * Verrou de la création à la demande: un ReentrantLock plutôt qu'un bloc
+     * synchronized, qui épinglerait le thread virtuel à son porteur pendant
+     * la résolution du nœud (lecture de l'environnement, log).
+     */
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile IdGenerator current;
+
+    private IdGenerators() {
+    }
+
+    /**
+     * @return Le générateur actif (créé à la demande si aucun n'a été enregistré)
+     */
+    public static IdGenerator current() {
+        IdGenerator generator = current;
+        if (generator == null) {
+            LOCK.lock();
+            try {
+                generator = current;
+                if (generator == null) {
+                    generator = new SnowflakeIdGenerator(resolveNodeId(null));
+                    current = generator;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return generator;
+    }
+
+    /**
+     * Enregistre le générateur à utiliser pour les prochaines insertions.
+     *
+     * @param generator Le générateur à utiliser
+     */
+    public static void register(IdGenerator generator) {
+        current = generator;
+    }
+
+    /**
+     * Résout l'identifiant de nœud, par ordre de priorité:
+     * 1. la valeur configurée (propriété ou variable {@value #NODE_ID_ENV})
+     * 2. l'ordinal du pod de StatefulSet, si {@value #STATEFULSET_NAME_ENV} est défini
+     *    (HOSTNAME = audit-management-1 pour ID_STATEFULSET_NAME = audit-management)
+     * 3. une valeur aléatoire, acceptable uniquement pour une instance isolée
+     *
+     * @param configured La valeur configurée, ou null
+     * @return Un identifiant de nœud compris entre 0 et {@link SnowflakeIdGenerator#MAX_NODE_ID}
+     */
+    public static int resolveNodeId(Integer configured) {
+        if (configured != null) {
+            return configured;
+        }
+        String fromEnv = System.getenv(NODE_ID_ENV);
+        if (fromEnv != null && !fromEnv.isBlank()) {
+            return Integer.parseInt(fromEnv.trim());
+        }
+        Integer ordinal = ordinalOf(System.getenv("HOSTNAME"), System.getenv(STATEFULSET_NAME_ENV));
+        if (ordinal != null) {
+            if (ordinal > SnowflakeIdGenerator.MAX_NODE_ID) {
+                throw new IllegalStateException(String.format(
+                        "Ordinal de pod %d supérieur au nombre de nœuds supportés (%d)",
+                        ordinal, SnowflakeIdGenerator.MAX_NODE_ID + 1));
+            }
+            return ordinal;
+        }
+        int random = ThreadLocalRandom.current().nextInt(SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        log.warn("Aucun identifiant de nœud configuré ({} ou ordinal de pod via {}): utilisation de la valeur aléatoire {}. "
+                + "Les identifiants ne sont garantis uniques que pour une instance unique.",
+                NODE_ID_ENV, STATEFULSET_NAME_ENV, random);
+        return random;
+    }
+
+    /**
+     * Le motif est ancré sur le nom du StatefulSet: un nom d'hôte quelconque
+     * se terminant par des chiffres (ip-10-0-0-123, pod d'un Deployment...)
+     * ne doit pas fournir un identifiant de nœud partagé par plusieurs instances.
+     *
+     * @param hostname Le nom d'hôte du pod
+     * @param statefulSetName Le nom du StatefulSet, ou null
+     * @return L'ordinal du pod de StatefulSet, ou null si le nom ne correspond pas
+     */
+    static Integer ordinalOf(String hostname, String statefulSetName) {
+        if (hostname == null || statefulSetName == null || statefulSetName.isBlank()) {
+            return null;
+        }
+        Pattern podOrdinal = Pattern.compile("^" + Pattern.quote(statefulSetName.trim()) + "-(\\d+)$");
+        Matcher matcher = podOrdinal.matcher(hostname);
+        return matcher.matches() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.audit.audit_management.entity.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Générateur d'identifiants 64 bits de type Snowflake (temps + nœud + séquence).
+ * 
+ * Disposition des bits (53 bits utiles, de poids fort à poids faible):
+ * - 40 bits: millisecondes écoulées depuis {@link #EPOCH} (~34 ans)
+ * - 4 bits: identifiant du nœud (16 instances maximum)
+ * - 9 bits: séquence dans la milliseconde (512 ids/ms et par nœud)
+ * 
+ * Les identifiants restent inférieurs à 2^53 afin d'être représentés
+ * exactement par les nombres JavaScript du frontend Angular.
+ * Ils sont croissants dans le temps, ce qui garde les insertions
+ * dans l'index B-tree de la clé primaire en fin d'arbre.
+ * 
+ * L'état (dernière milliseconde + séquence) tient dans un seul AtomicLong
+ * mis à jour par CAS: aucun verrou sur le chemin chaud. Si l'horloge recule
+ * ou si la séquence d'une milliseconde est épuisée, le générateur continue
+ * sur une horloge logique (milliseconde suivante) plutôt que d'attendre.
+ */
+public final class SnowflakeIdGenerator implements IdGenerator {
+
+    /**
+     * Origine des horodatages: 2024-01-01T00:00:00Z.
+     */
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int TIMESTAMP_BITS = 40;
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 9;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+
+    /**
+     * État courant: (milliseconde logique << SEQUENCE_BITS) | séquence.
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    String.format("L'identifiant de nœud doit être compris entre 0 et %d: %d", MAX_NODE_ID, nodeId));
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // Même milliseconde, ou horloge en recul: on incrémente la séquence.
+                // Un débordement de séquence reporte naturellement sur la milliseconde suivante.
+                next = current + 1;
+            }
+        } while (!state.compareAndSet(current, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Capacité d'horodatage du générateur Snowflake épuisée");
+        }
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * @param id Un identifiant produit par ce générateur
+     * @return L'instant de génération encodé dans l'identifiant
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    /**
+     * @param id Un identifiant produit par ce générateur
+     * @return L'identifiant du nœud qui l'a généré
+     */
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
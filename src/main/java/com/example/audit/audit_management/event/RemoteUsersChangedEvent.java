@@ -0,0 +1,24 @@
+package com.example.audit.audit_management.event;
+
+import java.util.Set;
+
+/**
+ * Événement local signalant des modifications effectuées par une autre instance.
+ * 
+ * Publié par le bus d'invalidation inter-instances; les structures en mémoire
+ * l'écoutent pour oublier les utilisateurs concernés.
+ *
+ * @param userIds Les identifiants modifiés sur une autre instance
+ * @param fullResync true si des notifications ont pu être perdues (reconnexion):
+ *                   toutes les données locales doivent alors être considérées obsolètes
+ */
+public record RemoteUsersChangedEvent(Set<Long> userIds, boolean fullResync) {
+
+    public static RemoteUsersChangedEvent of(Set<Long> userIds) {
+        return new RemoteUsersChangedEvent(Set.copyOf(userIds), false);
+    }
+
+    public static RemoteUsersChangedEvent resync() {
+        return new RemoteUsersChangedEvent(Set.of(), true);
+    }
+}
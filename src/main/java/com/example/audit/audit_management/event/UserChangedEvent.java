@@ -0,0 +1,35 @@
+package com.example.audit.audit_management.event;
+
+import com.example.audit.audit_management.dto.UserDTO;
+
+/**
+ * Événement publié par le service à chaque écriture sur un utilisateur.
+ * 
+ * Les structures maintenues en mémoire (caches, index) l'écoutent
+ * via @TransactionalEventListener afin de n'être mises à jour
+ * qu'une fois la transaction validée.
+ *
+ * @param type Le type de modification
+ * @param userId L'identifiant de l'utilisateur modifié
+ * @param user L'état de l'utilisateur après modification (null pour une suppression)
+ */
+public record UserChangedEvent(ChangeType type, Long userId, UserDTO user) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static UserChangedEvent created(UserDTO user) {
+        return new UserChangedEvent(ChangeType.CREATED, user.getId(), user);
+    }
+
+    public static UserChangedEvent updated(UserDTO user) {
+        return new UserChangedEvent(ChangeType.UPDATED, user.getId(), user);
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(ChangeType.DELETED, userId, null);
+    }
+}
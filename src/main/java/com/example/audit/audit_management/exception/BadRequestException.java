@@ -0,0 +1,22 @@
+package com.example.audit.audit_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception levée lorsqu'un paramètre de requête est invalide
+ * (ex: curseur de pagination corrompu).
+ * 
+ * Retourne automatiquement un statut HTTP 400.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String parameterName, Object parameterValue) {
+        super(String.format("Paramètre %s invalide: '%s'", parameterName, parameterValue));
+    }
+}
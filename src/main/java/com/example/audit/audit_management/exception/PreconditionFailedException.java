@@ -0,0 +1,22 @@
+package com.example.audit.audit_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception levée lorsqu'une précondition de la requête n'est pas remplie
+ * (ex: en-tête If-Match ne correspondant plus à la version de la ressource).
+ * 
+ * Retourne automatiquement un statut HTTP 412.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String resourceName, Object id, Object expectedVersion) {
+        super(String.format("%s %s a été modifié: la version %s n'est plus à jour", resourceName, id, expectedVersion));
+    }
+}
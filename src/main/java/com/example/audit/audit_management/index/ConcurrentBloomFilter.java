@@ -0,0 +1,113 @@
+package com.example.audit.audit_management.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtre de Bloom sans verrou, utilisable en lecture et en écriture concurrentes.
+ * 
+ * - Réponse négative: l'élément n'a certainement jamais été ajouté
+ * - Réponse positive: l'élément a probablement été ajouté (faux positifs possibles)
+ * 
+ * Les bits sont stockés dans un {@link AtomicLongArray}: un ajout positionne
+ * ses k bits par OR atomique, sans bloquer les lectures. Les k positions sont
+ * dérivées de deux hachages 64 bits (double hachage de Kirsch-Mitzenmacher).
+ * La suppression n'est pas supportée: les entrées obsolètes disparaissent
+ * lors de la reconstruction périodique du filtre.
+ */
+public final class ConcurrentBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * @param expectedInsertions Le nombre d'éléments attendus
+     * @param falsePositiveRate Le taux de faux positifs visé à ce nombre d'éléments (ex: 0.01)
+     */
+    public ConcurrentBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Paramètres de filtre de Bloom invalides");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            if ((words.get(index) & mask) == 0) {
+                words.getAndAccumulate(index, mask, (current, added) -> current | added);
+            }
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taux de faux positifs théorique pour le nombre d'ajouts effectués:
+     * (1 - e^(-k*n/m))^k.
+     */
+    public double expectedFalsePositiveRate() {
+        double fill = -(double) hashCount * insertions.sum() / bitCount;
+        return Math.pow(1 - Math.exp(fill), hashCount);
+    }
+
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @return L'empreinte mémoire du tableau de bits, en octets
+     */
+    public long memoryBytes() {
+        return bitCount / 8;
+    }
+
+    /**
+     * FNV-1a 64 bits sur les octets UTF-8, suivi d'un mélange final (fmix64 de Murmur3).
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
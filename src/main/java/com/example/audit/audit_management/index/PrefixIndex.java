@@ -0,0 +1,162 @@
+package com.example.audit.audit_management.index;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index de préfixes en mémoire pour l'autocomplétion (nom et email).
+ *
+ * Les clés "valeur en minuscules + \0 + id" sont triées dans une
+ * {@link ConcurrentSkipListMap}: une recherche par préfixe est un parcours
+ * de la sous-map à partir du préfixe, arrêté au premier nom qui ne commence
+ * plus par celui-ci ou dès que la limite est atteinte (O(log n + limit)).
+ *
+ * Les lectures sont sans verrou et ne bloquent jamais les écritures. Une
+ * modification ajoute les nouvelles clés avant de retirer les anciennes:
+ * un lecteur concurrent voit l'ancienne valeur, la nouvelle, ou les deux
+ * (les doublons d'un même id sont fusionnés), jamais aucune.
+ */
+public final class PrefixIndex {
+
+    private static final char ID_SEPARATOR = '\0';
+
+    /**
+     * Coûts mémoire approximatifs (JVM 64 bits, oops compressés), en octets:
+     * nœud de skip list + part moyenne de ses niveaux d'index, String LATIN1
+     * (objet + tableau), Long, nœud de ConcurrentHashMap, record Entry.
+     */
+    private static final int SKIP_LIST_NODE_BYTES = 24 + 8;
+    private static final int STRING_OVERHEAD_BYTES = 24 + 16;
+    private static final int LONG_BYTES = 16;
+    private static final int HASH_NODE_BYTES = 32;
+    private static final int ENTRY_BYTES = 24;
+
+    public record Entry(long id, String username, String email) {
+    }
+
+    private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    /**
+     * Ajoute ou remplace un utilisateur. Les écritures d'un même id sont sérialisées.
+     */
+    public void put(long id, String username, String email) {
+        Entry next = new Entry(id, username, email);
+        entries.compute(id, (key, previous) -> {
+            addKeys(next);
+            if (previous != null) {
+                removeKeys(previous, next);
+                estimatedBytes.addAndGet(-estimateBytes(previous));
+            }
+            estimatedBytes.addAndGet(estimateBytes(next));
+            return next;
+        });
+    }
+
+    public void remove(long id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            removeKeys(previous, null);
+            estimatedBytes.addAndGet(-estimateBytes(previous));
+            return null;
+        });
+    }
+
+    /**
+     * Utilisateurs dont le nom ou l'email commence par le préfixe,
+     * par ordre alphabétique de la valeur correspondante.
+     *
+     * @param prefix Le préfixe saisi (insensible à la casse)
+     * @param limit Le nombre maximal de résultats
+     */
+    public List<Entry> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Entry> results = new ArrayList<>(Math.min(limit, 64));
+        Set<Long> seen = new HashSet<>();
+        for (Map.Entry<String, Long> key : keys.tailMap(normalized).entrySet()) {
+            if (!key.getKey().startsWith(normalized)) {
+                break;
+            }
+            Entry entry = entries.get(key.getValue());
+            if (entry != null && seen.add(entry.id())) {
+                results.add(entry);
+                if (results.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return L'empreinte mémoire estimée de l'index, en octets
+     */
+    public long estimatedMemoryBytes() {
+        return estimatedBytes.get();
+    }
+
+    private void addKeys(Entry entry) {
+        if (entry.username() != null) {
+            keys.put(key(entry.username(), entry.id()), entry.id());
+        }
+        if (entry.email() != null) {
+            keys.put(key(entry.email(), entry.id()), entry.id());
+        }
+    }
+
+    /**
+     * Retire les clés de l'ancienne valeur qui ne sont plus portées par la nouvelle.
+     */
+    private void removeKeys(Entry previous, Entry next) {
+        for (String value : new String[]{previous.username(), previous.email()}) {
+            if (value == null) {
+                continue;
+            }
+            String key = key(value, previous.id());
+            boolean kept = next != null
+                    && (key.equals(keyOrNull(next.username(), next.id())) || key.equals(keyOrNull(next.email(), next.id())));
+            if (!kept) {
+                keys.remove(key);
+            }
+        }
+    }
+
+    private static String keyOrNull(String value, long id) {
+        return value == null ? null : key(value, id);
+    }
+
+    private static String key(String value, long id) {
+        return normalize(value) + ID_SEPARATOR + id;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    static long estimateBytes(Entry entry) {
+        long bytes = HASH_NODE_BYTES + LONG_BYTES + ENTRY_BYTES;
+        for (String value : new String[]{entry.username(), entry.email()}) {
+            if (value != null) {
+                // Valeur d'origine conservée dans l'entrée + clé normalisée dans la skip list
+                bytes += STRING_OVERHEAD_BYTES + value.length();
+                // (+ 20: séparateur et identifiant en décimal)
+                bytes += SKIP_LIST_NODE_BYTES + STRING_OVERHEAD_BYTES + value.length() + 20 + LONG_BYTES;
+            }
+        }
+        return bytes;
+    }
+}
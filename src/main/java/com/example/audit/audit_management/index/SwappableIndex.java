@@ -0,0 +1,126 @@
+package com.example.audit.audit_management.index;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Index en mémoire reconstruit depuis la base puis basculé, sans perdre les
+ * écritures reçues pendant la reconstruction.
+ *
+ * - Les écritures sont appliquées à l'index courant et, pendant une
+ *   reconstruction, mises en file puis rejouées sur le nouvel index
+ * - Une seule reconstruction à la fois: une demande reçue pendant l'une
+ *   d'elles en relance une (et une seule) à la fin, elle n'est jamais perdue
+ * - Échec de la construction: l'index précédent est conservé
+ *
+ * @param <T> Le type d'index, modifié uniquement sous le verrou de bascule
+ */
+@Slf4j
+public final class SwappableIndex<T> {
+
+    private final String description;
+
+    private volatile T current;
+
+    /**
+     * Écritures reçues pendant une reconstruction, rejouées sur le nouvel index.
+     */
+    private volatile Queue<Consumer<T>> pendingDuringRebuild;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    /**
+     * Sérialise les écritures (lecture de la file, application, ajout à la file)
+     * avec la bascule vers le nouvel index et le rejeu de la file.
+     */
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    /**
+     * @param description Le nom de l'index dans les logs (ex. "l'index de recherche")
+     * @param initial L'index servi avant la première construction
+     */
+    public SwappableIndex(String description, T initial) {
+        this.description = description;
+        this.current = initial;
+    }
+
+    public T current() {
+        return current;
+    }
+
+    /**
+     * Reconstruit l'index, ou demande une nouvelle reconstruction à celle en
+     * cours: le chargement de celle-ci a pu précéder les écritures à prendre en compte.
+     *
+     * @param loader Construit le nouvel index depuis la base
+     */
+    public void rebuild(Supplier<T> loader) {
+        rebuildRequested.set(true);
+        // La demande est posée avant la tentative: si celle-ci échoue, la
+        // reconstruction en cours la verra après avoir relâché le drapeau
+        while (rebuildRequested.get() && rebuilding.compareAndSet(false, true)) {
+            try {
+                rebuildRequested.set(false);
+                rebuildOnce(loader);
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    private void rebuildOnce(Supplier<T> loader) {
+        Queue<Consumer<T>> pending = new ConcurrentLinkedQueue<>();
+        // Publiée avant le parcours: une écriture validée pendant celui-ci est
+        // soit vue par la requête, soit rejouée sur le nouvel index
+        pendingDuringRebuild = pending;
+        try {
+            T next = loader.get();
+            swapLock.lock();
+            try {
+                current = next;
+                pendingDuringRebuild = null;
+                Consumer<T> change;
+                while ((change = pending.poll()) != null) {
+                    change.accept(next);
+                }
+            } finally {
+                swapLock.unlock();
+            }
+        } catch (RuntimeException ex) {
+            clearPending();
+            log.warn("Échec de la construction de {}, l'index précédent est conservé: {}", description, ex.getMessage());
+        }
+    }
+
+    /**
+     * Sous le verrou de bascule: une écriture est soit appliquée à l'ancien index
+     * et ajoutée à la file avant son rejeu, soit appliquée au nouvel index.
+     */
+    public void apply(Consumer<T> change) {
+        swapLock.lock();
+        try {
+            change.accept(current);
+            Queue<Consumer<T>> pending = pendingDuringRebuild;
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void clearPending() {
+        swapLock.lock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+}
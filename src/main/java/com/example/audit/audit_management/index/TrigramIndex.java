@@ -0,0 +1,239 @@
+package com.example.audit.audit_management.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index trigrammes en mémoire pour la recherche par sous-chaîne (insensible à la casse).
+ *
+ * Chaque nom est découpé en trigrammes ("john" → "joh", "ohn"). Une sous-chaîne
+ * d'au moins 3 caractères ne peut apparaître que dans les noms contenant tous
+ * ses trigrammes: seule la liste du trigramme le plus rare est parcourue, puis
+ * chaque candidat est vérifié sur son nom courant.
+ *
+ * Structure:
+ * - Segment de base immuable, construit en une passe: trigramme → ids triés (long[])
+ * - Segment delta concurrent pour les écritures depuis la construction
+ * - Table id → nom courant, qui fait foi lors de la vérification: les entrées
+ *   obsolètes des listes (noms modifiés, supprimés) sont simplement écartées
+ *   et purgées à la reconstruction suivante
+ *
+ * Les termes de moins de 3 caractères n'ont pas de trigramme: la table des noms
+ * est alors parcourue. Le nombre de candidats examinés par recherche est borné
+ * ({@value #MAX_SCANNED}): au-delà (terme court, trigramme très courant), les
+ * résultats sont les meilleurs parmi les candidats examinés, pour un coût par
+ * requête qui ne croît plus avec la table.
+ */
+public final class TrigramIndex {
+
+    private static final int GRAM = 3;
+
+    /**
+     * Candidats examinés au plus par recherche.
+     */
+    static final int MAX_SCANNED = 20_000;
+
+    /**
+     * Classement: noms commençant par le terme, puis les plus courts
+     * (les plus proches du terme), puis ordre alphabétique.
+     */
+    private static final Comparator<Match> RANKING = Comparator
+            .comparing((Match match) -> !match.name().startsWith(match.term()))
+            .thenComparingInt(match -> match.name().length())
+            .thenComparing(Match::name)
+            .thenComparingLong(Match::id);
+
+    private final Map<String, long[]> base;
+    private final Map<String, Set<Long>> delta = new ConcurrentHashMap<>();
+    private final Map<Long, String> names;
+
+    private TrigramIndex(Map<String, long[]> base, Map<Long, String> names) {
+        this.base = base;
+        this.names = names;
+    }
+
+    public static TrigramIndex empty() {
+        return new TrigramIndex(Map.of(), new ConcurrentHashMap<>());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Ajoute ou remplace le nom d'un identifiant.
+     */
+    public void put(long id, String name) {
+        String normalized = normalize(name);
+        names.put(id, normalized);
+        for (String gram : trigrams(normalized)) {
+            long[] ids = base.get(gram);
+            if (ids == null || Arrays.binarySearch(ids, id) < 0) {
+                delta.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    public void remove(long id) {
+        names.remove(id);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Recherche les identifiants dont le nom contient le terme.
+     *
+     * @param term Le terme recherché (insensible à la casse)
+     * @param limit Le nombre maximal de résultats
+     * @return Les identifiants, du plus pertinent au moins pertinent
+     */
+    public List<Long> search(String term, int limit) {
+        String normalized = normalize(term);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // Tas des meilleurs résultats, le moins pertinent en tête
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        if (normalized.length() < GRAM) {
+            int scanned = 0;
+            for (Iterator<Map.Entry<Long, String>> it = names.entrySet().iterator();
+                 it.hasNext() && scanned < MAX_SCANNED; scanned++) {
+                Map.Entry<Long, String> entry = it.next();
+                offer(top, limit, normalized, entry.getKey(), entry.getValue());
+            }
+        } else {
+            String rarest = null;
+            int rarestSize = Integer.MAX_VALUE;
+            for (String gram : trigrams(normalized)) {
+                int size = postingSize(gram);
+                if (size < rarestSize) {
+                    rarest = gram;
+                    rarestSize = size;
+                }
+            }
+            if (rarestSize == 0) {
+                return List.of();
+            }
+            long[] baseIds = base.getOrDefault(rarest, new long[0]);
+            int scanned = 0;
+            for (long id : baseIds) {
+                if (scanned++ >= MAX_SCANNED) {
+                    break;
+                }
+                offer(top, limit, normalized, id, names.get(id));
+            }
+            for (Long id : delta.getOrDefault(rarest, Set.of())) {
+                if (scanned >= MAX_SCANNED) {
+                    break;
+                }
+                if (Arrays.binarySearch(baseIds, id) < 0) {
+                    scanned++;
+                    offer(top, limit, normalized, id, names.get(id));
+                }
+            }
+        }
+        List<Match> matches = new ArrayList<>(top);
+        matches.sort(RANKING);
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            ids.add(match.id());
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    private int postingSize(String gram) {
+        long[] ids = base.get(gram);
+        Set<Long> added = delta.get(gram);
+        return (ids == null ? 0 : ids.length) + (added == null ? 0 : added.size());
+    }
+
+    private static void offer(PriorityQueue<Match> top, int limit, String term, long id, String name) {
+        if (name == null || !name.contains(term)) {
+            return;
+        }
+        Match match = new Match(id, name, term);
+        if (top.size() < limit) {
+            top.add(match);
+        } else if (RANKING.compare(match, top.peek()) < 0) {
+            top.poll();
+            top.add(match);
+        }
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> trigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private record Match(long id, String name, String term) {
+    }
+
+    /**
+     * Construction du segment de base en une passe (non thread-safe).
+     */
+    public static final class Builder {
+
+        private final Map<String, LongList> postings = new HashMap<>();
+        private final Map<Long, String> names = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(long id, String name) {
+            String normalized = normalize(name);
+            names.put(id, normalized);
+            for (String gram : trigrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new LongList()).add(id);
+            }
+            return this;
+        }
+
+        public TrigramIndex build() {
+            Map<String, long[]> base = new HashMap<>(postings.size() * 2);
+            postings.forEach((gram, ids) -> base.put(gram, ids.toSortedArray()));
+            return new TrigramIndex(base, new ConcurrentHashMap<>(names));
+        }
+    }
+
+    /**
+     * Liste de long primitifs extensible, pour éviter un Long par entrée à la construction.
+     */
+    private static final class LongList {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
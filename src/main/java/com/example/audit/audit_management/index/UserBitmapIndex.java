@@ -0,0 +1,256 @@
+package com.example.audit.audit_management.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Index secondaire en mémoire par bitmaps compressés (Roaring), pour le
+ * filtrage multicritère des utilisateurs.
+ *
+ * Chaque utilisateur reçoit un ordinal dense (int) à sa première insertion;
+ * un bitmap par valeur de chaque dimension contient les ordinaux concernés:
+ * - rôle (en majuscules)
+ * - domaine de l'email (en minuscules)
+ * - mois de création (yyyy-MM), trié pour les requêtes par période
+ *
+ * Un filtre est l'intersection des bitmaps des critères fournis (l'union des
+ * mois de la période pour la date); le comptage est la cardinalité du
+ * résultat, sans accès à la base. Les ordinaux sont denses: les bitmaps
+ * restent compacts même si les identifiants Snowflake sont épars. Les
+ * ordinaux des utilisateurs supprimés ne sont réutilisés qu'à la reconstruction.
+ *
+ * Les bitmaps Roaring ne sont pas thread-safe: lectures et écritures sont
+ * arbitrées par un {@link StampedLock} (lectures concurrentes entre elles).
+ */
+public final class UserBitmapIndex {
+
+    /**
+     * Critères de filtrage; un critère null n'est pas appliqué.
+     *
+     * @param role Le rôle exact (insensible à la casse)
+     * @param emailDomain Le domaine de l'email, sans '@' (insensible à la casse)
+     * @param createdFrom Le premier mois de création inclus
+     * @param createdTo Le dernier mois de création inclus
+     */
+    public record Criteria(String role, String emailDomain, YearMonth createdFrom, YearMonth createdTo) {
+    }
+
+    /**
+     * Résultat d'un filtre.
+     *
+     * @param count Le nombre total d'utilisateurs correspondants
+     * @param ids Les identifiants des premiers utilisateurs correspondants (au plus la limite demandée)
+     */
+    public record Result(long count, List<Long> ids) {
+    }
+
+    private record Attributes(String role, String domain, int month) {
+    }
+
+    private final StampedLock lock = new StampedLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] idsByOrdinal = new long[1024];
+    private Attributes[] attributesByOrdinal = new Attributes[1024];
+    private int nextOrdinal;
+
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byRole = new HashMap<>();
+    private final Map<String, RoaringBitmap> byDomain = new HashMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> byMonth = new TreeMap<>();
+
+    /**
+     * Ajoute ou met à jour un utilisateur.
+     */
+    public void put(long id, String role, String email, LocalDateTime createdAt) {
+        Attributes attributes = new Attributes(normalizeRole(role), domainOf(email), monthOf(createdAt));
+        long stamp = lock.writeLock();
+        try {
+            Integer existing = ordinals.get(id);
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                unindex(ordinal, attributesByOrdinal[ordinal]);
+            } else {
+                ordinal = nextOrdinal++;
+                ensureCapacity(ordinal);
+                ordinals.put(id, ordinal);
+                idsByOrdinal[ordinal] = id;
+            }
+            attributesByOrdinal[ordinal] = attributes;
+            live.add(ordinal);
+            if (attributes.role() != null) {
+                byRole.computeIfAbsent(attributes.role(), key -> new RoaringBitmap()).add(ordinal);
+            }
+            if (attributes.domain() != null) {
+                byDomain.computeIfAbsent(attributes.domain(), key -> new RoaringBitmap()).add(ordinal);
+            }
+            if (attributes.month() >= 0) {
+                byMonth.computeIfAbsent(attributes.month(), key -> new RoaringBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal, attributesByOrdinal[ordinal]);
+                attributesByOrdinal[ordinal] = null;
+                live.remove(ordinal);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applique les critères et retourne le nombre total de correspondances
+     * et les identifiants des {@code limit} premières.
+     *
+     * @param criteria Les critères (tous optionnels)
+     * @param limit Le nombre maximal d'identifiants retournés (0 pour un simple comptage)
+     */
+    public Result filter(Criteria criteria, int limit) {
+        long stamp = lock.readLock();
+        try {
+            RoaringBitmap matches = match(criteria);
+            List<Long> ids = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+            IntIterator iterator = matches.getIntIterator();
+            while (ids.size() < limit && iterator.hasNext()) {
+                ids.add(idsByOrdinal[iterator.next()]);
+            }
+            return new Result(matches.getLongCardinality(), ids);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return live.getCardinality();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return L'empreinte mémoire des bitmaps et des tables d'ordinaux, en octets
+     *         (la table id → ordinal est estimée à 64 octets par entrée)
+     */
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            long bytes = live.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byRole.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byDomain.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byMonth.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes + 8L * idsByOrdinal.length + 4L * attributesByOrdinal.length + 64L * ordinals.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private RoaringBitmap match(Criteria criteria) {
+        List<RoaringBitmap> required = new ArrayList<>(4);
+        required.add(live);
+        String role = normalizeRole(criteria.role());
+        if (role != null) {
+            required.add(byRole.getOrDefault(role, new RoaringBitmap()));
+        }
+        String domain = normalizeDomain(criteria.emailDomain());
+        if (domain != null) {
+            required.add(byDomain.getOrDefault(domain, new RoaringBitmap()));
+        }
+        if (criteria.createdFrom() != null || criteria.createdTo() != null) {
+            int from = criteria.createdFrom() == null ? Integer.MIN_VALUE : monthKey(criteria.createdFrom());
+            int to = criteria.createdTo() == null ? Integer.MAX_VALUE : monthKey(criteria.createdTo());
+            if (from > to) {
+                return new RoaringBitmap();
+            }
+            required.add(FastAggregation.or(byMonth.subMap(from, true, to, true).values().iterator()));
+        }
+        return required.size() == 1 ? live.clone() : FastAggregation.and(required.iterator());
+    }
+
+    private void unindex(int ordinal, Attributes attributes) {
+        if (attributes == null) {
+            return;
+        }
+        removeFrom(byRole, attributes.role(), ordinal);
+        removeFrom(byDomain, attributes.domain(), ordinal);
+        removeFrom(byMonth, attributes.month(), ordinal);
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= idsByOrdinal.length) {
+            int capacity = Math.max(ordinal + 1, idsByOrdinal.length * 2);
+            idsByOrdinal = Arrays.copyOf(idsByOrdinal, capacity);
+            attributesByOrdinal = Arrays.copyOf(attributesByOrdinal, capacity);
+        }
+    }
+
+    private static String normalizeRole(String role) {
+        return role == null || role.isBlank() ? null : role.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String normalizeDomain(String domain) {
+        if (domain == null || domain.isBlank()) {
+            return null;
+        }
+        String normalized = domain.trim().toLowerCase(Locale.ROOT);
+        return normalized.startsWith("@") ? normalized.substring(1) : normalized;
+    }
+
+    static String domainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 ? null : normalizeDomain(email.substring(at + 1));
+    }
+
+    private static int monthOf(LocalDateTime createdAt) {
+        return createdAt == null ? -1 : monthKey(YearMonth.from(createdAt));
+    }
+
+    private static int monthKey(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+}
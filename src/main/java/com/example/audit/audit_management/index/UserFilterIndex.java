@@ -0,0 +1,115 @@
+package com.example.audit.audit_management.index;
+
+import com.example.audit.audit_management.datasource.ReplicaRoutingContext;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import com.example.audit.audit_management.repository.UserFilterKeys;
+import com.example.audit.audit_management.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Filtrage multicritère des utilisateurs (rôle, domaine email, mois de création)
+ * sur un {@link UserBitmapIndex} en mémoire.
+ * 
+ * - Construction au démarrage en parcourant la table, reconstruction planifiée
+ *   (app.index.filter.rebuild-cron) pour compacter les ordinaux
+ * - Mise à jour après commit de chaque écriture, locale ou distante: les
+ *   comptages sont servis sans base et ne doivent refléter que des données validées
+ * - Métriques: nombre d'utilisateurs indexés et empreinte mémoire
+ */
+@Component
+@Slf4j
+public class UserFilterIndex implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final SwappableIndex<UserBitmapIndex> index = new SwappableIndex<>("l'index de filtrage", new UserBitmapIndex());
+
+    public UserFilterIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @param criteria Les critères de filtrage
+     * @param limit Le nombre maximal d'identifiants retournés (0 pour un simple comptage)
+     * @return Le nombre total de correspondances et les premiers identifiants
+     */
+    public UserBitmapIndex.Result filter(UserBitmapIndex.Criteria criteria, int limit) {
+        return index.current().filter(criteria, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.index.filter.rebuild-cron:0 15 4 * * *}")
+    public void rebuild() {
+        index.rebuild(this::load);
+    }
+
+    private UserBitmapIndex load() {
+        long start = System.nanoTime();
+        UserBitmapIndex next = new UserBitmapIndex();
+        ReplicaRoutingContext.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserFilterKeys> keys = userRepository.streamFilterKeys()) {
+                keys.forEach(key -> next.put(key.getId(), key.getRole(), key.getEmail(), key.getCreatedAt()));
+            }
+        }));
+        log.info("Index de filtrage construit: {} utilisateurs, {} Ko, en {} ms",
+                next.size(), next.memoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        return next;
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.DELETED) {
+            index.apply(idx -> idx.remove(event.userId()));
+        } else {
+            index.apply(idx -> idx.put(event.userId(), event.user().getRole(),
+                    event.user().getEmail(), event.user().getCreatedAt()));
+        }
+    }
+
+    /**
+     * Écritures d'une autre instance: les attributs des ids notifiés sont relus.
+     */
+    @EventListener
+    public void onRemoteUsersChanged(RemoteUsersChangedEvent event) {
+        if (event.fullResync()) {
+            CompletableFuture.runAsync(this::rebuild);
+            return;
+        }
+        Set<Long> missing = new HashSet<>(event.userIds());
+        for (UserFilterKeys keys : userRepository.findFilterKeysByIdIn(event.userIds())) {
+            missing.remove(keys.getId());
+            index.apply(idx -> idx.put(keys.getId(), keys.getRole(), keys.getEmail(), keys.getCreatedAt()));
+        }
+        missing.forEach(id -> index.apply(idx -> idx.remove(id)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.filter.entries", this, filter -> filter.index.current().size())
+                .description("Utilisateurs présents dans l'index de filtrage")
+                .register(registry);
+        Gauge.builder("users.filter.memory", this, filter -> filter.index.current().memoryBytes())
+                .baseUnit("bytes")
+                .description("Empreinte mémoire des bitmaps de l'index de filtrage")
+                .register(registry);
+    }
+}
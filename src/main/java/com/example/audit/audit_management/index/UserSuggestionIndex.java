@@ -0,0 +1,131 @@
+package com.example.audit.audit_management.index;
+
+import com.example.audit.audit_management.datasource.ReplicaRoutingContext;
+import com.example.audit.audit_management.dto.UserSuggestionDTO;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import com.example.audit.audit_management.repository.UserRepository;
+import com.example.audit.audit_management.repository.UserUniqueKeys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Autocomplétion des utilisateurs servie entièrement depuis la mémoire ({@link PrefixIndex}).
+ * 
+ * - Construction au démarrage en parcourant la table, reconstruction planifiée
+ *   (app.index.suggest.rebuild-cron) comme filet de sécurité
+ * - Mise à jour après commit de chaque écriture, locale ou distante: aucune
+ *   lecture en base ne revérifie les suggestions, une écriture annulée ne
+ *   doit donc jamais y apparaître
+ * - Métriques: nombre d'entrées, empreinte mémoire estimée totale et par entrée
+ */
+@Component
+@Slf4j
+public class UserSuggestionIndex implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final SwappableIndex<PrefixIndex> index = new SwappableIndex<>("l'index d'autocomplétion", new PrefixIndex());
+
+    public UserSuggestionIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @param prefix Le préfixe du nom ou de l'email (insensible à la casse)
+     * @param limit Le nombre maximal de suggestions
+     * @return Les suggestions, par ordre alphabétique de la valeur correspondante
+     */
+    public List<UserSuggestionDTO> suggest(String prefix, int limit) {
+        return index.current().search(prefix, limit).stream()
+                .map(entry -> UserSuggestionDTO.builder()
+                        .id(entry.id())
+                        .username(entry.username())
+                        .email(entry.email())
+                        .build())
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.index.suggest.rebuild-cron:0 45 3 * * *}")
+    public void rebuild() {
+        index.rebuild(this::load);
+    }
+
+    private PrefixIndex load() {
+        long start = System.nanoTime();
+        PrefixIndex next = new PrefixIndex();
+        ReplicaRoutingContext.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserUniqueKeys> keys = userRepository.streamUniqueKeys()) {
+                keys.forEach(key -> next.put(key.getId(), key.getUsername(), key.getEmail()));
+            }
+        }));
+        log.info("Index d'autocomplétion construit: {} utilisateurs, {} Ko estimés, en {} ms",
+                next.size(), next.estimatedMemoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        return next;
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.DELETED) {
+            index.apply(idx -> idx.remove(event.userId()));
+        } else {
+            index.apply(idx -> idx.put(event.userId(), event.user().getUsername(), event.user().getEmail()));
+        }
+    }
+
+    /**
+     * Écritures d'une autre instance: les valeurs des ids notifiés sont relues.
+     */
+    @EventListener
+    public void onRemoteUsersChanged(RemoteUsersChangedEvent event) {
+        if (event.fullResync()) {
+            CompletableFuture.runAsync(this::rebuild);
+            return;
+        }
+        Set<Long> missing = new HashSet<>(event.userIds());
+        for (UserUniqueKeys keys : userRepository.findUniqueKeysByIdIn(event.userIds())) {
+            missing.remove(keys.getId());
+            index.apply(idx -> idx.put(keys.getId(), keys.getUsername(), keys.getEmail()));
+        }
+        missing.forEach(id -> index.apply(idx -> idx.remove(id)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.suggest.entries", this, suggestions -> suggestions.index.current().size())
+                .description("Utilisateurs présents dans l'index d'autocomplétion")
+                .register(registry);
+        Gauge.builder("users.suggest.memory", this, suggestions -> suggestions.index.current().estimatedMemoryBytes())
+                .baseUnit("bytes")
+                .description("Empreinte mémoire estimée de l'index d'autocomplétion")
+                .register(registry);
+        Gauge.builder("users.suggest.memory.per.entry", this, UserSuggestionIndex::bytesPerEntry)
+                .baseUnit("bytes")
+                .description("Empreinte mémoire estimée par utilisateur indexé")
+                .register(registry);
+    }
+
+    private double bytesPerEntry() {
+        PrefixIndex current = index.current();
+        return current.size() == 0 ? 0 : (double) current.estimatedMemoryBytes() / current.size();
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.audit.audit_management.index;
+
+import com.example.audit.audit_management.datasource.ReplicaRoutingContext;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import com.example.audit.audit_management.repository.UserRepository;
+import com.example.audit.audit_management.repository.UserUniqueKeys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Pré-vérification en mémoire de l'unicité des username et email.
+ * 
+ * Deux filtres de Bloom contiennent toutes les valeurs présentes en base:
+ * - Réponse négative: la valeur est certainement libre, la requête d'existence est évitée
+ * - Réponse positive: la valeur est peut-être prise, la base tranche
+ * 
+ * Cycle de vie:
+ * - Construction au démarrage en parcourant la table (projection scalaire, sans entités)
+ * - Ajout des valeurs à chaque écriture validée, locale ou distante
+ * - Reconstruction planifiée (app.index.uniqueness.rebuild-cron) pour purger les
+ *   valeurs supprimées ou modifiées et redimensionner le filtre; les écritures
+ *   concurrentes sont reportées dans le filtre en construction
+ * 
+ * Tant qu'aucun filtre n'est prêt, toutes les valeurs sont considérées comme
+ * possiblement prises: le comportement est alors celui sans filtre.
+ * L'index unique en base reste la garantie finale.
+ */
+@Component
+@Slf4j
+public class UserUniquenessFilter implements MeterBinder {
+
+    public enum Field {
+        USERNAME,
+        EMAIL
+    }
+
+    /**
+     * Filtres d'un même cycle de construction, remplacés ensemble.
+     */
+    private record Filters(ConcurrentBloomFilter usernames, ConcurrentBloomFilter emails) {
+
+        ConcurrentBloomFilter of(Field field) {
+            return field == Field.USERNAME ? usernames : emails;
+        }
+
+        void put(UserUniqueKeys keys) {
+            if (keys.getUsername() != null) {
+                usernames.put(keys.getUsername());
+            }
+            if (keys.getEmail() != null) {
+                emails.put(keys.getEmail());
+            }
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveRate;
+    private final long minExpectedInsertions;
+
+    private volatile Filters current;
+    private volatile Filters building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * Sérialise l'ajout aux filtres courant et en construction avec la bascule:
+     * une valeur ajoutée pendant celle-ci est toujours dans le nouveau filtre.
+     */
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    /**
+     * Valeurs déclarées possiblement prises par le filtre, et celles confirmées par la base:
+     * leur écart donne le taux de faux positifs observé.
+     */
+    private final AtomicLong positives = new AtomicLong();
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong negatives = new AtomicLong();
+
+    public UserUniquenessFilter(UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.index.uniqueness.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${app.index.uniqueness.min-expected-insertions:100000}") long minExpectedInsertions) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedInsertions = minExpectedInsertions;
+    }
+
+    /**
+     * Retient les valeurs qui sont peut-être déjà en base et doivent être vérifiées.
+     *
+     * @param field Le champ unique concerné
+     * @param values Les valeurs candidates
+     * @return Les valeurs à vérifier en base (toutes si le filtre n'est pas prêt)
+     */
+    public Set<String> mightExist(Field field, Collection<String> values) {
+        Filters filters = current;
+        if (filters == null) {
+            return new HashSet<>(values);
+        }
+        ConcurrentBloomFilter filter = filters.of(field);
+        Set<String> candidates = new HashSet<>();
+        for (String value : values) {
+            if (filter.mightContain(value)) {
+                candidates.add(value);
+            }
+        }
+        negatives.addAndGet(values.size() - candidates.size());
+        return candidates;
+    }
+
+    /**
+     * Enregistre le résultat de la vérification en base des valeurs retenues par le filtre.
+     *
+     * @param candidates Le nombre de valeurs déclarées possiblement prises
+     * @param existing Le nombre de valeurs effectivement présentes en base
+     */
+    public void recordOutcome(int candidates, int existing) {
+        if (current != null) {
+            positives.addAndGet(candidates);
+            confirmed.addAndGet(existing);
+        }
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * (Re)construit les filtres à partir de la table, puis remplace les filtres courants.
+     * Une seule reconstruction à la fois; les appels concurrents sont ignorés.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.index.uniqueness.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.debug("Reconstruction du filtre d'unicité déjà en cours");
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            // Marge pour absorber la croissance jusqu'à la prochaine reconstruction
+            long expected = Math.max(minExpectedInsertions, userRepository.count() * 2);
+            Filters next = new Filters(
+                    new ConcurrentBloomFilter(expected, falsePositiveRate),
+                    new ConcurrentBloomFilter(expected, falsePositiveRate));
+            // Publié avant le parcours: une écriture validée pendant celui-ci est
+            // soit vue par la requête, soit ajoutée directement au nouveau filtre
+            building = next;
+            // Primaire: un réplica en retard omettrait des écritures déjà validées
+            ReplicaRoutingContext.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserUniqueKeys> keys = userRepository.streamUniqueKeys()) {
+                    keys.forEach(next::put);
+                }
+            }));
+            swapLock.lock();
+            try {
+                current = next;
+                building = null;
+            } finally {
+                swapLock.unlock();
+            }
+            positives.set(0);
+            confirmed.set(0);
+            negatives.set(0);
+            log.info("Filtre d'unicité construit: {} utilisateurs, {} Ko, {} hachages, en {} ms",
+                    next.usernames().insertions(), memoryBytes() / 1024, next.usernames().hashCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("Échec de la construction du filtre d'unicité, le filtre précédent est conservé: {}", ex.getMessage());
+        } finally {
+            swapLock.lock();
+            try {
+                building = null;
+            } finally {
+                swapLock.unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Les valeurs remplacées ou supprimées restent dans le filtre (faux positifs)
+     * jusqu'à la prochaine reconstruction.
+     */
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.user() != null) {
+            put(new Keys(event.userId(), event.user().getUsername(), event.user().getEmail()));
+        }
+    }
+
+    /**
+     * Écritures d'une autre instance: seuls les ids sont notifiés, les valeurs sont relues.
+     */
+    @EventListener
+    public void onRemoteUsersChanged(RemoteUsersChangedEvent event) {
+        if (event.fullResync()) {
+            CompletableFuture.runAsync(this::rebuild);
+        } else if (current != null) {
+            List<UserUniqueKeys> keys = userRepository.findUniqueKeysByIdIn(event.userIds());
+            keys.forEach(this::put);
+        }
+    }
+
+    private void put(UserUniqueKeys keys) {
+        swapLock.lock();
+        try {
+            Filters filters = current;
+            if (filters != null) {
+                filters.put(keys);
+            }
+            Filters next = building;
+            if (next != null && next != filters) {
+                next.put(keys);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    long memoryBytes() {
+        Filters filters = current;
+        return filters == null ? 0 : filters.usernames().memoryBytes() + filters.emails().memoryBytes();
+    }
+
+    private double expectedFalsePositiveRate() {
+        Filters filters = current;
+        return filters == null ? 0 : Math.max(
+                filters.usernames().expectedFalsePositiveRate(),
+                filters.emails().expectedFalsePositiveRate());
+    }
+
+    private double observedFalsePositiveRate() {
+        long total = positives.get() - confirmed.get() + negatives.get();
+        return total == 0 ? 0 : (double) (positives.get() - confirmed.get()) / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.uniqueness.filter.memory", this, UserUniquenessFilter::memoryBytes)
+                .baseUnit("bytes")
+                .description("Empreinte mémoire des filtres de Bloom username/email")
+                .register(registry);
+        Gauge.builder("users.uniqueness.filter.fpp", this, UserUniquenessFilter::expectedFalsePositiveRate)
+                .tag("kind", "expected")
+                .description("Taux de faux positifs théorique au remplissage actuel")
+                .register(registry);
+        Gauge.builder("users.uniqueness.filter.fpp", this, UserUniquenessFilter::observedFalsePositiveRate)
+                .tag("kind", "observed")
+                .description("Taux de faux positifs observé (positifs infirmés par la base / valeurs absentes)")
+                .register(registry);
+        Gauge.builder("users.uniqueness.filter.skipped", negatives, AtomicLong::get)
+                .description("Valeurs pour lesquelles la requête d'existence a été évitée depuis la dernière reconstruction")
+                .register(registry);
+    }
+
+    private record Keys(Long id, String username, String email) implements UserUniqueKeys {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.audit.audit_management.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de concurrence adaptative, estimée d'après la latence (algorithme
+ * « gradient », proche de Vegas):
+ * - longRtt: latence de référence, moyenne lente des fenêtres précédentes
+ * - shortRtt: latence moyenne de la dernière fenêtre de windowSamples requêtes
+ * - gradient = tolérance x longRtt / shortRtt, borné à [0,5 ; 1]: la limite baisse
+ *   dès que la latence dépasse la référence de plus de la tolérance
+ * - nouvelle limite = limite x gradient + sqrt(limite) (file tolérée), lissée
+ *
+ * Une requête en échec de saturation (503, connexion non obtenue) réduit la
+ * limite de 10 % immédiatement. Une fenêtre où la concurrence observée reste
+ * sous la moitié de la limite ne la fait pas monter (aucune information sur
+ * la capacité). Après un ralentissement durable, la référence se rapproche
+ * de la latence courante pour que la limite puisse remonter.
+ *
+ * Les requêtes au-delà de la limite sont refusées sans attente (tryAcquire).
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_WINDOW = 100;
+    private static final double DROP_FACTOR = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final int windowSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private double estimatedLimit;
+    private double longRttNanos = Double.NaN;
+    private long windowRttNanos;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double rttTolerance, int windowSamples) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Limites invalides: min " + minLimit + ", max " + maxLimit);
+        }
+        if (rttTolerance < 1) {
+            throw new IllegalArgumentException("La tolérance de latence doit être >= 1: " + rttTolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.windowSamples = Math.max(1, windowSamples);
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * @return true si la requête peut s'exécuter; elle doit alors se terminer
+     *         par onSuccess, onDropped ou onIgnore
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Requête terminée normalement: sa latence alimente l'estimation.
+     */
+    public void onSuccess(long rttNanos) {
+        int concurrency = inFlight.getAndDecrement();
+        lock.lock();
+        try {
+            windowRttNanos += rttNanos;
+            windowMaxInFlight = Math.max(windowMaxInFlight, concurrency);
+            if (++windowCount >= windowSamples) {
+                update((double) windowRttNanos / windowCount, windowMaxInFlight);
+                windowRttNanos = 0;
+                windowCount = 0;
+                windowMaxInFlight = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Requête en échec de saturation: réduction immédiate de la limite.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        lock.lock();
+        try {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * DROP_FACTOR);
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Requête sans mesure exploitable (erreur client, réponse asynchrone).
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(double shortRttNanos, int maxInFlight) {
+        if (Double.isNaN(longRttNanos)) {
+            longRttNanos = shortRttNanos;
+        } else {
+            longRttNanos += (shortRttNanos - longRttNanos) / LONG_WINDOW;
+        }
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        double gradient = Math.clamp(rttTolerance * longRttNanos / shortRttNanos, 0.5, 1.0);
+        if (gradient >= 1.0 && maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.clamp(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+}
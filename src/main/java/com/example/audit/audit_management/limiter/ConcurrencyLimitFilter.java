@@ -0,0 +1,153 @@
+package com.example.audit.audit_management.limiter;
+
+import com.example.audit.audit_management.exception.ErrorResponse;
+import com.example.audit.audit_management.service.UserJsonStreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Délestage devant l'API utilisateurs: une limite de concurrence adaptative
+ * pour les lectures (GET, HEAD), une autre pour les écritures, afin qu'un
+ * afflux d'écritures lentes n'affame pas les lectures (et inversement).
+ *
+ * Au-delà de la limite, 503 immédiat avec Retry-After, au format de
+ * GlobalExceptionHandler: la requête ne prend ni thread en attente de
+ * connexion ni place dans la file Hikari. Une réponse 503 (pool épuisé)
+ * compte comme un signal de saturation et réduit la limite.
+ *
+ * Les exports et flux (NDJSON, CSV, application/vnd.audit.users+json) occupent
+ * une place le temps de la diffusion, mais leur durée, fonction du volume et
+ * du client, n'alimente pas l'estimation: un téléchargement de plusieurs
+ * minutes ferait sinon chuter la limite des lectures ordinaires.
+ *
+ * Métriques, étiquette type = read / write:
+ * - http.server.concurrency.limit: limite courante
+ * - http.server.concurrency.inflight: requêtes en cours
+ * - http.server.concurrency.rejected: requêtes refusées
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON,
+            MediaType.parseMediaType("text/csv"),
+            MediaType.parseMediaType(UserJsonStreamService.MEDIA_TYPE));
+
+    private final AdaptiveConcurrencyLimit readLimit;
+    private final AdaptiveConcurrencyLimit writeLimit;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Counter readRejected;
+    private final Counter writeRejected;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit readLimit,
+                                  AdaptiveConcurrencyLimit writeLimit,
+                                  MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper,
+                                  Duration retryAfter) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.readRejected = bind(meterRegistry, "read", readLimit);
+        this.writeRejected = bind(meterRegistry, "write", writeLimit);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = isRead(request.getMethod());
+        AdaptiveConcurrencyLimit limit = read ? readLimit : writeLimit;
+        if (!limit.tryAcquire()) {
+            (read ? readRejected : writeRejected).increment();
+            log.debug("Requête {} {} refusée: limite de concurrence {} atteinte",
+                    request.getMethod(), request.getRequestURI(), limit.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                limit.onDropped();
+            } else if (!completed || request.isAsyncStarted() || response.getStatus() >= 400
+                    || isStreaming(response.getContentType())) {
+                limit.onIgnore();
+            } else {
+                limit.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service indisponible")
+                .message("Trop de requêtes en cours, veuillez réessayer")
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    static boolean isRead(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    /**
+     * @param contentType Le type de contenu de la réponse, ou null
+     * @return true pour une réponse diffusée en flux (export, liste streamée)
+     */
+    static boolean isStreaming(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return STREAMING_TYPES.stream().anyMatch(type -> type.equalsTypeAndSubtype(mediaType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static Counter bind(MeterRegistry meterRegistry, String type, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("http.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Limite de concurrence adaptative courante")
+                .tag("type", type)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requêtes en cours sous la limite de concurrence")
+                .tag("type", type)
+                .register(meterRegistry);
+        return Counter.builder("http.server.concurrency.rejected")
+                .description("Requêtes refusées (503) par la limite de concurrence")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.audit.audit_management.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Métriques du pipeline de logs asynchrone (logback-spring.xml):
+ * - logging.events.dropped{appender}: événements abandonnés, tampon plein
+ * - logging.queue.size{appender} / logging.queue.remaining{appender}: remplissage du tampon
+ * - logging.events.sampled.out: lignes INFO écartées par échantillonnage
+ *
+ * Les appenders et filtres sont créés par Logback avant le contexte Spring:
+ * ils sont retrouvés dans le LoggerContext au moment de l'enregistrement.
+ */
+@Component
+public class AsyncLoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders =
+                context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof MeteredAsyncAppender appender) {
+                bindAppender(registry, appender);
+            }
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SamplingTurboFilter sampling) {
+                FunctionCounter.builder("logging.events.sampled.out", sampling, SamplingTurboFilter::getSampledOutCount)
+                        .description("Lignes INFO écartées par échantillonnage")
+                        .register(registry);
+            }
+        }
+    }
+
+    private static void bindAppender(MeterRegistry registry, MeteredAsyncAppender appender) {
+        String name = appender.getName();
+        FunctionCounter.builder("logging.events.dropped", appender, MeteredAsyncAppender::getDroppedCount)
+                .description("Événements de log abandonnés (tampon asynchrone plein)")
+                .tag("appender", name)
+                .register(registry);
+        Gauge.builder("logging.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                .description("Événements de log en attente d'écriture")
+                .tag("appender", name)
+                .register(registry);
+        Gauge.builder("logging.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                .description("Places libres du tampon de logs asynchrone")
+                .tag("appender", name)
+                .register(registry);
+    }
+}
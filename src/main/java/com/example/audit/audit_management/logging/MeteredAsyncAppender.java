@@ -0,0 +1,37 @@
+package com.example.audit.audit_management.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender Logback qui compte les événements abandonnés.
+ *
+ * Les événements sont placés dans un tampon circulaire borné (queueSize) et
+ * écrits par un thread dédié: le thread de la requête ne fait jamais d'I/O.
+ * Avec neverBlock=true, un tampon plein abandonne l'événement au lieu de
+ * bloquer l'appelant; sous discardingThreshold places libres, les événements
+ * INFO et moins sont abandonnés en premier (WARN et ERROR conservés).
+ *
+ * Le comptage précède l'insertion, il est donc approché (quelques événements
+ * près) lorsque le tampon se remplit au même instant depuis plusieurs threads.
+ * Exposé par AsyncLoggingMetrics (logging.events.dropped).
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining == 0 || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.audit.audit_management.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Échantillonnage des logs INFO à fort volume (ex: une ligne par requête
+ * dans UserController): seule une ligne sur {@code rate} est conservée,
+ * tirée au hasard, pour les loggers dont le nom commence par un des préfixes
+ * de {@code loggers}. WARN et ERROR ne sont jamais échantillonnés.
+ *
+ * Filtre « turbo »: la décision est prise avant la création de l'événement,
+ * une ligne écartée ne coûte ni allocation ni formatage.
+ * Les lignes écartées sont comptées (logging.events.sampled.out).
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private int rate = 1;
+    private String[] loggers = new String[0];
+    private final LongAdder sampledOut = new LongAdder();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format == null: test isInfoEnabled(), jamais échantillonné
+        if (rate <= 1 || format == null || level != Level.INFO || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (ThreadLocalRandom.current().nextInt(rate) == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param rate Une ligne conservée sur {@code rate} (1: pas d'échantillonnage)
+     */
+    public void setRate(int rate) {
+        this.rate = Math.max(1, rate);
+    }
+
+    /**
+     * @param loggers Préfixes de noms de loggers, séparés par des virgules
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+}
@@ -29,6 +29,8 @@ public class UserMapper {
                 .email(user.getEmail())
                 .role(user.getRole())
                 .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
                 .build();
     }
 
@@ -67,6 +69,6 @@ public class UserMapper {
         if (dto.getRole() != null) {
             existingUser.setRole(dto.getRole());
         }
-        // Note: id et createdAt ne sont jamais modifiés
+        // Note: id, createdAt et version ne sont jamais modifiés (la version est gérée par Hibernate)
     }
 }
@@ -0,0 +1,123 @@
+package com.example.audit.audit_management.monitoring;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latence par couche: chaque méthode publique des contrôleurs (@RestController),
+ * services (@Service) et repositories (Spring Data compris) est mesurée par
+ * une Observation {@value #OBSERVATION_NAME}.
+ *
+ * Avec le registre Micrometer, chaque Observation produit le timer
+ * app.layer{layer, operation, error}:
+ * - layer: controller, service ou repository
+ * - operation: Classe.méthode (ex: UserServiceImpl.getUserById), nombre borné par le code
+ *
+ * Histogrammes de centiles et buckets SLO: management.metrics.distribution.*.app.layer
+ * (application.yaml). Le temps hors contrôleur d'une requête (filtres, validation
+ * des arguments, sérialisation) se déduit de http.server.requests - layer="controller".
+ *
+ * Coût par appel mesuré par LayerObservationBenchmark (budget: quelques
+ * microsecondes au plus). Désactivable avec app.observability.layers.enabled=false.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.observability.layers.enabled", havingValue = "true", matchIfMissing = true)
+public class LayerObservationAspect {
+
+    public static final String OBSERVATION_NAME = "app.layer";
+
+    static final String LAYER = "layer";
+    static final String OPERATION = "operation";
+
+    private static final String APPLICATION_PACKAGE = "com.example.audit.";
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Étiquettes par (classe, méthode), calculées une fois: le chemin chaud
+     * ne fait ni réflexion ni concaténation.
+     */
+    private final Map<Class<?>, Map<Method, KeyValues>> keyValues = new ConcurrentHashMap<>();
+
+    public LayerObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) && within(com.example.audit..*)")
+    public Object observeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "controller");
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && within(com.example.audit..*)")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "service");
+    }
+
+    /**
+     * Repositories JDBC du package repository et repositories Spring Data: ces
+     * derniers sont des proxies JDK, le nom retenu est celui de l'interface
+     * applicative (UserRepository), méthodes héritées (findById, save...) comprises.
+     */
+    @Around("(within(com.example.audit.audit_management.repository..*)"
+            + " || this(org.springframework.data.repository.Repository)) && execution(public * *(..))")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "repository");
+    }
+
+    private Object observe(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        if (observationRegistry.isNoop()) {
+            return joinPoint.proceed();
+        }
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .lowCardinalityKeyValues(keyValuesOf(joinPoint, layer))
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private KeyValues keyValuesOf(ProceedingJoinPoint joinPoint, String layer) {
+        Object proxy = joinPoint.getThis();
+        Class<?> type = proxy != null ? proxy.getClass() : joinPoint.getSignature().getDeclaringType();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return keyValues.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, m -> KeyValues.of(
+                        LAYER, layer,
+                        OPERATION, operationName(type, m)));
+    }
+
+    /**
+     * @return Classe.méthode, avec le nom de l'interface applicative pour un proxy JDK
+     */
+    static String operationName(Class<?> type, Method method) {
+        Class<?> named = ClassUtils.getUserClass(type);
+        if (Proxy.isProxyClass(type)) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getName().startsWith(APPLICATION_PACKAGE)) {
+                    named = candidate;
+                    break;
+                }
+            }
+        }
+        return named.getSimpleName() + "." + method.getName();
+    }
+}
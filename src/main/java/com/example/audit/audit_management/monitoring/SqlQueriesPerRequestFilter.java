@@ -0,0 +1,56 @@
+package com.example.audit.audit_management.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Nombre d'instructions SQL par requête HTTP: DistributionSummary
+ * db.statements.per.request{method, uri}, uri étant le modèle de chemin
+ * (/api/users/{id}) pour garder une cardinalité bornée.
+ *
+ * Une hausse brutale pour un même uri signale un N+1 (une requête par élément).
+ * Seules les instructions exécutées sur le thread de la requête sont comptées
+ * (pas celles des réponses en flux écrites après le contrôleur).
+ */
+@Slf4j
+public class SqlQueriesPerRequestFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "db.statements.per.request";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlQueriesPerRequestFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlQueryCounter.Snapshot before = SqlQueryCounter.snapshot();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = SqlQueryCounter.snapshot().minus(before).total();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Instructions SQL exécutées par requête HTTP")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            log.debug("{} {}: {} instruction(s) SQL", request.getMethod(), uri, statements);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.audit.audit_management.monitoring;
+
+import net.ttddyy.dsproxy.QueryType;
+
+/**
+ * Compteurs d'instructions SQL du thread courant, alimentés par
+ * SqlStatementListener pour chaque exécution (un lot JDBC compte pour une).
+ *
+ * Les compteurs ne sont jamais remis à zéro: on mesure une portion de code
+ * par différence entre deux {@link #snapshot()}, ce qui permet d'imbriquer
+ * les mesures (requête HTTP, assertion de test). Seules les instructions
+ * exécutées sur le thread courant sont comptées.
+ */
+public final class SqlQueryCounter {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[QueryType.values().length]);
+
+    private SqlQueryCounter() {
+    }
+
+    static void increment(QueryType type) {
+        COUNTS.get()[type.ordinal()]++;
+    }
+
+    /**
+     * @return Les compteurs actuels du thread courant
+     */
+    public static Snapshot snapshot() {
+        long[] counts = COUNTS.get();
+        return new Snapshot(
+                counts[QueryType.SELECT.ordinal()],
+                counts[QueryType.INSERT.ordinal()],
+                counts[QueryType.UPDATE.ordinal()],
+                counts[QueryType.DELETE.ordinal()],
+                counts[QueryType.OTHER.ordinal()]);
+    }
+
+    /**
+     * Nombre d'instructions par type.
+     */
+    public record Snapshot(long selects, long inserts, long updates, long deletes, long others) {
+
+        public long total() {
+            return selects + inserts + updates + deletes + others;
+        }
+
+        /**
+         * @return Les instructions exécutées depuis {@code earlier}
+         */
+        public Snapshot minus(Snapshot earlier) {
+            return new Snapshot(
+                    selects - earlier.selects,
+                    inserts - earlier.inserts,
+                    updates - earlier.updates,
+                    deletes - earlier.deletes,
+                    others - earlier.others);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.audit.audit_management.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure de chaque instruction JDBC (datasource-proxy, voir DataSourceProxyConfig):
+ * - Timer db.statements{type, outcome} (type: select, insert, update, delete, other)
+ * - Compteurs par thread (SqlQueryCounter): instructions par requête HTTP et budgets de tests
+ * - Journal des instructions plus lentes que app.sql.slow-query.threshold, avec
+ *   la forme des paramètres (types, jamais les valeurs)
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    public static final String METRIC_NAME = "db.statements";
+
+    private static final String START_NANOS = SqlStatementListener.class.getName() + ".start";
+    private static final int MAX_LOGGED_SQL_LENGTH = 1_000;
+
+    private final long slowThresholdNanos;
+    private final Map<QueryType, Timer> successTimers = new EnumMap<>(QueryType.class);
+    private final Map<QueryType, Timer> errorTimers = new EnumMap<>(QueryType.class);
+
+    public SqlStatementListener(MeterRegistry meterRegistry, Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        for (QueryType type : QueryType.values()) {
+            successTimers.put(type, timer(meterRegistry, type, "success"));
+            errorTimers.put(type, timer(meterRegistry, type, "error"));
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsed = start != null ? System.nanoTime() - start : execInfo.getElapsedTime() * 1_000_000;
+        QueryType type = queryInfoList.isEmpty()
+                ? QueryType.OTHER
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+
+        SqlQueryCounter.increment(type);
+        Map<QueryType, Timer> timers = execInfo.isSuccess() ? successTimers : errorTimers;
+        timers.get(type).record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowThresholdNanos && !queryInfoList.isEmpty()) {
+            logSlowQuery(execInfo, queryInfoList.get(0), type, elapsed);
+        }
+    }
+
+    private void logSlowQuery(ExecutionInfo execInfo, QueryInfo queryInfo, QueryType type, long elapsedNanos) {
+        long elapsedMs = elapsedNanos / 1_000_000;
+        String sql = normalize(queryInfo.getQuery());
+        String parameters = parameterShapes(queryInfo.getParametersList());
+        log.atWarn()
+                .addKeyValue("elapsedMs", elapsedMs)
+                .addKeyValue("type", type.name().toLowerCase(Locale.ROOT))
+                .addKeyValue("batchSize", execInfo.getBatchSize())
+                .addKeyValue("success", execInfo.isSuccess())
+                .addKeyValue("sql", sql)
+                .addKeyValue("parameters", parameters)
+                .log("Requête SQL lente ({} ms): {} paramètres {}", elapsedMs, sql, parameters);
+    }
+
+    /**
+     * Forme des paramètres liés du premier jeu: types dans l'ordre des index,
+     * suivis du nombre de jeux pour un lot. Ex: [Long, String, null] x 50
+     */
+    static String parameterShapes(List<List<ParameterSetOperation>> parametersList) {
+        if (parametersList == null || parametersList.isEmpty()) {
+            return "[]";
+        }
+        StringJoiner shapes = new StringJoiner(", ", "[", "]");
+        parametersList.get(0).stream()
+                .sorted(Comparator.comparingInt(operation ->
+                        operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE))
+                .forEach(operation -> shapes.add(shapeOf(operation)));
+        int sets = parametersList.size();
+        return sets > 1 ? shapes + " x " + sets : shapes.toString();
+    }
+
+    private static String shapeOf(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+
+    static String normalize(String sql) {
+        String collapsed = sql.replaceAll("\\s+", " ").trim();
+        return collapsed.length() > MAX_LOGGED_SQL_LENGTH
+                ? collapsed.substring(0, MAX_LOGGED_SQL_LENGTH) + "..."
+                : collapsed;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, QueryType type, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Instructions SQL exécutées (lots JDBC compris)")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.audit.audit_management.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Diagnostic de l'épinglage des threads virtuels (JDK 21).
+ *
+ * Un thread virtuel qui bloque dans une section synchronized (ou un appel
+ * natif) reste attaché à son thread porteur: avec un porteur par cœur, quelques
+ * épinglages longs suffisent à bloquer tout le serveur. Le JDK signale ces cas
+ * par l'événement JFR jdk.VirtualThreadPinned, écouté ici en continu:
+ * - Timer jvm.threads.virtual.pinned (nombre et durée des épinglages)
+ * - Un avertissement par emplacement distinct, avec la première frame
+ *   applicative de la pile (les suivants au niveau debug)
+ *
+ * Seuls les épinglages plus longs que app.threads.pinning.threshold sont
+ * enregistrés, comme le fait -Djdk.tracePinnedThreads sans son coût par événement.
+ *
+ * Actif uniquement avec spring.threads.virtual.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String APPLICATION_PACKAGE = "com.example.audit.";
+    private static final int MAX_REPORTED_LOCATIONS = 1_000;
+
+    private final Duration threshold;
+    private final Timer pinned;
+
+    /**
+     * Emplacements déjà signalés, pour ne pas répéter l'avertissement.
+     */
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.threads.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Épinglages de threads virtuels sur leur porteur (au-delà du seuil)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("Surveillance de l'épinglage des threads virtuels démarrée (seuil {} ms)", threshold.toMillis());
+        } catch (RuntimeException ex) {
+            // JFR peut être absent ou désactivé (image minimale): l'application fonctionne sans
+            log.warn("Surveillance de l'épinglage indisponible: {}", ex.getMessage());
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String location = locationOf(event.getStackTrace());
+        if (reportedLocations.size() < MAX_REPORTED_LOCATIONS && reportedLocations.add(location)) {
+            log.warn("Thread virtuel épinglé {} ms dans {} (section synchronized ou appel natif bloquant)",
+                    event.getDuration().toMillis(), location);
+        } else {
+            log.debug("Thread virtuel épinglé {} ms dans {}", event.getDuration().toMillis(), location);
+        }
+    }
+
+    /**
+     * @return La première frame applicative de la pile, ou à défaut la frame la plus haute
+     */
+    static String locationOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<pile inconnue>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame selected = frames.get(0);
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                selected = frame;
+                break;
+            }
+        }
+        return selected.getMethod().getType().getName() + "." + selected.getMethod().getName()
+                + ":" + selected.getLineNumber();
+    }
+}
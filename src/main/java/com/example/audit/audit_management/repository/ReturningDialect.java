@@ -0,0 +1,48 @@
+package com.example.audit.audit_management.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Locale;
+
+/**
+ * Manière d'obtenir les lignes touchées par un UPDATE ou un DELETE
+ * dans le même aller-retour que l'instruction.
+ */
+@Slf4j
+enum ReturningDialect {
+
+    /**
+     * PostgreSQL: {@code UPDATE ... RETURNING ...}, {@code DELETE ... RETURNING ...}.
+     */
+    RETURNING,
+
+    /**
+     * H2: {@code SELECT ... FROM FINAL TABLE (UPDATE ...)}, {@code SELECT ... FROM OLD TABLE (DELETE ...)}.
+     */
+    DELTA_TABLE,
+
+    /**
+     * Autres bases: lecture séparée, dans la même transaction.
+     */
+    NONE;
+
+    static ReturningDialect detect(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            if (normalized.contains("postgresql")) {
+                return RETURNING;
+            }
+            if (normalized.contains("h2")) {
+                return DELTA_TABLE;
+            }
+        } catch (MetaDataAccessException ex) {
+            log.warn("Base de données non identifiée ({}), lignes modifiées relues séparément", ex.getMessage());
+        }
+        return NONE;
+    }
+}
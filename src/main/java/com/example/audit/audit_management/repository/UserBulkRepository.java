@@ -0,0 +1,90 @@
+package com.example.audit.audit_management.repository;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Opérations ensemblistes sur les utilisateurs d'un rôle, en une instruction SQL.
+ * 
+ * Les lignes touchées sont renvoyées par la même instruction (voir
+ * {@link ReturningDialect}): l'appelant connaît exactement les utilisateurs
+ * à invalider dans les caches et index, sans requête supplémentaire et sans
+ * fenêtre entre lecture et écriture. Sur une base sans cette possibilité,
+ * les lignes sont lues et verrouillées avant l'écriture (une ligne insérée
+ * entre les deux peut alors être touchée sans être renvoyée).
+ * 
+ * Hors JPA: les entités éventuellement chargées dans le contexte de
+ * persistance courant ne reflètent pas ces écritures.
+ */
+@Repository
+@Slf4j
+public class UserBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReturningDialect dialect;
+
+    public UserBulkRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = ReturningDialect.detect(dataSource);
+    }
+
+    /**
+     * Supprime tous les utilisateurs d'un rôle.
+     *
+     * @param role Le rôle exact
+     * @return Les identifiants des utilisateurs supprimés
+     */
+    public List<Long> deleteByRole(String role) {
+        String delete = "DELETE FROM users WHERE role = ?";
+        return switch (dialect) {
+            case RETURNING -> jdbcTemplate.queryForList(delete + " RETURNING id", Long.class, role);
+            case DELTA_TABLE -> jdbcTemplate.queryForList("SELECT id FROM OLD TABLE (" + delete + ")", Long.class, role);
+            case NONE -> {
+                List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM users WHERE role = ? FOR UPDATE", Long.class, role);
+                jdbcTemplate.update(delete, role);
+                yield ids;
+            }
+        };
+    }
+
+    /**
+     * Attribue un nouveau rôle à tous les utilisateurs d'un rôle
+     * (version incrémentée, date de modification mise à jour).
+     *
+     * @param fromRole Le rôle actuel exact
+     * @param toRole Le nouveau rôle
+     * @return Le nouvel état des utilisateurs modifiés
+     */
+    public List<UserDTO> reassignRole(String fromRole, String toRole) {
+        LocalDateTime now = LocalDateTime.now();
+        String update = "UPDATE users SET role = ?, updated_at = ?, version = version + 1 WHERE role = ?";
+        Object[] args = {toRole, Timestamp.valueOf(now), fromRole};
+        return switch (dialect) {
+            case RETURNING -> jdbcTemplate.query(
+                    update + " RETURNING " + UserPatchRepository.RETURNED_COLUMNS,
+                    UserPatchRepository.USER_ROW_MAPPER, args);
+            case DELTA_TABLE -> jdbcTemplate.query(
+                    "SELECT " + UserPatchRepository.RETURNED_COLUMNS + " FROM FINAL TABLE (" + update + ")",
+                    UserPatchRepository.USER_ROW_MAPPER, args);
+            case NONE -> {
+                List<UserDTO> rows = jdbcTemplate.query(
+                        "SELECT " + UserPatchRepository.RETURNED_COLUMNS + " FROM users WHERE role = ? FOR UPDATE",
+                        UserPatchRepository.USER_ROW_MAPPER, fromRole);
+                jdbcTemplate.update(update, args);
+                rows.forEach(row -> {
+                    row.setRole(toRole);
+                    row.setUpdatedAt(now);
+                    row.setVersion(row.getVersion() + 1);
+                });
+                yield rows;
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.audit.audit_management.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection des attributs de filtrage d'un utilisateur (rôle, email, date de création).
+ */
+public interface UserFilterKeys {
+
+    Long getId();
+
+    String getRole();
+
+    String getEmail();
+
+    LocalDateTime getCreatedAt();
+}
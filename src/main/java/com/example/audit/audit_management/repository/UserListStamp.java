@@ -0,0 +1,18 @@
+package com.example.audit.audit_management.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection de l'empreinte d'une liste d'utilisateurs.
+ *
+ * Toute écriture la modifie: une création ou une suppression change le nombre,
+ * une mise à jour incrémente une version (et avance la dernière modification).
+ */
+public interface UserListStamp {
+
+    long getCount();
+
+    LocalDateTime getLastModified();
+
+    Long getVersionSum();
+}
@@ -0,0 +1,99 @@
+package com.example.audit.audit_management.repository;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserPatchDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Modification partielle d'un utilisateur en une seule instruction SQL.
+ * 
+ * L'UPDATE ne porte que sur les colonnes fournies, incrémente la version
+ * (contrôle optionnel "and version = ?") et renvoie le nouvel état dans le
+ * même aller-retour:
+ * - PostgreSQL: UPDATE ... RETURNING
+ * - H2: SELECT ... FROM FINAL TABLE (UPDATE ...)
+ * - Autres bases: UPDATE puis SELECT, dans la même transaction
+ * 
+ * Hors JPA: aucune entité n'est chargée, et le contexte de persistance n'est
+ * pas informé de l'écriture (l'appelant ne doit pas avoir chargé l'utilisateur).
+ */
+@Repository
+@Slf4j
+public class UserPatchRepository {
+
+    static final String RETURNED_COLUMNS = "id, username, email, role, created_at, updated_at, version";
+
+    static final RowMapper<UserDTO> USER_ROW_MAPPER = (rs, rowNum) -> UserDTO.builder()
+            .id(rs.getLong("id"))
+            .username(rs.getString("username"))
+            .email(rs.getString("email"))
+            .role(rs.getString("role"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .version(rs.getLong("version"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReturningDialect dialect;
+
+    public UserPatchRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = ReturningDialect.detect(dataSource);
+        log.info("Modification partielle des utilisateurs: {}", dialect);
+    }
+
+    /**
+     * Applique les champs renseignés du patch.
+     *
+     * @param id L'identifiant de l'utilisateur
+     * @param patch Les champs à modifier (au moins un)
+     * @param expectedVersion La version attendue (null pour ne pas la contrôler)
+     * @return Le nouvel état, ou vide si l'utilisateur n'existe pas ou n'a plus la version attendue
+     * @throws org.springframework.dao.DuplicateKeyException si le nom ou l'email est déjà pris
+     */
+    public Optional<UserDTO> patch(long id, UserPatchDTO patch, Long expectedVersion) {
+        List<Object> args = new ArrayList<>(6);
+        StringBuilder update = new StringBuilder("UPDATE users SET ");
+        if (patch.getUsername() != null) {
+            update.append("username = ?, ");
+            args.add(patch.getUsername());
+        }
+        if (patch.getEmail() != null) {
+            update.append("email = ?, ");
+            args.add(patch.getEmail());
+        }
+        if (patch.getRole() != null) {
+            update.append("role = ?, ");
+            args.add(patch.getRole());
+        }
+        // Même horloge que @PreUpdate: l'application, pas la base
+        update.append("updated_at = ?, version = version + 1 WHERE id = ?");
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.add(id);
+        if (expectedVersion != null) {
+            update.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+
+        List<UserDTO> rows = switch (dialect) {
+            case RETURNING -> jdbcTemplate.query(
+                    update + " RETURNING " + RETURNED_COLUMNS, USER_ROW_MAPPER, args.toArray());
+            case DELTA_TABLE -> jdbcTemplate.query(
+                    "SELECT " + RETURNED_COLUMNS + " FROM FINAL TABLE (" + update + ")", USER_ROW_MAPPER, args.toArray());
+            case NONE -> jdbcTemplate.update(update.toString(), args.toArray()) == 0
+                    ? List.of()
+                    : jdbcTemplate.query("SELECT " + RETURNED_COLUMNS + " FROM users WHERE id = ?", USER_ROW_MAPPER, id);
+        };
+        return rows.stream().findFirst();
+    }
+}
@@ -1,11 +1,22 @@
 package com.example.audit.audit_management.repository;
 
+import com.example.audit.audit_management.dto.UserDTO;
 import com.example.audit.audit_management.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository Spring Data JPA pour l'entité User.
@@ -15,10 +26,21 @@ import java.util.Optional;
  * 
  * Les méthodes personnalisées suivent la convention de nommage
  * Spring Data pour générer les requêtes automatiquement.
+ * 
+ * Les méthodes de lecture "Dto" construisent directement des {@link UserDTO}
+ * depuis le résultat JDBC (expression constructeur JPQL): aucune entité
+ * gérée, ni snapshot de dirty-checking, ni copie par le mapper.
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Projection constructeur commune aux lectures en DTO
+     * (ordre des arguments: celui du constructeur de {@link UserDTO}).
+     */
+    String USER_DTO_SELECT = "select new com.example.audit.audit_management.dto.UserDTO("
+            + "u.id, u.username, u.email, u.role, u.createdAt, u.updatedAt, u.version) from User u";
+
     /**
      * Recherche un utilisateur par son nom d'utilisateur.
      *
@@ -66,4 +88,172 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return La liste des utilisateurs correspondants
      */
     List<User> findByUsernameContainingIgnoreCase(String username);
+
+    /**
+     * Parcourt tous les utilisateurs via un curseur JDBC.
+     * 
+     * Le fetch size borne le nombre de lignes chargées par aller-retour
+     * (sur PostgreSQL, il n'est respecté qu'à l'intérieur d'une transaction).
+     * Les entités étant en lecture seule, Hibernate ne conserve pas de snapshot
+     * pour le dirty-checking. Le Stream doit être fermé par l'appelant.
+     *
+     * @return Un Stream paresseux de tous les utilisateurs, trié par identifiant
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from User u order by u.id")
+    Stream<User> streamAllByOrderByIdAsc();
+
+    /**
+     * Parmi les noms fournis, retourne ceux déjà utilisés.
+     * 
+     * Une seule requête ensembliste remplace un SELECT par utilisateur
+     * lors des créations en lot.
+     *
+     * @param usernames Les noms d'utilisateur à vérifier
+     * @return Les noms d'utilisateur déjà existants
+     */
+    @Query("select u.username from User u where u.username in :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Parmi les emails fournis, retourne ceux déjà utilisés.
+     *
+     * @param emails Les emails à vérifier
+     * @return Les emails déjà existants
+     */
+    @Query("select u.email from User u where u.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Parcourt les clés uniques (username, email) de tous les utilisateurs.
+     * Utilisé pour construire les index en mémoire (filtre d'unicité, recherche).
+     *
+     * @return Un Stream paresseux des clés uniques, à fermer par l'appelant
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.id as id, u.username as username, u.email as email from User u")
+    Stream<UserUniqueKeys> streamUniqueKeys();
+
+    /**
+     * Clés uniques d'un ensemble d'utilisateurs.
+     *
+     * @param ids Les identifiants des utilisateurs
+     * @return Les clés uniques des utilisateurs existants
+     */
+    @Query("select u.id as id, u.username as username, u.email as email from User u where u.id in :ids")
+    List<UserUniqueKeys> findUniqueKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Parcourt les attributs de filtrage de tous les utilisateurs, triés par identifiant.
+     * Utilisé pour construire l'index bitmap de filtrage (ordinaux dans l'ordre des ids).
+     *
+     * @return Un Stream paresseux des attributs, à fermer par l'appelant
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.id as id, u.role as role, u.email as email, u.createdAt as createdAt from User u order by u.id")
+    Stream<UserFilterKeys> streamFilterKeys();
+
+    /**
+     * Attributs de filtrage d'un ensemble d'utilisateurs.
+     *
+     * @param ids Les identifiants des utilisateurs
+     * @return Les attributs des utilisateurs existants
+     */
+    @Query("select u.id as id, u.role as role, u.email as email, u.createdAt as createdAt from User u where u.id in :ids")
+    List<UserFilterKeys> findFilterKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recherche un utilisateur par identifiant, en DTO.
+     *
+     * @param id L'identifiant de l'utilisateur
+     * @return Un Optional contenant l'utilisateur ou vide
+     */
+    @Query(USER_DTO_SELECT + " where u.id = :id")
+    Optional<UserDTO> findDtoById(@Param("id") Long id);
+
+    /**
+     * Première page de la pagination par curseur, en DTO.
+     * 
+     * L'utilisation de {@link Limit} (et non de Pageable) évite
+     * la requête COUNT(*) associée à chaque page.
+     *
+     * @param limit Le nombre maximal d'utilisateurs
+     * @return Les premiers utilisateurs, triés par identifiant
+     */
+    @Query(USER_DTO_SELECT + " order by u.id")
+    List<UserDTO> findDtoPage(Limit limit);
+
+    /**
+     * Page suivante de la pagination par curseur (keyset), en DTO.
+     * 
+     * Le prédicat {@code id > :after} s'appuie sur l'index de la clé primaire:
+     * le coût d'une page est constant, quelle que soit sa position.
+     *
+     * @param after Le dernier identifiant de la page précédente
+     * @param limit Le nombre maximal d'utilisateurs
+     * @return Les utilisateurs d'identifiant supérieur, triés par identifiant
+     */
+    @Query(USER_DTO_SELECT + " where u.id > :after order by u.id")
+    List<UserDTO> findDtoPageAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Recherche les utilisateurs par rôle, en DTO.
+     *
+     * @param role Le rôle à rechercher
+     * @return La liste des utilisateurs ayant ce rôle
+     */
+    @Query(USER_DTO_SELECT + " where u.role = :role")
+    List<UserDTO> findDtosByRole(@Param("role") String role);
+
+    /**
+     * Charge un ensemble d'utilisateurs par identifiant, en DTO (ordre non garanti).
+     *
+     * @param ids Les identifiants des utilisateurs
+     * @return Les utilisateurs existants
+     */
+    @Query(USER_DTO_SELECT + " where u.id in :ids")
+    List<UserDTO> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Empreinte de l'ensemble des utilisateurs, pour les requêtes conditionnelles
+     * sur les listes: une agrégation, sans lecture des lignes vers l'application.
+     *
+     * @return Nombre d'utilisateurs, dernière modification et somme des versions
+     */
+    @Query("select count(u) as count, max(u.updatedAt) as lastModified, sum(u.version) as versionSum from User u")
+    UserListStamp findListStamp();
+
+    /**
+     * Empreinte des utilisateurs d'un rôle.
+     *
+     * @param role Le rôle
+     * @return Nombre d'utilisateurs, dernière modification et somme des versions
+     */
+    @Query("select count(u) as count, max(u.updatedAt) as lastModified, sum(u.version) as versionSum "
+            + "from User u where u.role = :role")
+    UserListStamp findListStampByRole(@Param("role") String role);
+
+    /**
+     * Supprime un utilisateur en une instruction, sans le charger au préalable
+     * (contrairement à deleteById).
+     *
+     * @param id L'identifiant de l'utilisateur
+     * @return Le nombre de lignes supprimées (0 si l'utilisateur n'existe pas)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.id = :id")
+    int deleteUserById(@Param("id") Long id);
+
+    /**
+     * Supprime un ensemble d'utilisateurs en une instruction.
+     *
+     * @param ids Les identifiants des utilisateurs
+     * @return Le nombre de lignes supprimées
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
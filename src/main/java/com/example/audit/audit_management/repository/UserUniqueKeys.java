@@ -0,0 +1,16 @@
+package com.example.audit.audit_management.repository;
+
+/**
+ * Projection de l'identifiant et des clés uniques d'un utilisateur.
+ * 
+ * Les projections scalaires ne sont pas gérées par le contexte de persistance:
+ * un parcours complet de la table ne charge aucune entité.
+ */
+public interface UserUniqueKeys {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
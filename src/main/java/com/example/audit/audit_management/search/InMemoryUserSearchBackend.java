@@ -0,0 +1,129 @@
+package com.example.audit.audit_management.search;
+
+import com.example.audit.audit_management.datasource.ReplicaRoutingContext;
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import com.example.audit.audit_management.index.SwappableIndex;
+import com.example.audit.audit_management.index.TrigramIndex;
+import com.example.audit.audit_management.repository.UserRepository;
+import com.example.audit.audit_management.repository.UserUniqueKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Recherche par sous-chaîne sur un {@link TrigramIndex} en mémoire (H2 / dev).
+ * 
+ * - Construction au démarrage en parcourant la table, reconstruction planifiée
+ *   (app.search.memory.rebuild-cron) pour purger les entrées obsolètes
+ * - Mise à jour dès l'écriture (une relecture dans la même transaction trouve
+ *   l'utilisateur), puis après commit; suppression après commit uniquement
+ * - Seuls les {@code limit} meilleurs identifiants sont chargés en base, et
+ *   revérifiés: une écriture annulée ne produit jamais de résultat fantôme
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryUserSearchBackend implements UserSearchBackend {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final SwappableIndex<TrigramIndex> index = new SwappableIndex<>("l'index de recherche", TrigramIndex.empty());
+
+    public InMemoryUserSearchBackend(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<UserDTO> search(String term, int limit) {
+        List<Long> ids = index.current().search(term, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String normalized = term.toLowerCase(Locale.ROOT);
+        Map<Long, UserDTO> users = userRepository.findDtosByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserDTO::getId, Function.identity()));
+        List<UserDTO> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            UserDTO user = users.get(id);
+            if (user != null && user.getUsername().toLowerCase(Locale.ROOT).contains(normalized)) {
+                results.add(user);
+            }
+        }
+        return results;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.memory.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        index.rebuild(this::load);
+    }
+
+    private TrigramIndex load() {
+        long start = System.nanoTime();
+        TrigramIndex.Builder builder = TrigramIndex.builder();
+        ReplicaRoutingContext.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserUniqueKeys> keys = userRepository.streamUniqueKeys()) {
+                keys.forEach(key -> builder.add(key.getId(), key.getUsername()));
+            }
+        }));
+        TrigramIndex next = builder.build();
+        log.info("Index de recherche construit: {} utilisateurs en {} ms",
+                next.size(), (System.nanoTime() - start) / 1_000_000);
+        return next;
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() != UserChangedEvent.ChangeType.DELETED) {
+            index.apply(idx -> idx.put(event.userId(), event.user().getUsername()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserChangedCommitted(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.DELETED) {
+            index.apply(idx -> idx.remove(event.userId()));
+        } else {
+            index.apply(idx -> idx.put(event.userId(), event.user().getUsername()));
+        }
+    }
+
+    /**
+     * Écritures d'une autre instance: les noms des ids notifiés sont relus.
+     */
+    @EventListener
+    public void onRemoteUsersChanged(RemoteUsersChangedEvent event) {
+        if (event.fullResync()) {
+            CompletableFuture.runAsync(this::rebuild);
+            return;
+        }
+        Set<Long> missing = new HashSet<>(event.userIds());
+        for (UserUniqueKeys keys : userRepository.findUniqueKeysByIdIn(event.userIds())) {
+            missing.remove(keys.getId());
+            index.apply(idx -> idx.put(keys.getId(), keys.getUsername()));
+        }
+        missing.forEach(id -> index.apply(idx -> idx.remove(id)));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.audit.audit_management.search;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recherche par sous-chaîne appuyée sur l'extension PostgreSQL pg_trgm.
+ * 
+ * - Index GiST trigrammes sur lower(username): il sert à la fois le filtre
+ *   LIKE '%terme%' et le tri par distance (opérateur <->). Contrairement à un
+ *   index GIN, le parcours est ordonné par pertinence et s'arrête au LIMIT:
+ *   la latence ne dépend pas du nombre de correspondances
+ * - Classement par similarité trigramme décroissante (distance croissante)
+ * 
+ * L'extension et l'index sont créés au démarrage s'ils n'existent pas
+ * (CREATE INDEX CONCURRENTLY: pas de verrou bloquant les écritures):
+ * - Une seule instance exécute le DDL (verrou consultatif), les autres,
+ *   démarrées en parallèle, n'attendent pas et cherchent sans l'index
+ * - Un index INVALID (construction concurrente échouée ou annulée), que
+ *   IF NOT EXISTS ignorerait indéfiniment, est supprimé puis reconstruit
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "pg-trgm")
+@RequiredArgsConstructor
+@Slf4j
+public class PgTrigramUserSearchBackend implements UserSearchBackend {
+
+    static final String INDEX_NAME = "idx_users_username_trgm";
+
+    /**
+     * Clé du verrou consultatif de session réservant le DDL à une instance.
+     */
+    private static final long DDL_LOCK_KEY = 0x7472_676d_6964_7831L;
+
+    private static final String INDEX_VALID_SQL = """
+            SELECT i.indisvalid
+            FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ? AND pg_catalog.pg_table_is_visible(c.oid)
+            """;
+
+    private static final String SEARCH_SQL = """
+            SELECT id, username, email, role, created_at, updated_at, version
+            FROM users
+            WHERE lower(username) LIKE ? ESCAPE '\\'
+            ORDER BY lower(username) <-> ?
+            LIMIT ?
+            """;
+
+    private static final RowMapper<UserDTO> USER_ROW_MAPPER = (rs, rowNum) -> UserDTO.builder()
+            .id(rs.getLong("id"))
+            .username(rs.getString("username"))
+            .email(rs.getString("email"))
+            .role(rs.getString("role"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .version(rs.getLong("version"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndex() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                // Verrou de session: même connexion pour la prise, le DDL et la libération
+                JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Boolean locked = session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, DDL_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.info("Index trigrammes {} en cours de création par une autre instance", INDEX_NAME);
+                    return null;
+                }
+                try {
+                    createIndex(session);
+                } finally {
+                    session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, DDL_LOCK_KEY);
+                }
+                return null;
+            });
+        } catch (DataAccessException ex) {
+            // Droits insuffisants pour l'extension: la recherche fonctionne, sans index
+            log.warn("Impossible de créer l'index trigrammes {}, recherche par parcours séquentiel: {}",
+                    INDEX_NAME, ex.getMessage());
+        }
+    }
+
+    private static void createIndex(JdbcTemplate session) {
+        session.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        List<Boolean> valid = session.queryForList(INDEX_VALID_SQL, Boolean.class, INDEX_NAME);
+        if (valid.contains(Boolean.FALSE)) {
+            log.warn("Index trigrammes {} invalide (construction interrompue), reconstruction", INDEX_NAME);
+            session.execute("DROP INDEX CONCURRENTLY IF EXISTS " + INDEX_NAME);
+        }
+        session.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + INDEX_NAME
+                + " ON users USING gist (lower(username) gist_trgm_ops)");
+        log.info("Index de recherche trigrammes prêt: {}", INDEX_NAME);
+    }
+
+    @Override
+    public List<UserDTO> search(String term, int limit) {
+        String normalized = term.toLowerCase(Locale.ROOT);
+        return jdbcTemplate.query(SEARCH_SQL, USER_ROW_MAPPER,
+                "%" + escapeLike(normalized) + "%", normalized, limit);
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.audit.audit_management.search;
+
+import com.example.audit.audit_management.dto.UserDTO;
+
+import java.util.List;
+
+/**
+ * Moteur de recherche des utilisateurs par sous-chaîne du nom.
+ * 
+ * Implémentations, choisies par app.search.backend:
+ * - pg-trgm: index trigrammes PostgreSQL (profil prod)
+ * - memory: index trigrammes en mémoire (H2 / dev, valeur par défaut)
+ */
+public interface UserSearchBackend {
+
+    /**
+     * Recherche les utilisateurs dont le nom contient le terme (insensible à la casse).
+     *
+     * @param term Le terme recherché, non vide
+     * @param limit Le nombre maximal de résultats
+     * @return Les utilisateurs, du plus pertinent au moins pertinent
+     */
+    List<UserDTO> search(String term, int limit);
+}
@@ -0,0 +1,22 @@
+package com.example.audit.audit_management.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface de service pour l'export en masse des utilisateurs.
+ * 
+ * L'export est réalisé en flux continu: la mémoire consommée
+ * ne dépend pas du nombre d'utilisateurs exportés.
+ */
+public interface UserExportService {
+
+    /**
+     * Écrit tous les utilisateurs au format NDJSON (un objet JSON par ligne).
+     *
+     * @param out Le flux de sortie (non fermé par cette méthode)
+     * @return Le nombre d'utilisateurs exportés
+     * @throws IOException si l'écriture échoue (ex: client déconnecté)
+     */
+    long exportUsersAsNdjson(OutputStream out) throws IOException;
+}
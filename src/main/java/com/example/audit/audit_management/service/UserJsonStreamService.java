@@ -0,0 +1,53 @@
+package com.example.audit.audit_management.service;
+
+import com.example.audit.audit_management.dto.UserDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Interface de service pour la sérialisation JSON en flux des listes d'utilisateurs.
+ * 
+ * Les lignes lues en base sont écrites directement dans le flux de sortie,
+ * sans objet intermédiaire ni sérialisation par réflexion. Servi pour les
+ * requêtes qui acceptent le type {@link #MEDIA_TYPE} (négociation de contenu).
+ */
+public interface UserJsonStreamService {
+
+    /**
+     * Type de contenu des réponses en flux. Le JSON produit est identique à celui
+     * de application/json, sauf pour la pagination (voir {@link #writePage}).
+     */
+    String MEDIA_TYPE = "application/vnd.audit.users+json";
+
+    /**
+     * Écrit une page d'utilisateurs triés par identifiant, sous la forme
+     * {"content":[...],"nextCursor":"...","hasMore":true} (le curseur n'est
+     * connu qu'après les lignes: il ne peut pas être transmis en en-tête).
+     *
+     * @param after Le curseur opaque de la page précédente (null pour la première page)
+     * @param limit Le nombre maximal d'utilisateurs (plafonné à {@link UserService#MAX_PAGE_SIZE})
+     * @param out Le flux de sortie (non fermé par cette méthode)
+     * @throws IOException si l'écriture échoue (ex: client déconnecté)
+     */
+    void writePage(String after, int limit, OutputStream out) throws IOException;
+
+    /**
+     * Écrit le tableau JSON des utilisateurs ayant le rôle donné.
+     *
+     * @param role Le rôle à rechercher
+     * @param out Le flux de sortie (non fermé par cette méthode)
+     * @throws IOException si l'écriture échoue
+     */
+    void writeByRole(String role, OutputStream out) throws IOException;
+
+    /**
+     * Écrit le tableau JSON d'utilisateurs déjà chargés (ex: résultats de recherche).
+     *
+     * @param users Les utilisateurs à écrire
+     * @param out Le flux de sortie (non fermé par cette méthode)
+     * @throws IOException si l'écriture échoue
+     */
+    void writeUsers(List<UserDTO> users, OutputStream out) throws IOException;
+}
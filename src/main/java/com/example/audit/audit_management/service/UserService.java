@@ -1,6 +1,13 @@
 package com.example.audit.audit_management.service;
 
+import com.example.audit.audit_management.dto.UserBatchResultDTO;
+import com.example.audit.audit_management.dto.UserBulkResultDTO;
 import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserFilterResultDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import com.example.audit.audit_management.dto.UserPatchDTO;
+import com.example.audit.audit_management.dto.UserSuggestionDTO;
 
 import java.util.List;
 
@@ -16,11 +23,49 @@ import java.util.List;
 public interface UserService {
 
     /**
-     * Récupère tous les utilisateurs.
+     * Taille de page par défaut de la pagination par curseur.
+     */
+    int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Taille de page maximale: toute valeur supérieure est plafonnée.
+     */
+    int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Nombre maximal d'utilisateurs acceptés dans un lot de création.
+     */
+    int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Nombre de résultats par défaut de la recherche par nom.
+     */
+    int DEFAULT_SEARCH_LIMIT = 20;
+
+    /**
+     * Nombre maximal de résultats de la recherche: toute valeur supérieure est plafonnée.
+     */
+    int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * Nombre de suggestions par défaut de l'autocomplétion.
+     */
+    int DEFAULT_SUGGEST_LIMIT = 10;
+
+    /**
+     * Nombre maximal de suggestions: toute valeur supérieure est plafonnée.
+     */
+    int MAX_SUGGEST_LIMIT = 50;
+
+    /**
+     * Récupère une page d'utilisateurs triés par identifiant (pagination par curseur).
      *
-     * @return La liste de tous les utilisateurs
+     * @param after Le curseur opaque de la page précédente (null pour la première page)
+     * @param limit Le nombre maximal d'utilisateurs (plafonné à {@link #MAX_PAGE_SIZE})
+     * @return La page d'utilisateurs et le curseur de la page suivante
+     * @throws com.example.audit.audit_management.exception.BadRequestException si le curseur est invalide
      */
-    List<UserDTO> getAllUsers();
+    UserPageDTO getAllUsers(String after, int limit);
 
     /**
      * Récupère un utilisateur par son identifiant.
@@ -40,6 +85,18 @@ public interface UserService {
      */
     UserDTO createUser(UserDTO userDTO);
 
+    /**
+     * Crée un lot d'utilisateurs.
+     * 
+     * Chaque élément est validé individuellement: les éléments invalides
+     * ou en conflit sont rejetés sans empêcher la création des autres.
+     *
+     * @param userDTOs Les utilisateurs à créer (1 à {@link #MAX_BATCH_SIZE})
+     * @return Le résultat de chaque élément, dans l'ordre de la requête
+     * @throws com.example.audit.audit_management.exception.BadRequestException si le lot est vide ou trop grand
+     */
+    UserBatchResultDTO createUsers(List<UserDTO> userDTOs);
+
     /**
      * Met à jour un utilisateur existant.
      *
@@ -48,7 +105,37 @@ public interface UserService {
      * @return L'utilisateur mis à jour
      * @throws com.example.audit.audit_management.exception.ResourceNotFoundException si non trouvé
      */
-    UserDTO updateUser(Long id, UserDTO userDTO);
+    default UserDTO updateUser(Long id, UserDTO userDTO) {
+        return updateUser(id, userDTO, null);
+    }
+
+    /**
+     * Met à jour un utilisateur existant si sa version est celle attendue
+     * (verrouillage optimiste, en-tête If-Match).
+     *
+     * @param id L'identifiant de l'utilisateur à modifier
+     * @param userDTO Les nouvelles données
+     * @param expectedVersion La version lue par le client (null pour ne pas la contrôler)
+     * @return L'utilisateur mis à jour
+     * @throws com.example.audit.audit_management.exception.ResourceNotFoundException si non trouvé
+     * @throws com.example.audit.audit_management.exception.PreconditionFailedException si la version a changé
+     */
+    UserDTO updateUser(Long id, UserDTO userDTO, Long expectedVersion);
+
+    /**
+     * Modifie partiellement un utilisateur: seuls les champs renseignés sont écrits,
+     * en une seule instruction SQL qui renvoie le nouvel état.
+     *
+     * @param id L'identifiant de l'utilisateur à modifier
+     * @param patch Les champs à modifier
+     * @param expectedVersion La version lue par le client (null pour ne pas la contrôler)
+     * @return L'utilisateur modifié
+     * @throws com.example.audit.audit_management.exception.BadRequestException si aucun champ n'est fourni
+     * @throws com.example.audit.audit_management.exception.ResourceNotFoundException si non trouvé
+     * @throws com.example.audit.audit_management.exception.PreconditionFailedException si la version a changé
+     * @throws com.example.audit.audit_management.exception.DuplicateResourceException si username ou email existe
+     */
+    UserDTO patchUser(Long id, UserPatchDTO patch, Long expectedVersion);
 
     /**
      * Supprime un utilisateur.
@@ -58,6 +145,34 @@ public interface UserService {
      */
     void deleteUser(Long id);
 
+    /**
+     * Supprime un ensemble d'utilisateurs en une seule instruction.
+     * Les identifiants inexistants sont ignorés.
+     *
+     * @param ids Les identifiants (1 à {@link #MAX_BATCH_SIZE})
+     * @return Le nombre d'utilisateurs supprimés
+     * @throws com.example.audit.audit_management.exception.BadRequestException si la liste est vide ou trop grande
+     */
+    UserBulkResultDTO deleteUsers(List<Long> ids);
+
+    /**
+     * Supprime tous les utilisateurs d'un rôle en une seule instruction.
+     *
+     * @param role Le rôle exact
+     * @return Le nombre d'utilisateurs supprimés
+     */
+    UserBulkResultDTO deleteUsersByRole(String role);
+
+    /**
+     * Attribue un nouveau rôle à tous les utilisateurs d'un rôle, en une seule instruction.
+     *
+     * @param fromRole Le rôle actuel exact
+     * @param toRole Le nouveau rôle
+     * @return Le nombre d'utilisateurs modifiés
+     * @throws com.example.audit.audit_management.exception.BadRequestException si le nouveau rôle est invalide
+     */
+    UserBulkResultDTO reassignRole(String fromRole, String toRole);
+
     /**
      * Recherche les utilisateurs par rôle.
      *
@@ -67,10 +182,47 @@ public interface UserService {
     List<UserDTO> getUsersByRole(String role);
 
     /**
-     * Recherche les utilisateurs par nom (recherche partielle).
+     * Empreinte des utilisateurs (tous, ou ceux d'un rôle), calculée par une seule
+     * agrégation en base: permet de répondre 304 sans lire la liste.
+     *
+     * @param role Le rôle (null pour tous les utilisateurs)
+     * @return Le nombre d'utilisateurs, la dernière modification et la somme des versions
+     */
+    UserListVersionDTO getListVersion(String role);
+
+    /**
+     * Recherche les utilisateurs par nom (recherche partielle, insensible à la casse).
+     * Les résultats sont classés par pertinence.
      *
      * @param username La chaîne à rechercher dans le nom
-     * @return La liste des utilisateurs correspondants
+     * @param limit Le nombre maximal de résultats (plafonné à {@link #MAX_SEARCH_LIMIT})
+     * @return La liste des utilisateurs correspondants, du plus pertinent au moins pertinent
+     */
+    List<UserDTO> searchUsersByUsername(String username, int limit);
+
+    /**
+     * Suggestions d'autocomplétion: utilisateurs dont le nom ou l'email commence
+     * par le préfixe. Servies depuis la mémoire, sans accès à la base.
+     *
+     * @param prefix Le préfixe saisi (insensible à la casse)
+     * @param limit Le nombre maximal de suggestions (plafonné à {@link #MAX_SUGGEST_LIMIT})
+     * @return Les suggestions, par ordre alphabétique
+     */
+    List<UserSuggestionDTO> suggestUsers(String prefix, int limit);
+
+    /**
+     * Filtre les utilisateurs par rôle, domaine de l'email et période de création
+     * (critères optionnels, combinés par ET). Le comptage est servi depuis l'index
+     * en mémoire; seuls les utilisateurs retournés sont lus en base.
+     *
+     * @param role Le rôle exact (insensible à la casse)
+     * @param emailDomain Le domaine de l'email, ex: client.com
+     * @param createdFrom Le premier mois de création inclus (yyyy-MM)
+     * @param createdTo Le dernier mois de création inclus (yyyy-MM)
+     * @param limit Le nombre maximal d'utilisateurs retournés (plafonné à {@link #MAX_PAGE_SIZE})
+     * @param countOnly true pour ne retourner que le comptage
+     * @return Le nombre de correspondances et les premiers utilisateurs, triés par identifiant
      */
-    List<UserDTO> searchUsersByUsername(String username);
+    UserFilterResultDTO filterUsers(String role, String emailDomain, String createdFrom, String createdTo,
+                                    int limit, boolean countOnly);
 }
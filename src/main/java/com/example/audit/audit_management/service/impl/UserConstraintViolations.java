@@ -0,0 +1,76 @@
+package com.example.audit.audit_management.service.impl;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.entity.User;
+import com.example.audit.audit_management.exception.DuplicateResourceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Traduit une violation de contrainte d'unicité en {@link DuplicateResourceException}.
+ * 
+ * L'unicité n'est plus vérifiée par des SELECT préalables: l'INSERT ou l'UPDATE
+ * est tenté directement et c'est la base qui arbitre, de façon atomique,
+ * y compris entre deux requêtes concurrentes. Le champ en conflit est déduit
+ * du nom de la contrainte violée ({@link User#UK_USERNAME}, {@link User#UK_EMAIL}),
+ * à défaut de la colonne citée par le message de la base: une table créée
+ * avant le nommage des contraintes garde ses noms générés (ddl-auto: update
+ * ne renomme pas les contraintes existantes).
+ */
+final class UserConstraintViolations {
+
+    /**
+     * Colonne en conflit dans le message d'erreur: "Key (email)=(...)" sur
+     * PostgreSQL, "PUBLIC.USERS(EMAIL NULLS FIRST)" sur H2.
+     */
+    private static final Pattern CONFLICTING_COLUMN = Pattern.compile("\\(\\s*\"?(username|email)\"?[\\s)]");
+
+    private UserConstraintViolations() {
+    }
+
+    /**
+     * @param ex L'exception levée par la base
+     * @param userDTO Les données dont l'écriture a échoué
+     * @return L'exception métier correspondante, ou l'exception d'origine
+     *         s'il ne s'agit pas d'une contrainte d'unicité sur les utilisateurs
+     */
+    static RuntimeException translate(DataIntegrityViolationException ex, UserDTO userDTO) {
+        String constraint = violatedConstraint(ex);
+        if (constraint.contains(User.UK_USERNAME)) {
+            return new DuplicateResourceException("Utilisateur", "username", userDTO.getUsername());
+        }
+        if (constraint.contains(User.UK_EMAIL)) {
+            return new DuplicateResourceException("Utilisateur", "email", userDTO.getEmail());
+        }
+        Throwable root = ex.getMostSpecificCause();
+        if (root.getMessage() != null) {
+            Matcher column = CONFLICTING_COLUMN.matcher(root.getMessage().toLowerCase(Locale.ROOT));
+            if (column.find()) {
+                return column.group(1).equals("username")
+                        ? new DuplicateResourceException("Utilisateur", "username", userDTO.getUsername())
+                        : new DuplicateResourceException("Utilisateur", "email", userDTO.getEmail());
+            }
+        }
+        return ex;
+    }
+
+    /**
+     * Nom de la contrainte violée, en minuscules.
+     * Hibernate l'extrait selon le dialecte; à défaut (ex: exception traduite par
+     * Spring JDBC), on se rabat sur le message de l'erreur SQL, qui le contient
+     * sur PostgreSQL comme sur H2.
+     */
+    private static String violatedConstraint(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        Throwable root = ex.getMostSpecificCause();
+        return root.getMessage() == null ? "" : root.getMessage().toLowerCase(Locale.ROOT);
+    }
+}
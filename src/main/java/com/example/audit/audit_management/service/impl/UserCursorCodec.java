@@ -0,0 +1,50 @@
+package com.example.audit.audit_management.service.impl;
+
+import com.example.audit.audit_management.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encode et décode les curseurs de pagination opaques.
+ * 
+ * Le curseur transporte l'identifiant du dernier utilisateur renvoyé,
+ * préfixé d'une version de format afin de pouvoir le faire évoluer
+ * sans casser les clients qui conservent un ancien curseur.
+ * 
+ * Public: le module réactif (reactive/) l'utilise pour que les curseurs
+ * des deux API soient interchangeables.
+ */
+public final class UserCursorCodec {
+
+    private static final String PREFIX = "u1:";
+
+    private UserCursorCodec() {
+    }
+
+    public static String encode(Long lastId) {
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * @param cursor Le curseur reçu du client (null ou vide pour la première page)
+     * @return L'identifiant après lequel reprendre, ou null pour la première page
+     * @throws BadRequestException si le curseur est illisible
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("after", cursor);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            // NumberFormatException hérite d'IllegalArgumentException
+            throw new BadRequestException("after", cursor);
+        }
+    }
+}
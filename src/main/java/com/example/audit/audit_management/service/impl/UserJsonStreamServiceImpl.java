@@ -0,0 +1,223 @@
+package com.example.audit.audit_management.service.impl;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.service.UserJsonStreamService;
+import com.example.audit.audit_management.service.UserService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Implémentation de la sérialisation JSON en flux des utilisateurs.
+ * 
+ * Chaque ligne JDBC est écrite champ par champ avec le {@link JsonGenerator}
+ * de Jackson (streaming API), directement dans le flux de la réponse:
+ * - Aucune entité ni DTO, aucune introspection des getters
+ * - Noms de champs pré-encodés ({@link SerializedString}), partagés entre requêtes
+ * - Colonnes lues par position
+ * 
+ * Le format des champs est celui de la sérialisation de {@link UserDTO}
+ * (dates ISO-8601 sans fuseau, comme le module JavaTimeModule de Spring Boot).
+ */
+@Service
+@Slf4j
+public class UserJsonStreamServiceImpl implements UserJsonStreamService {
+
+    private static final String SELECT_USERS = "SELECT id, username, email, role, created_at, updated_at, version FROM users";
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString USERNAME = new SerializedString("username");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString ROLE = new SerializedString("role");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString NEXT_CURSOR = new SerializedString("nextCursor");
+    private static final SerializableString HAS_MORE = new SerializedString("hasMore");
+
+    /**
+     * Lignes lues par aller-retour pour les listes non bornées: sans fetch size,
+     * le pilote PostgreSQL charge tout le résultat avant la première ligne.
+     * Effectif dans une transaction (autocommit désactivé), comme l'export.
+     */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final JsonFactory jsonFactory;
+
+    public UserJsonStreamServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Copie dédiée: le fetch size ne s'applique pas aux autres requêtes du JdbcTemplate partagé
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        // La fabrique est thread-safe et recycle les buffers des générateurs
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writePage(String after, int limit, OutputStream out) throws IOException {
+        // Curseur décodé avant toute écriture: une erreur reste une réponse 400 complète
+        Long afterId = UserCursorCodec.decode(after);
+        int pageSize = Math.max(1, Math.min(limit, UserService.MAX_PAGE_SIZE));
+
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName(CONTENT);
+            generator.writeStartArray();
+
+            PageWriter page = new PageWriter(generator, pageSize);
+            // Une ligne de plus que demandé pour savoir s'il existe une page suivante
+            if (afterId == null) {
+                query(jdbcTemplate, SELECT_USERS + " ORDER BY id LIMIT ?", page, pageSize + 1);
+            } else {
+                query(jdbcTemplate, SELECT_USERS + " WHERE id > ? ORDER BY id LIMIT ?", page, afterId, pageSize + 1);
+            }
+
+            generator.writeEndArray();
+            generator.writeFieldName(NEXT_CURSOR);
+            if (page.hasMore) {
+                generator.writeString(UserCursorCodec.encode(page.lastId));
+            } else {
+                generator.writeNull();
+            }
+            generator.writeFieldName(HAS_MORE);
+            generator.writeBoolean(page.hasMore);
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeByRole(String role, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartArray();
+            query(streamingJdbcTemplate, SELECT_USERS + " WHERE role = ?", rs -> writeRow(generator, rs), role);
+            generator.writeEndArray();
+        }
+    }
+
+    @Override
+    public void writeUsers(List<UserDTO> users, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartArray();
+            for (UserDTO user : users) {
+                // Utilisateurs lus en base: identifiant et version toujours renseignés
+                writeUser(generator, user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+                        user.getCreatedAt(), user.getUpdatedAt(), user.getVersion());
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        // Le flux appartient à l'appelant
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        return generator;
+    }
+
+    /**
+     * Exécute la requête en propageant les erreurs d'écriture sous leur type d'origine.
+     */
+    private static void query(JdbcTemplate template, String sql, RowCallbackHandler handler, Object... args)
+            throws IOException {
+        try {
+            template.query(sql, handler, args);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void writeRow(JsonGenerator generator, ResultSet rs) throws SQLException {
+        writeUser(generator, rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                toLocalDateTime(rs.getTimestamp(5)), toLocalDateTime(rs.getTimestamp(6)), rs.getLong(7));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * Identifiant et version en types primitifs: aucun Long alloué par ligne.
+     */
+    private static void writeUser(JsonGenerator generator, long id, String username, String email, String role,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        try {
+            generator.writeStartObject();
+            generator.writeFieldName(ID);
+            generator.writeNumber(id);
+            generator.writeFieldName(USERNAME);
+            generator.writeString(username);
+            generator.writeFieldName(EMAIL);
+            generator.writeString(email);
+            generator.writeFieldName(ROLE);
+            generator.writeString(role);
+            generator.writeFieldName(CREATED_AT);
+            writeDateTime(generator, createdAt);
+            generator.writeFieldName(UPDATED_AT);
+            writeDateTime(generator, updatedAt);
+            generator.writeFieldName(VERSION);
+            generator.writeNumber(version);
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator generator, LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+
+    /**
+     * Écrit les {@code pageSize} premières lignes et retient s'il en existe une de plus.
+     */
+    private static final class PageWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private final int pageSize;
+        private int written;
+        private long lastId;
+        private boolean hasMore;
+
+        private PageWriter(JsonGenerator generator, int pageSize) {
+            this.generator = generator;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (written == pageSize) {
+                hasMore = true;
+                return;
+            }
+            lastId = rs.getLong(1);
+            writeRow(generator, rs);
+            written++;
+        }
+    }
+}
@@ -1,18 +1,58 @@
 package com.example.audit.audit_management.service.impl;
 
+import com.example.audit.audit_management.cache.UserCache;
+import com.example.audit.audit_management.cache.UserListStampCache;
+import com.example.audit.audit_management.dto.UserBatchItemDTO;
+import com.example.audit.audit_management.dto.UserBatchResultDTO;
+import com.example.audit.audit_management.dto.UserBulkResultDTO;
 import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserFilterResultDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import com.example.audit.audit_management.dto.UserPatchDTO;
+import com.example.audit.audit_management.dto.UserSuggestionDTO;
 import com.example.audit.audit_management.entity.User;
+import com.example.audit.audit_management.event.UserChangedEvent;
+import com.example.audit.audit_management.exception.BadRequestException;
 import com.example.audit.audit_management.exception.DuplicateResourceException;
+import com.example.audit.audit_management.exception.PreconditionFailedException;
 import com.example.audit.audit_management.exception.ResourceNotFoundException;
+import com.example.audit.audit_management.index.UserBitmapIndex;
+import com.example.audit.audit_management.index.UserFilterIndex;
+import com.example.audit.audit_management.index.UserSuggestionIndex;
+import com.example.audit.audit_management.index.UserUniquenessFilter;
 import com.example.audit.audit_management.mapper.UserMapper;
+import com.example.audit.audit_management.repository.UserBulkRepository;
+import com.example.audit.audit_management.repository.UserListStamp;
+import com.example.audit.audit_management.repository.UserPatchRepository;
 import com.example.audit.audit_management.repository.UserRepository;
+import com.example.audit.audit_management.search.UserSearchBackend;
 import com.example.audit.audit_management.service.UserService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +63,9 @@ import java.util.stream.Collectors;
  * - @Transactional pour la gestion des transactions
  * - @Slf4j pour le logging
  * - Le pattern d'injection par constructeur (via @RequiredArgsConstructor)
+ * 
+ * Chaque écriture publie un {@link UserChangedEvent}, traité après commit
+ * par les structures en mémoire (cache {@link UserCache}, ...).
  */
 @Service
 @RequiredArgsConstructor
@@ -32,111 +75,430 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final Validator validator;
+    private final UserCache userCache;
+    private final UserListStampCache listStampCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserUniquenessFilter uniquenessFilter;
+    private final UserSearchBackend userSearchBackend;
+    private final UserSuggestionIndex userSuggestionIndex;
+    private final UserFilterIndex userFilterIndex;
+    private final UserPatchRepository userPatchRepository;
+    private final UserBulkRepository userBulkRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> getAllUsers() {
-        log.debug("Récupération de tous les utilisateurs");
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::toDTO)
-                .collect(Collectors.toList());
+    public UserPageDTO getAllUsers(String after, int limit) {
+        Long afterId = UserCursorCodec.decode(after);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        log.debug("Récupération d'une page d'utilisateurs: after={}, limit={}", afterId, pageSize);
+
+        // Une ligne de plus que demandé pour savoir s'il existe une page suivante, sans COUNT(*)
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<UserDTO> users = afterId == null
+                ? userRepository.findDtoPage(fetchLimit)
+                : userRepository.findDtoPageAfter(afterId, fetchLimit);
+
+        boolean hasMore = users.size() > pageSize;
+        List<UserDTO> content = hasMore ? users.subList(0, pageSize) : users;
+
+        return UserPageDTO.builder()
+                .content(content)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? UserCursorCodec.encode(content.get(pageSize - 1).getId()) : null)
+                .build();
     }
 
+    /**
+     * Lecture via le cache local: un succès de cache n'ouvre aucune transaction,
+     * un échec délègue à findDtoById (projection en lecture seule, sans entité gérée).
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDTO getUserById(Long id) {
         log.debug("Récupération de l'utilisateur avec l'id: {}", id);
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", id));
-        return userMapper.toDTO(user);
+        return userCache.get(id, key -> userRepository.findDtoById(key)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", key)));
     }
 
     @Override
     public UserDTO createUser(UserDTO userDTO) {
         log.debug("Création d'un nouvel utilisateur: {}", userDTO.getUsername());
 
-        // Validation des contraintes d'unicité
-        validateUniqueConstraints(userDTO, null);
-
+        // Un seul aller-retour: l'unicité est garantie par les contraintes de la base
         User user = userMapper.toEntity(userDTO);
-        User savedUser = userRepository.save(user);
-        
+        user.setId(null);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw UserConstraintViolations.translate(ex, userDTO);
+        }
+
         log.info("Utilisateur créé avec succès: id={}", savedUser.getId());
-        return userMapper.toDTO(savedUser);
+        UserDTO created = userMapper.toDTO(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.created(created));
+        return created;
     }
 
+    /**
+     * Sans transaction appelante, chaque tentative d'insertion a sa propre transaction:
+     * une violation d'unicité que le filtre de Bloom n'a pas vue (ligne écrite par une
+     * autre instance avant sa notification, ou hors du service) annule la tentative,
+     * qui est rejouée une fois en vérifiant toutes les valeurs en base. Dans une
+     * transaction appelante, la violation rejette tout le lot (409).
+     */
     @Override
-    public UserDTO updateUser(Long id, UserDTO userDTO) {
-        log.debug("Mise à jour de l'utilisateur avec l'id: {}", id);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserBatchResultDTO createUsers(List<UserDTO> userDTOs) {
+        if (userDTOs == null || userDTOs.isEmpty() || userDTOs.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(String.format(
+                    "Un lot doit contenir entre 1 et %d utilisateurs", MAX_BATCH_SIZE));
+        }
+        log.debug("Création d'un lot de {} utilisateurs", userDTOs.size());
+
+        // 1. Validation unitaire de chaque élément (Bean Validation)
+        Map<Integer, Map<String, String>> errors = new LinkedHashMap<>();
+        for (int i = 0; i < userDTOs.size(); i++) {
+            for (ConstraintViolation<UserDTO> violation : validator.validate(userDTOs.get(i))) {
+                errors.computeIfAbsent(i, k -> new LinkedHashMap<>())
+                        .putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+        }
+
+        // 2. Doublons à l'intérieur du lot: seule la première occurrence est conservée
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < userDTOs.size(); i++) {
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            UserDTO dto = userDTOs.get(i);
+            if (!usernames.add(dto.getUsername())) {
+                errors.computeIfAbsent(i, k -> new LinkedHashMap<>())
+                        .put("username", duplicateMessage("username", dto.getUsername()));
+            }
+            if (!emails.add(dto.getEmail())) {
+                errors.computeIfAbsent(i, k -> new LinkedHashMap<>())
+                        .put("email", duplicateMessage("email", dto.getEmail()));
+            }
+        }
+
+        // 3 et 4. Unicité en base et insertion
+        boolean ownTransaction = !TransactionSynchronizationManager.isActualTransactionActive();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            return transaction.execute(status -> insertBatch(userDTOs, errors, usernames, emails, true));
+        } catch (DataIntegrityViolationException ex) {
+            if (!ownTransaction) {
+                throw batchConflict();
+            }
+            log.info("Conflit d'unicité non signalé par le filtre, nouvelle vérification du lot en base");
+        }
+        try {
+            return transaction.execute(status -> insertBatch(userDTOs, errors, usernames, emails, false));
+        } catch (DataIntegrityViolationException ex) {
+            // Création concurrente entre la vérification et l'INSERT
+            throw batchConflict();
+        }
+    }
+
+    /**
+     * Vérifie l'unicité en base des éléments encore valides, puis insère ceux
+     * qui restent acceptés.
+     *
+     * @param useFilter false pour interroger la base sur toutes les valeurs
+     * @throws DataIntegrityViolationException si un conflit apparaît à l'insertion
+     */
+    private UserBatchResultDTO insertBatch(List<UserDTO> userDTOs, Map<Integer, Map<String, String>> validationErrors,
+                                           Set<String> usernames, Set<String> emails, boolean useFilter) {
+        Map<Integer, Map<String, String>> errors = new LinkedHashMap<>(validationErrors);
+
+        // 3. Unicité en base: deux requêtes ensemblistes, limitées aux valeurs
+        // que le filtre de Bloom ne sait pas exclure
+        Set<String> existingUsernames = findExisting(UserUniquenessFilter.Field.USERNAME, usernames, useFilter);
+        Set<String> existingEmails = findExisting(UserUniquenessFilter.Field.EMAIL, emails, useFilter);
+
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<User> toInsert = new ArrayList<>();
+        for (int i = 0; i < userDTOs.size(); i++) {
+            UserDTO dto = userDTOs.get(i);
+            if (!errors.containsKey(i)) {
+                if (existingUsernames.contains(dto.getUsername())) {
+                    errors.computeIfAbsent(i, k -> new LinkedHashMap<>())
+                            .put("username", duplicateMessage("username", dto.getUsername()));
+                }
+                if (existingEmails.contains(dto.getEmail())) {
+                    errors.computeIfAbsent(i, k -> new LinkedHashMap<>())
+                            .put("email", duplicateMessage("email", dto.getEmail()));
+                }
+            }
+            if (!errors.containsKey(i)) {
+                acceptedIndexes.add(i);
+                User user = userMapper.toEntity(dto);
+                user.setId(null);
+                toInsert.add(user);
+            }
+        }
+
+        // 4. Insertion groupée (batch JDBC, cf. hibernate.jdbc.batch_size)
+        List<User> saved = toInsert.isEmpty() ? List.of() : userRepository.saveAllAndFlush(toInsert);
+
+        List<UserBatchItemDTO> items = new ArrayList<>(userDTOs.size());
+        int savedCursor = 0;
+        for (int i = 0; i < userDTOs.size(); i++) {
+            if (savedCursor < acceptedIndexes.size() && acceptedIndexes.get(savedCursor) == i) {
+                UserDTO created = userMapper.toDTO(saved.get(savedCursor++));
+                eventPublisher.publishEvent(UserChangedEvent.created(created));
+                items.add(UserBatchItemDTO.builder()
+                        .index(i)
+                        .status(UserBatchItemDTO.Status.CREATED)
+                        .user(created)
+                        .build());
+            } else {
+                items.add(UserBatchItemDTO.builder()
+                        .index(i)
+                        .status(UserBatchItemDTO.Status.REJECTED)
+                        .errors(errors.get(i))
+                        .build());
+            }
+        }
+
+        log.info("Lot d'utilisateurs traité: {} créés, {} rejetés", saved.size(), errors.size());
+        return UserBatchResultDTO.builder()
+                .requested(userDTOs.size())
+                .created(saved.size())
+                .rejected(errors.size())
+                .items(items)
+                .build();
+    }
+
+    @Override
+    public UserDTO updateUser(Long id, UserDTO userDTO, Long expectedVersion) {
+        log.debug("Mise à jour de l'utilisateur avec l'id: {} (version attendue: {})", id, expectedVersion);
 
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "id", id));
+        if (expectedVersion != null && !expectedVersion.equals(existingUser.getVersion())) {
+            throw new PreconditionFailedException("Utilisateur", id, expectedVersion);
+        }
 
-        // Validation des contraintes d'unicité (en excluant l'utilisateur actuel)
-        validateUniqueConstraints(userDTO, id);
-
-        // Mise à jour des champs
+        // Mise à jour des champs: un conflit d'unicité est signalé par la base au flush,
+        // une écriture concurrente par le contrôle de version de l'UPDATE
         userMapper.updateEntityFromDTO(existingUser, userDTO);
-        User updatedUser = userRepository.save(existingUser);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(existingUser);
+        } catch (DataIntegrityViolationException ex) {
+            throw UserConstraintViolations.translate(ex, userDTO);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            if (expectedVersion == null) {
+                throw ex;
+            }
+            throw new PreconditionFailedException("Utilisateur", id, expectedVersion);
+        }
 
         log.info("Utilisateur mis à jour avec succès: id={}", id);
-        return userMapper.toDTO(updatedUser);
+        UserDTO updated = userMapper.toDTO(updatedUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(updated));
+        return updated;
+    }
+
+    /**
+     * Un seul aller-retour dans le cas nominal: ni lecture préalable, ni contrôle
+     * d'unicité (contraintes de la base), ni relecture (RETURNING). Un échec
+     * (aucune ligne modifiée) coûte une requête de plus pour distinguer 404 et 412.
+     */
+    @Override
+    public UserDTO patchUser(Long id, UserPatchDTO patch, Long expectedVersion) {
+        if (patch == null || patch.isEmpty()) {
+            throw new BadRequestException("Aucun champ à modifier");
+        }
+        rejectBlank("username", patch.getUsername());
+        rejectBlank("email", patch.getEmail());
+        rejectBlank("role", patch.getRole());
+        log.debug("Modification partielle de l'utilisateur avec l'id: {} (version attendue: {})", id, expectedVersion);
+
+        UserDTO patched;
+        try {
+            patched = userPatchRepository.patch(id, patch, expectedVersion).orElse(null);
+        } catch (DataIntegrityViolationException ex) {
+            throw UserConstraintViolations.translate(ex, UserDTO.builder()
+                    .username(patch.getUsername())
+                    .email(patch.getEmail())
+                    .build());
+        }
+        if (patched == null) {
+            if (expectedVersion != null && userRepository.existsById(id)) {
+                throw new PreconditionFailedException("Utilisateur", id, expectedVersion);
+            }
+            throw new ResourceNotFoundException("Utilisateur", "id", id);
+        }
+
+        log.info("Utilisateur modifié partiellement avec succès: id={}, version={}", id, patched.getVersion());
+        eventPublisher.publishEvent(UserChangedEvent.updated(patched));
+        return patched;
     }
 
     @Override
     public void deleteUser(Long id) {
         log.debug("Suppression de l'utilisateur avec l'id: {}", id);
 
-        if (!userRepository.existsById(id)) {
+        // Une seule instruction: le nombre de lignes supprimées tient lieu de contrôle d'existence
+        if (userRepository.deleteUserById(id) == 0) {
             throw new ResourceNotFoundException("Utilisateur", "id", id);
         }
 
-        userRepository.deleteById(id);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
         log.info("Utilisateur supprimé avec succès: id={}", id);
     }
 
+    @Override
+    public UserBulkResultDTO deleteUsers(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(String.format(
+                    "Une suppression groupée doit viser entre 1 et %d utilisateurs", MAX_BATCH_SIZE));
+        }
+        Set<Long> distinctIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        int deleted = distinctIds.isEmpty() ? 0 : userRepository.deleteAllByIdIn(distinctIds);
+
+        // Invalidation de tous les ids demandés: sans effet pour ceux qui n'existaient pas
+        distinctIds.forEach(id -> eventPublisher.publishEvent(UserChangedEvent.deleted(id)));
+        log.info("Suppression groupée: {} utilisateurs supprimés sur {} demandés", deleted, distinctIds.size());
+        return UserBulkResultDTO.builder().affected(deleted).build();
+    }
+
+    @Override
+    public UserBulkResultDTO deleteUsersByRole(String role) {
+        List<Long> deletedIds = userBulkRepository.deleteByRole(role);
+        deletedIds.forEach(id -> eventPublisher.publishEvent(UserChangedEvent.deleted(id)));
+        log.info("Suppression des utilisateurs du rôle {}: {} supprimés", role, deletedIds.size());
+        return UserBulkResultDTO.builder().affected(deletedIds.size()).build();
+    }
+
+    @Override
+    public UserBulkResultDTO reassignRole(String fromRole, String toRole) {
+        if (toRole == null || toRole.isBlank() || toRole.length() > 30) {
+            throw new BadRequestException("to", toRole);
+        }
+        if (toRole.equals(fromRole)) {
+            throw new BadRequestException("Le nouveau rôle doit être différent du rôle actuel");
+        }
+        List<UserDTO> updated = userBulkRepository.reassignRole(fromRole, toRole);
+        updated.forEach(user -> eventPublisher.publishEvent(UserChangedEvent.updated(user)));
+        log.info("Réattribution du rôle {} vers {}: {} utilisateurs modifiés", fromRole, toRole, updated.size());
+        return UserBulkResultDTO.builder().affected(updated.size()).build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UserDTO> getUsersByRole(String role) {
         log.debug("Recherche des utilisateurs avec le rôle: {}", role);
-        return userRepository.findByRole(role)
-                .stream()
-                .map(userMapper::toDTO)
-                .collect(Collectors.toList());
+        return userRepository.findDtosByRole(role);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserListVersionDTO getListVersion(String role) {
+        // Agrégation sur la table: recalculée seulement après une écriture
+        return listStampCache.get(role, () -> {
+            UserListStamp stamp = role == null
+                    ? userRepository.findListStamp()
+                    : userRepository.findListStampByRole(role);
+            return UserListVersionDTO.builder()
+                    .count(stamp.getCount())
+                    .lastModified(stamp.getLastModified())
+                    .versionSum(stamp.getVersionSum() == null ? 0 : stamp.getVersionSum())
+                    .build();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDTO> searchUsersByUsername(String username, int limit) {
+        if (username == null || username.isBlank()) {
+            return List.of();
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        log.debug("Recherche des utilisateurs contenant: {} (limit={})", username, maxResults);
+        return userSearchBackend.search(username.trim(), maxResults);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserSuggestionDTO> suggestUsers(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+        return userSuggestionIndex.suggest(prefix.trim(), maxResults);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> searchUsersByUsername(String username) {
-        log.debug("Recherche des utilisateurs contenant: {}", username);
-        return userRepository.findByUsernameContainingIgnoreCase(username)
+    public UserFilterResultDTO filterUsers(String role, String emailDomain, String createdFrom, String createdTo,
+                                           int limit, boolean countOnly) {
+        UserBitmapIndex.Criteria criteria = new UserBitmapIndex.Criteria(
+                role, emailDomain, parseMonth("createdFrom", createdFrom), parseMonth("createdTo", createdTo));
+        int maxResults = countOnly ? 0 : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        UserBitmapIndex.Result result = userFilterIndex.filter(criteria, maxResults);
+        log.debug("Filtrage des utilisateurs {}: {} correspondances", criteria, result.count());
+
+        List<UserDTO> content = result.ids().isEmpty() ? List.of() : userRepository.findDtosByIdIn(result.ids())
                 .stream()
-                .map(userMapper::toDTO)
+                .sorted(Comparator.comparing(UserDTO::getId))
                 .collect(Collectors.toList());
+        return UserFilterResultDTO.builder()
+                .count(result.count())
+                .content(content)
+                .build();
+    }
+
+    private static void rejectBlank(String parameterName, String value) {
+        if (value != null && value.isBlank()) {
+            throw new BadRequestException(parameterName, value);
+        }
+    }
+
+    private static YearMonth parseMonth(String parameterName, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException(parameterName, value);
+        }
     }
 
     /**
-     * Valide les contraintes d'unicité (username et email).
-     *
-     * @param userDTO Les données à valider
-     * @param excludeId L'ID à exclure de la vérification (pour les mises à jour)
+     * Valeurs déjà présentes en base parmi celles données. Avec useFilter, les valeurs
+     * que le filtre d'unicité déclare absentes ne sont pas interrogées.
+     */
+    private Set<String> findExisting(UserUniquenessFilter.Field field, Set<String> values, boolean useFilter) {
+        Set<String> candidates = useFilter ? uniquenessFilter.mightExist(field, values) : values;
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = field == UserUniquenessFilter.Field.USERNAME
+                ? userRepository.findExistingUsernames(candidates)
+                : userRepository.findExistingEmails(candidates);
+        if (useFilter) {
+            uniquenessFilter.recordOutcome(candidates.size(), existing.size());
+        }
+        return existing;
+    }
+
+    private static DuplicateResourceException batchConflict() {
+        return new DuplicateResourceException(
+                "Un utilisateur du lot a été créé simultanément par une autre requête, veuillez réessayer");
+    }
+
+    /**
+     * Message de conflit identique à celui de {@link DuplicateResourceException}.
      */
-    private void validateUniqueConstraints(UserDTO userDTO, Long excludeId) {
-        // Vérification du username
-        userRepository.findByUsername(userDTO.getUsername())
-                .ifPresent(existingUser -> {
-                    if (!existingUser.getId().equals(excludeId)) {
-                        throw new DuplicateResourceException("Utilisateur", "username", userDTO.getUsername());
-                    }
-                });
-
-        // Vérification de l'email
-        userRepository.findByEmail(userDTO.getEmail())
-                .ifPresent(existingUser -> {
-                    if (!existingUser.getId().equals(excludeId)) {
-                        throw new DuplicateResourceException("Utilisateur", "email", userDTO.getEmail());
-                    }
-                });
+    private static String duplicateMessage(String fieldName, Object fieldValue) {
+        return String.format("Utilisateur existe déjà avec %s: '%s'", fieldName, fieldValue);
     }
 }
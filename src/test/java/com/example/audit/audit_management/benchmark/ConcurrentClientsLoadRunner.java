@@ -0,0 +1,167 @@
+package com.example.audit.audit_management.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test de charge en modèle fermé: N clients concurrents enchaînent des
+ * requêtes sur une instance démarrée, sans temps de réflexion.
+ *
+ * Sert à comparer les deux modes d'exécution à pool Hikari identique:
+ * - Threads Tomcat classiques (200 au maximum): au-delà, les requêtes
+ *   attendent dans la file d'acceptation du connecteur
+ * - Threads virtuels (VIRTUAL_THREADS_ENABLED=true): les requêtes attendent
+ *   une connexion dans le pool Hikari
+ *
+ * Affiche le débit, les latences p50/p99/max et la répartition des statuts
+ * (les 503 signalent un pool épuisé au-delà de DB_CONNECTION_TIMEOUT).
+ *
+ * Plusieurs URL de base séparées par des virgules sont chargées l'une après
+ * l'autre avec le même chemin: ex. l'API MVC (8081) et l'API réactive
+ * du module reactive/ (8082), pour comparer les deux sur la même base.
+ *
+ * Exécution (après un mvn test-compile, application lancée à part):
+ * java -cp target/test-classes com.example.audit.audit_management.benchmark.ConcurrentClientsLoadRunner \
+ *   http://localhost:8081 /api/users?limit=20 1000 60
+ * Arguments: URL(s) de base, chemin, nombre de clients, durée en secondes.
+ */
+public final class ConcurrentClientsLoadRunner {
+
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private ConcurrentClientsLoadRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+        String path = args.length > 1 ? args[1] : "/api/users?limit=20";
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+        Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 60);
+
+        for (String target : baseUrl.split(",")) {
+            load(URI.create(target.trim() + path), clients, duration);
+        }
+    }
+
+    private static void load(URI uri, int clients, Duration duration) throws Exception {
+        // Un thread virtuel par client: l'injecteur ne doit pas être le goulet d'étranglement
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .executor(executor)
+                     .build()) {
+
+            System.out.printf("Préchauffage %d s (%d clients) sur %s...%n", WARMUP.toSeconds(), clients, uri);
+            run(executor, client, uri, clients, WARMUP);
+
+            System.out.printf("Mesure %d s (%d clients) sur %s%n", duration.toSeconds(), clients, uri);
+            long start = System.nanoTime();
+            List<ClientResult> results = run(executor, client, uri, clients, duration);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            report(results, elapsedSeconds);
+        }
+    }
+
+    private static List<ClientResult> run(ExecutorService executor, HttpClient client, URI uri,
+                                          int clients, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> loop(client, uri, deadline)));
+        }
+        List<ClientResult> results = new ArrayList<>(clients);
+        for (Future<ClientResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static ClientResult loop(HttpClient client, URI uri, long deadline) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        ClientResult result = new ClientResult();
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                result.record(System.nanoTime() - start, response.statusCode());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                result.errors++;
+            }
+        }
+        return result;
+    }
+
+    private static void report(List<ClientResult> results, double elapsedSeconds) {
+        int total = 0;
+        long ok = 0;
+        long serviceUnavailable = 0;
+        long otherStatuses = 0;
+        long errors = 0;
+        for (ClientResult result : results) {
+            total += result.size;
+            ok += result.ok;
+            serviceUnavailable += result.serviceUnavailable;
+            otherStatuses += result.size - result.ok - result.serviceUnavailable;
+            errors += result.errors;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (ClientResult result : results) {
+            System.arraycopy(result.latencies, 0, latencies, offset, result.size);
+            offset += result.size;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("Requêtes: %d (2xx %d, 503 %d, autres statuts %d, erreurs réseau %d)%n",
+                total, ok, serviceUnavailable, otherStatuses, errors);
+        System.out.printf("Débit: %.0f req/s%n", total / elapsedSeconds);
+        System.out.printf("Latence: p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * Latences (ns) et statuts d'un client; propre à son thread, fusionné à la fin.
+     */
+    private static final class ClientResult {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long ok;
+        private long serviceUnavailable;
+        private long errors;
+
+        void record(long latencyNanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (status >= 200 && status < 300) {
+                ok++;
+            } else if (status == 503) {
+                serviceUnavailable++;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.controller.UserController;
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.exception.ErrorResponse;
+import com.example.audit.audit_management.exception.GlobalExceptionHandler;
+import com.example.audit.audit_management.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark JMH du chemin d'erreur: création de l'exception (capture
+ * de la pile comprise), traitement par GlobalExceptionHandler et sérialisation
+ * de l'ErrorResponse, comme pour une réponse 404, 400 (validation) ou 500.
+ *
+ * Les exceptions sont levées depuis la méthode du benchmark: la profondeur de
+ * pile est bien inférieure à celle d'une requête réelle (filtres, DispatcherServlet),
+ * les chiffres sont donc un minorant du coût de capture de la pile.
+ *
+ * Exécution: mvn -Pjmh verify -Djmh.include=GlobalExceptionHandlerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private MethodParameter createUserBody;
+    private UserDTO invalid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        request = new MockHttpServletRequest("POST", "/api/users");
+        createUserBody = new MethodParameter(UserController.class.getMethod("createUser", UserDTO.class), 0);
+        invalid = UserDTO.builder().username("jo").email("not-an-email").role("").build();
+    }
+
+    @Benchmark
+    public byte[] notFound() throws JsonProcessingException {
+        ResourceNotFoundException ex = new ResourceNotFoundException("Utilisateur", "id", 42L);
+        return write(handler.handleResourceNotFound(ex, request));
+    }
+
+    @Benchmark
+    public byte[] validationErrors() throws JsonProcessingException {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalid, "userDTO");
+        bindingResult.addError(new FieldError("userDTO", "username", "jo", false, null, null,
+                "Le nom d'utilisateur doit contenir entre 3 et 50 caractères"));
+        bindingResult.addError(new FieldError("userDTO", "email", "not-an-email", false, null, null,
+                "L'email doit être valide"));
+        bindingResult.addError(new FieldError("userDTO", "role", "", false, null, null,
+                "Le rôle est obligatoire"));
+        MethodArgumentNotValidException ex = new MethodArgumentNotValidException(createUserBody, bindingResult);
+        return write(handler.handleValidationErrors(ex, request));
+    }
+
+    @Benchmark
+    public byte[] unexpectedError() throws JsonProcessingException {
+        IllegalStateException ex = new IllegalStateException("Erreur inattendue");
+        return write(handler.handleGenericException(ex, request));
+    }
+
+    private byte[] write(ResponseEntity<ErrorResponse> response) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GlobalExceptionHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.monitoring.LayerObservationAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark JMH du surcoût de LayerObservationAspect sur un appel de service:
+ * - direct: appel sans proxy (référence)
+ * - noop: proxy avec un ObservationRegistry sans handler (observations désactivées)
+ * - prometheus: proxy avec le registre Prometheus et l'histogramme de centiles
+ *   configuré comme dans application.yaml (chaque couche paie ce coût par appel)
+ *
+ * Budget: la différence prometheus - direct doit rester de l'ordre de la
+ * microseconde (une requête traverse 3 couches, souvent plusieurs repositories).
+ *
+ * Exécution: mvn -Pjmh verify -Djmh.include=LayerObservationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LayerObservationBenchmark {
+
+    private ObservedService direct;
+    private ObservedService noop;
+    private ObservedService prometheus;
+
+    @Setup
+    public void setUp() {
+        direct = new ObservedService();
+        noop = proxy(ObservationRegistry.create());
+
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals(LayerObservationAspect.OBSERVATION_NAME)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .serviceLevelObjectives(msToNanos(5), msToNanos(25), msToNanos(100))
+                        .minimumExpectedValue((double) TimeUnit.MICROSECONDS.toNanos(100))
+                        .maximumExpectedValue(msToNanos(5_000))
+                        .build()
+                        .merge(config);
+            }
+        });
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        prometheus = proxy(observationRegistry);
+    }
+
+    @Benchmark
+    public long direct() {
+        return direct.lookup(42L);
+    }
+
+    @Benchmark
+    public long noop() {
+        return noop.lookup(42L);
+    }
+
+    @Benchmark
+    public long prometheus() {
+        return prometheus.lookup(42L);
+    }
+
+    private ObservedService proxy(ObservationRegistry observationRegistry) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ObservedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LayerObservationAspect(observationRegistry));
+        return factory.getProxy();
+    }
+
+    private static double msToNanos(long millis) {
+        return (double) TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Service minimal: seul le coût de l'interception est mesuré.
+     * Classe interne non statique: ignorée par le scan de composants des
+     * tests @SpringBootTest (le proxy CGLIB est instancié via Objenesis).
+     */
+    @Service
+    public class ObservedService {
+
+        public long lookup(long id) {
+            return id * 31;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LayerObservationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
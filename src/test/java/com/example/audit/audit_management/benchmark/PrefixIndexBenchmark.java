@@ -0,0 +1,106 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.index.PrefixIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micro-benchmark JMH de l'autocomplétion à 1 000 000 d'utilisateurs.
+ * 
+ * - Latence d'une suggestion (10 résultats) pour un préfixe court et un préfixe long
+ * - Lectures pendant des écritures concurrentes (3 lecteurs, 1 écrivain)
+ * 
+ * La méthode main mesure d'abord l'empreinte mémoire réelle par entrée
+ * (tas après GC, avant et après chargement) et la compare à l'estimation
+ * exposée par la métrique users.suggest.memory.per.entry.
+ * 
+ * Exécution: lancer la méthode main depuis l'IDE après un mvn test-compile.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PrefixIndexBenchmark {
+
+    private static final int USERS = 1_000_000;
+
+    private PrefixIndex index;
+    private final AtomicLong nextId = new AtomicLong(USERS);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = load(USERS);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PrefixIndex.Entry> suggestShortPrefix() {
+        return index.search("us", 10);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PrefixIndex.Entry> suggestLongPrefix() {
+        return index.search("user.4242", 10);
+    }
+
+    @Benchmark
+    @Threads(3)
+    public List<PrefixIndex.Entry> suggestDuringWrites() {
+        return index.search("user.12", 10);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void concurrentWriter() {
+        long id = nextId.incrementAndGet();
+        index.put(id, "user." + id, "user." + id + "@example.com");
+    }
+
+    static PrefixIndex load(int users) {
+        PrefixIndex index = new PrefixIndex();
+        for (int i = 0; i < users; i++) {
+            index.put(i, "user." + i, "user." + i + "@example.com");
+        }
+        return index;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        long before = usedHeapAfterGc();
+        PrefixIndex index = load(USERS);
+        long after = usedHeapAfterGc();
+        System.out.printf("Empreinte mesurée: %d octets/entrée, estimée: %d octets/entrée (%d entrées)%n",
+                (after - before) / index.size(), index.estimatedMemoryBytes() / index.size(), index.size());
+
+        new Runner(new OptionsBuilder()
+                .include(PrefixIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
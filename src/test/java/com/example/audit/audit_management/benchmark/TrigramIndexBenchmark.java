@@ -0,0 +1,106 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.index.TrigramIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark JMH de la recherche par sous-chaîne.
+ * 
+ * Compare, à 100 000 et 1 000 000 d'utilisateurs, l'index trigrammes au
+ * parcours complet équivalent à lower(username) LIKE '%terme%':
+ * - terme sélectif ("zoe.ga"): quelques correspondances
+ * - terme fréquent ("mar"): des dizaines de milliers de correspondances
+ * 
+ * Les noms suivent la forme "prenom.nom" + suffixe numérique optionnel.
+ * Le pendant PostgreSQL (pg_trgm) se mesure avec
+ * src/test/resources/benchmark/pg-trgm-search.sql.
+ * 
+ * Exécution: lancer la méthode main depuis l'IDE après un mvn test-compile.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class TrigramIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+            "jean", "marie", "pierre", "sophie", "lucas", "emma", "louis", "lea", "hugo", "chloe",
+            "martin", "camille", "paul", "julie", "arthur", "manon", "jules", "sarah", "zoe", "adam"
+    };
+    private static final String[] LAST_NAMES = {
+            "martin", "bernard", "dubois", "thomas", "robert", "richard", "petit", "durand", "leroy", "moreau",
+            "simon", "laurent", "lefebvre", "michel", "garcia", "david", "bertrand", "roux", "vincent", "fournier"
+    };
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000"})
+    private int users;
+
+    private TrigramIndex index;
+    private String[] names;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        names = new String[users];
+        TrigramIndex.Builder builder = TrigramIndex.builder();
+        for (int i = 0; i < users; i++) {
+            names[i] = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + "."
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                    + (random.nextBoolean() ? "" : String.valueOf(random.nextInt(10_000)));
+            builder.add(i, names[i]);
+        }
+        index = builder.build();
+    }
+
+    @Benchmark
+    public List<Long> indexSelectiveTerm() {
+        return index.search("zoe.ga", LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> indexFrequentTerm() {
+        return index.search("mar", LIMIT);
+    }
+
+    @Benchmark
+    public int fullScanSelectiveTerm() {
+        return scan("zoe.ga");
+    }
+
+    private int scan(String term) {
+        int matches = 0;
+        for (String name : names) {
+            if (name.toLowerCase().contains(term)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TrigramIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
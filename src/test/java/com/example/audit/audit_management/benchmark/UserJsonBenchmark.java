@@ -0,0 +1,105 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark JMH de la sérialisation Jackson des réponses utilisateurs:
+ * un utilisateur (GET /api/users/{id}) et une liste (GET /api/users, taille paramétrée).
+ * 
+ * L'ObjectMapper est construit comme celui de Spring Boot (Jackson2ObjectMapperBuilder:
+ * dates ISO-8601, modules JSR-310). Sérialisation en byte[], comme le convertisseur HTTP.
+ * 
+ * Exécution: mvn -Pjmh verify -Djmh.include=UserJsonBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserJsonBenchmark {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private ObjectMapper objectMapper;
+    private UserDTO user;
+
+    /**
+     * Liste sérialisée, dans un état à part: seul userList dépend de sa taille.
+     */
+    @State(Scope.Benchmark)
+    public static class UserList {
+
+        @Param({"50", "500"})
+        private int size;
+
+        private List<UserDTO> users;
+
+        @Setup
+        public void setUp() {
+            users = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                users.add(user(i));
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        user = user(0);
+    }
+
+    @Benchmark
+    public byte[] singleUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] userList(UserList list) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list.users);
+    }
+
+    private static UserDTO user(int i) {
+        LocalDateTime createdAt = CREATED_AT.plusMinutes(i);
+        return UserDTO.builder()
+                .id(7_200_000_000_000_000L + i)
+                .username("bench.user" + i)
+                .email("bench.user" + i + "@example.com")
+                .role(i % 10 == 0 ? "ADMIN" : "AUDITOR")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .version((long) i % 5)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserJsonBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.AuditManagementApplication;
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.entity.User;
+import com.example.audit.audit_management.repository.UserRepository;
+import com.example.audit.audit_management.service.UserJsonStreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark JMH de la sérialisation d'une page d'utilisateurs:
+ * List&lt;UserDTO&gt; sérialisée par Jackson (application/json, avant) contre
+ * écriture des lignes JDBC en flux (application/vnd.audit.users+json, après).
+ * 
+ * Contexte Spring complet sur H2 en mémoire (profil dev), 10 000 utilisateurs,
+ * pages de 500 écrites dans un flux nul (le coût réseau est exclu).
+ * 
+ * La méthode main active le profileur GC de JMH: les octets alloués par
+ * ligne sont gc.alloc.rate.norm / 500, lecture en base comprise.
+ * 
+ * Exécution: lancer la méthode main depuis l'IDE après un mvn test-compile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserJsonStreamBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int PAGE_SIZE = 500;
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserJsonStreamService userJsonStreamService;
+    private ObjectWriter listWriter;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AuditManagementApplication.class).run(
+                "--spring.profiles.active=dev",
+                "--spring.main.web-application-type=none",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.audit=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        userRepository = context.getBean(UserRepository.class);
+        userJsonStreamService = context.getBean(UserJsonStreamService.class);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, UserDTO.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        TransactionTemplate write = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        write.executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>(USERS);
+            for (int i = 0; i < USERS; i++) {
+                users.add(User.builder()
+                        .username("bench.user" + i)
+                        .email("bench.user" + i + "@example.com")
+                        .role(i % 10 == 0 ? "ADMIN" : "AUDITOR")
+                        .build());
+            }
+            userRepository.saveAll(users);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void pageViaDtoList() {
+        readOnly.executeWithoutResult(status -> {
+            try {
+                listWriter.writeValue(sink, userRepository.findDtoPage(Limit.of(PAGE_SIZE)));
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    @Benchmark
+    public void pageViaStream() throws IOException {
+        userJsonStreamService.writePage(null, PAGE_SIZE, sink);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserJsonStreamBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.entity.User;
+import com.example.audit.audit_management.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark JMH de UserMapper: conversions entité ↔ DTO et mise à jour
+ * d'une entité existante, appelées à chaque lecture et écriture.
+ * 
+ * Sans contexte Spring: le mapper est un simple objet.
+ * gc.alloc.rate.norm donne les octets alloués par conversion.
+ * 
+ * Exécution: mvn -Pjmh verify -Djmh.include=UserMapperBenchmark
+ * (ou la méthode main depuis l'IDE après un mvn test-compile).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+
+    private User user;
+    private UserDTO dto;
+    private UserDTO update;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        user = User.builder()
+                .id(123_456_789L)
+                .username("john.doe")
+                .email("john.doe@example.com")
+                .role("AUDITOR")
+                .createdAt(now)
+                .updatedAt(now)
+                .version(3L)
+                .build();
+        dto = userMapper.toDTO(user);
+        update = UserDTO.builder()
+                .username("john.updated")
+                .email("john.updated@example.com")
+                .role("ADMIN")
+                .build();
+    }
+
+    @Benchmark
+    public UserDTO toDTO() {
+        return userMapper.toDTO(user);
+    }
+
+    @Benchmark
+    public User toEntity() {
+        return userMapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public User updateEntityFromDTO() {
+        userMapper.updateEntityFromDTO(user, update);
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
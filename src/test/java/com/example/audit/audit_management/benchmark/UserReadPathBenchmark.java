@@ -0,0 +1,138 @@
+package com.example.audit.audit_management.benchmark;
+
+import com.example.audit.audit_management.AuditManagementApplication;
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.entity.User;
+import com.example.audit.audit_management.mapper.UserMapper;
+import com.example.audit.audit_management.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Micro-benchmark JMH du chemin de lecture: entités gérées + UserMapper
+ * (avant) contre projection constructeur JPQL en UserDTO (après).
+ * 
+ * Contexte Spring complet sur H2 en mémoire (profil dev), 10 000 utilisateurs:
+ * - Page de 500 utilisateurs (GET /api/users)
+ * - Lecture par identifiant hors cache (GET /api/users/{id})
+ * 
+ * La méthode main active le profileur GC de JMH: gc.alloc.rate.norm donne
+ * les octets alloués par opération, à comparer entre les deux variantes.
+ * 
+ * Exécution: lancer la méthode main depuis l'IDE après un mvn test-compile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserReadPathBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int PAGE_SIZE = 500;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private EntityManager entityManager;
+    private UserMapper userMapper;
+    private TransactionTemplate readOnly;
+    private Long sampleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AuditManagementApplication.class).run(
+                "--spring.profiles.active=dev",
+                "--spring.main.web-application-type=none",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.audit=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        userRepository = context.getBean(UserRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        userMapper = context.getBean(UserMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        TransactionTemplate write = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        write.executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>(USERS);
+            for (int i = 0; i < USERS; i++) {
+                users.add(User.builder()
+                        .username("bench.user" + i)
+                        .email("bench.user" + i + "@example.com")
+                        .role(i % 10 == 0 ? "ADMIN" : "AUDITOR")
+                        .build());
+            }
+            userRepository.saveAll(users);
+        });
+        sampleId = readOnly.execute(status -> userRepository.findDtoPage(Limit.of(USERS / 2))
+                .get(USERS / 2 - 1).getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserDTO> pageViaEntities() {
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT u FROM User u ORDER BY u.id", User.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<UserDTO> pageViaProjection() {
+        return readOnly.execute(status -> userRepository.findDtoPage(Limit.of(PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public UserDTO byIdViaEntity() {
+        return readOnly.execute(status -> userRepository.findById(sampleId).map(userMapper::toDTO).orElseThrow());
+    }
+
+    @Benchmark
+    public UserDTO byIdViaProjection() {
+        return readOnly.execute(status -> userRepository.findDtoById(sampleId).orElseThrow());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserReadPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.audit.audit_management.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de l'encodage des notifications d'invalidation.
+ */
+@DisplayName("UserInvalidationBus - Tests unitaires")
+class UserInvalidationBusTest {
+
+    @Test
+    @DisplayName("Doit encoder puis décoder les ids d'une notification")
+    void shouldRoundTripIds() {
+        List<String> payloads = UserInvalidationBus.encode("node1", List.of(1L, 42L, 9_007_199_254_740_991L));
+
+        assertThat(payloads).containsExactly("node1|1,42,9007199254740991");
+        assertThat(UserInvalidationBus.decodeIds(payloads.get(0)))
+                .containsExactlyInAnyOrder(1L, 42L, 9_007_199_254_740_991L);
+    }
+
+    @Test
+    @DisplayName("Doit découper les rafales en payloads sous la limite PostgreSQL")
+    void shouldSplitLargeBatches() {
+        List<Long> ids = LongStream.range(1_000_000_000_000L, 1_000_000_002_000L).boxed().toList();
+
+        List<String> payloads = UserInvalidationBus.encode("node1", ids);
+
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(payloads).allSatisfy(payload -> {
+            assertThat(payload.length()).isLessThanOrEqualTo(UserInvalidationBus.MAX_PAYLOAD_LENGTH);
+            assertThat(payload).startsWith("node1|");
+        });
+        assertThat(payloads.stream().mapToInt(payload -> UserInvalidationBus.decodeIds(payload).size()).sum())
+                .isEqualTo(ids.size());
+    }
+
+    @Test
+    @DisplayName("Doit découper les ids reçus en lots bornés pour les relectures en base")
+    void shouldChunkRemoteIds() {
+        Set<Long> ids = LongStream.range(0, 2_500).boxed().collect(Collectors.toSet());
+
+        List<Set<Long>> chunks = UserInvalidationBus.chunk(ids, UserInvalidationBus.MAX_IDS_PER_EVENT);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(1_000));
+        assertThat(chunks.stream().flatMap(Set::stream)).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("Doit ignorer les ids illisibles")
+    void shouldIgnoreMalformedIds() {
+        assertThat(UserInvalidationBus.decodeIds("node2|12,abc,,13")).containsExactlyInAnyOrder(12L, 13L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.audit.audit_management.cache;
+
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.event.RemoteUsersChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires du cache des empreintes de liste.
+ */
+@DisplayName("UserListStampCache - Tests unitaires")
+class UserListStampCacheTest {
+
+    private final UserListStampCache cache = new UserListStampCache(Duration.ofMinutes(1));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Doit agréger une seule fois par rôle tant qu'aucune écriture n'a lieu")
+    void shouldLoadOncePerRole() {
+        cache.get(null, this::load);
+        cache.get(null, this::load);
+        cache.get("USER", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Doit recalculer après une écriture distante")
+    void shouldReloadAfterRemoteChange() {
+        cache.get(null, this::load);
+
+        cache.onRemoteUsersChanged(RemoteUsersChangedEvent.of(Set.of(1L)));
+
+        assertThat(cache.get(null, this::load).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Ne doit pas servir une valeur calculée pendant une écriture concurrente")
+    void shouldNotKeepValueLoadedDuringWrite() {
+        // Given: l'écriture est validée pendant l'agrégation
+        cache.get(null, () -> {
+            cache.invalidateAll();
+            return load();
+        });
+
+        // When / Then
+        assertThat(cache.get(null, this::load).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Doit recalculer une empreinte expirée, même sans invalidation")
+    void shouldReloadAfterExpiry() {
+        // Given: durée de vie nulle, toute entrée est expirée
+        UserListStampCache expiring = new UserListStampCache(Duration.ZERO);
+        expiring.get(null, this::load);
+
+        // When / Then
+        assertThat(expiring.get(null, this::load).getCount()).isEqualTo(2);
+    }
+
+    private UserListVersionDTO load() {
+        return UserListVersionDTO.builder().count(loads.incrementAndGet()).build();
+    }
+}
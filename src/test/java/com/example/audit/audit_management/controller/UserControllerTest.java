@@ -1,8 +1,20 @@
 package com.example.audit.audit_management.controller;
 
+import com.example.audit.audit_management.dto.UserBatchItemDTO;
+import com.example.audit.audit_management.dto.UserBatchResultDTO;
+import com.example.audit.audit_management.dto.UserBulkResultDTO;
 import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserFilterResultDTO;
+import com.example.audit.audit_management.dto.UserListVersionDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import com.example.audit.audit_management.dto.UserPatchDTO;
+import com.example.audit.audit_management.dto.UserSuggestionDTO;
+import com.example.audit.audit_management.exception.BadRequestException;
 import com.example.audit.audit_management.exception.GlobalExceptionHandler;
+import com.example.audit.audit_management.exception.PreconditionFailedException;
 import com.example.audit.audit_management.exception.ResourceNotFoundException;
+import com.example.audit.audit_management.service.UserExportService;
+import com.example.audit.audit_management.service.UserJsonStreamService;
 import com.example.audit.audit_management.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,15 +25,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -51,6 +69,12 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserExportService userExportService;
+
+    @MockBean
+    private UserJsonStreamService userJsonStreamService;
+
     private UserDTO userDTO;
 
     @BeforeEach
@@ -61,7 +85,14 @@ class UserControllerTest {
                 .email("john.doe@example.com")
                 .role("AUDITOR")
                 .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.of(2024, 1, 16, 8, 0))
+                .version(3L)
                 .build();
+        when(userService.getListVersion(any())).thenReturn(UserListVersionDTO.builder()
+                .count(1)
+                .lastModified(LocalDateTime.of(2024, 1, 16, 8, 0))
+                .versionSum(3)
+                .build());
     }
 
     @Nested
@@ -73,12 +104,14 @@ class UserControllerTest {
         void shouldReturnAllUsers() throws Exception {
             // Given
             List<UserDTO> users = Arrays.asList(userDTO);
-            when(userService.getAllUsers()).thenReturn(users);
+            when(userService.getAllUsers(null, UserService.DEFAULT_PAGE_SIZE))
+                    .thenReturn(UserPageDTO.builder().content(users).build());
 
             // When/Then
             mockMvc.perform(get("/api/users"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().doesNotExist(UserController.NEXT_CURSOR_HEADER))
                     .andExpect(jsonPath("$", hasSize(1)))
                     .andExpect(jsonPath("$[0].username", is("john.doe")));
         }
@@ -87,13 +120,149 @@ class UserControllerTest {
         @DisplayName("Doit retourner 200 avec liste vide si aucun utilisateur")
         void shouldReturnEmptyList() throws Exception {
             // Given
-            when(userService.getAllUsers()).thenReturn(List.of());
+            when(userService.getAllUsers(null, UserService.DEFAULT_PAGE_SIZE))
+                    .thenReturn(UserPageDTO.builder().content(List.of()).build());
 
             // When/Then
             mockMvc.perform(get("/api/users"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(0)));
         }
+
+        @Test
+        @DisplayName("Doit exposer le curseur de la page suivante")
+        void shouldExposeNextCursor() throws Exception {
+            // Given
+            when(userService.getAllUsers("abc", 1))
+                    .thenReturn(UserPageDTO.builder().content(List.of(userDTO)).nextCursor("def").hasMore(true).build());
+
+            // When/Then
+            mockMvc.perform(get("/api/users").param("after", "abc").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(UserController.NEXT_CURSOR_HEADER, "def"))
+                    .andExpect(header().string("Link", containsString("after=def")))
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 304 sans lire la page si la liste n'a pas changé")
+        void shouldReturn304WhenListUnchanged() throws Exception {
+            // Given
+            when(userService.getAllUsers(null, UserService.DEFAULT_PAGE_SIZE))
+                    .thenReturn(UserPageDTO.builder().content(List.of(userDTO)).build());
+            String etag = mockMvc.perform(get("/api/users"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            clearInvocations(userService);
+
+            // When/Then
+            mockMvc.perform(get("/api/users").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            verify(userService, never()).getAllUsers(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Doit retourner 400 si le curseur est invalide")
+        void shouldReturn400WhenCursorInvalid() throws Exception {
+            // Given
+            when(userService.getAllUsers("bad", UserService.DEFAULT_PAGE_SIZE))
+                    .thenThrow(new BadRequestException("after", "bad"));
+
+            // When/Then
+            mockMvc.perform(get("/api/users").param("after", "bad"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status", is(400)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Accept: " + UserJsonStreamService.MEDIA_TYPE)
+    class StreamedListTests {
+
+        private final MediaType streamType = MediaType.parseMediaType(UserJsonStreamService.MEDIA_TYPE);
+
+        @Test
+        @DisplayName("Doit servir la page en flux quand le type est demandé")
+        void shouldStreamPageWhenNegotiated() throws Exception {
+            // Given
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(2);
+                out.write("{\"content\":[{\"id\":1}],\"nextCursor\":null,\"hasMore\":false}".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(userJsonStreamService).writePage(isNull(), eq(50), any(OutputStream.class));
+
+            // When/Then
+            mockMvc.perform(get("/api/users").param("limit", "50").accept(streamType))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(streamType))
+                    .andExpect(jsonPath("$.content[0].id", is(1)))
+                    .andExpect(jsonPath("$.hasMore", is(false)));
+
+            verify(userService, never()).getAllUsers(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Doit conserver la réponse application/json par défaut")
+        void shouldKeepJsonByDefault() throws Exception {
+            // Given
+            when(userService.getUsersByRole("AUDITOR")).thenReturn(List.of(userDTO));
+
+            // When/Then
+            mockMvc.perform(get("/api/users/role/AUDITOR").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$[0].role", is("AUDITOR")));
+
+            verifyNoInteractions(userJsonStreamService);
+        }
+
+        @Test
+        @DisplayName("Doit écrire les résultats de recherche en flux")
+        void shouldStreamSearchResults() throws Exception {
+            // Given
+            when(userService.searchUsersByUsername("john", 20)).thenReturn(List.of(userDTO));
+
+            // When/Then
+            mockMvc.perform(get("/api/users/search").param("username", "john").accept(streamType))
+                    .andExpect(status().isOk());
+
+            verify(userJsonStreamService).writeUsers(eq(List.of(userDTO)), any(OutputStream.class));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 400 si le curseur est invalide")
+        void shouldReturn400WhenCursorInvalid() throws Exception {
+            // Given
+            doThrow(new BadRequestException("after", "???"))
+                    .when(userJsonStreamService).writePage(eq("???"), anyInt(), any(OutputStream.class));
+
+            // When/Then
+            mockMvc.perform(get("/api/users").param("after", "???").accept(streamType))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status", is(400)));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/users/export")
+    class ExportUsersTests {
+
+        @Test
+        @DisplayName("Doit diffuser les utilisateurs au format NDJSON")
+        void shouldStreamNdjson() throws Exception {
+            // Given
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(0);
+                out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+                return 2L;
+            }).when(userExportService).exportUsersAsNdjson(any(OutputStream.class));
+
+            // When/Then
+            mockMvc.perform(get("/api/users/export"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+        }
     }
 
     @Nested
@@ -110,7 +279,21 @@ class UserControllerTest {
             mockMvc.perform(get("/api/users/1"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id", is(1)))
-                    .andExpect(jsonPath("$.username", is("john.doe")));
+                    .andExpect(jsonPath("$.username", is("john.doe")))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 304 sans corps si l'ETag est à jour")
+        void shouldReturn304WhenETagMatches() throws Exception {
+            // Given
+            when(userService.getUserById(1L)).thenReturn(userDTO);
+
+            // When/Then
+            mockMvc.perform(get("/api/users/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
         }
 
         @Test
@@ -125,6 +308,20 @@ class UserControllerTest {
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.status", is(404)));
         }
+
+        @Test
+        @DisplayName("Doit retourner 503 avec Retry-After si le pool de connexions est épuisé")
+        void shouldReturn503WhenPoolExhausted() throws Exception {
+            // Given
+            when(userService.getUserById(1L))
+                    .thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+
+            // When/Then
+            mockMvc.perform(get("/api/users/1"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.status", is(503)));
+        }
     }
 
     @Nested
@@ -189,6 +386,50 @@ class UserControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/users/batch")
+    class CreateUsersTests {
+
+        @Test
+        @DisplayName("Doit retourner 201 si tout le lot est créé")
+        void shouldReturn201WhenAllCreated() throws Exception {
+            // Given
+            when(userService.createUsers(anyList())).thenReturn(UserBatchResultDTO.builder()
+                    .requested(1).created(1).rejected(0)
+                    .items(List.of(UserBatchItemDTO.builder().index(0)
+                            .status(UserBatchItemDTO.Status.CREATED).user(userDTO).build()))
+                    .build());
+
+            // When/Then
+            mockMvc.perform(post("/api/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(userDTO))))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.created", is(1)))
+                    .andExpect(jsonPath("$.items[0].status", is("CREATED")));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 207 en cas de création partielle")
+        void shouldReturn207WhenPartiallyCreated() throws Exception {
+            // Given
+            when(userService.createUsers(anyList())).thenReturn(UserBatchResultDTO.builder()
+                    .requested(1).created(0).rejected(1)
+                    .items(List.of(UserBatchItemDTO.builder().index(0)
+                            .status(UserBatchItemDTO.Status.REJECTED)
+                            .errors(Map.of("username", "Utilisateur existe déjà")).build()))
+                    .build());
+
+            // When/Then
+            mockMvc.perform(post("/api/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(userDTO))))
+                    .andExpect(status().isMultiStatus())
+                    .andExpect(jsonPath("$.rejected", is(1)))
+                    .andExpect(jsonPath("$.items[0].errors.username").exists());
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/users/{id}")
     class UpdateUserTests {
@@ -211,7 +452,7 @@ class UserControllerTest {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            when(userService.updateUser(eq(1L), any(UserDTO.class))).thenReturn(updatedDTO);
+            when(userService.updateUser(eq(1L), any(UserDTO.class), isNull())).thenReturn(updatedDTO);
 
             // When/Then
             mockMvc.perform(put("/api/users/1")
@@ -220,6 +461,85 @@ class UserControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.username", is("john.updated")));
         }
+
+        @Test
+        @DisplayName("Doit transmettre la version de l'en-tête If-Match")
+        void shouldPassIfMatchVersion() throws Exception {
+            // Given
+            when(userService.updateUser(eq(1L), any(UserDTO.class), eq(3L))).thenReturn(userDTO);
+
+            // When/Then
+            mockMvc.perform(put("/api/users/1")
+                            .header(HttpHeaders.IF_MATCH, "\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userDTO)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 412 si la version a changé")
+        void shouldReturn412WhenVersionStale() throws Exception {
+            // Given
+            when(userService.updateUser(eq(1L), any(UserDTO.class), eq(2L)))
+                    .thenThrow(new PreconditionFailedException("Utilisateur", 1L, 2L));
+
+            // When/Then
+            mockMvc.perform(put("/api/users/1")
+                            .header(HttpHeaders.IF_MATCH, "\"2\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userDTO)))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.status", is(412)));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 412 si l'If-Match est un ETag faible")
+        void shouldReturn412WhenIfMatchWeak() throws Exception {
+            // When/Then
+            mockMvc.perform(put("/api/users/1")
+                            .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userDTO)))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(userService, never()).updateUser(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("PATCH /api/users/{id}")
+    class PatchUserTests {
+
+        @Test
+        @DisplayName("Doit retourner 200 avec l'utilisateur modifié et son nouvel ETag")
+        void shouldPatchUser() throws Exception {
+            // Given
+            UserPatchDTO patch = UserPatchDTO.builder().role("ADMIN").build();
+            when(userService.patchUser(1L, patch, 3L)).thenReturn(userDTO);
+
+            // When/Then
+            mockMvc.perform(patch("/api/users/1")
+                            .header(HttpHeaders.IF_MATCH, "\"3\"")
+                            .contentType(UserController.MERGE_PATCH_JSON)
+                            .content("{\"role\":\"ADMIN\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(jsonPath("$.username", is("john.doe")));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 400 si l'email fourni est invalide")
+        void shouldReturn400WhenEmailInvalid() throws Exception {
+            // When/Then
+            mockMvc.perform(patch("/api/users/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"not-an-email\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.validationErrors.email").exists());
+
+            verify(userService, never()).patchUser(any(), any(), any());
+        }
     }
 
     @Nested
@@ -252,6 +572,49 @@ class UserControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Opérations ensemblistes")
+    class BulkOperationTests {
+
+        @Test
+        @DisplayName("POST /api/users/batch/delete - Doit retourner le nombre de suppressions")
+        void shouldDeleteIds() throws Exception {
+            // Given
+            when(userService.deleteUsers(List.of(1L, 2L))).thenReturn(UserBulkResultDTO.builder().affected(2).build());
+
+            // When/Then
+            mockMvc.perform(post("/api/users/batch/delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[1,2]"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected", is(2)));
+        }
+
+        @Test
+        @DisplayName("DELETE /api/users/role/{role} - Doit supprimer les utilisateurs du rôle")
+        void shouldDeleteRole() throws Exception {
+            // Given
+            when(userService.deleteUsersByRole("AUDITOR")).thenReturn(UserBulkResultDTO.builder().affected(7).build());
+
+            // When/Then
+            mockMvc.perform(delete("/api/users/role/AUDITOR"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected", is(7)));
+        }
+
+        @Test
+        @DisplayName("POST /api/users/role/{role}/reassign - Doit réattribuer le rôle")
+        void shouldReassignRole() throws Exception {
+            // Given
+            when(userService.reassignRole("AUDITOR", "USER")).thenReturn(UserBulkResultDTO.builder().affected(3).build());
+
+            // When/Then
+            mockMvc.perform(post("/api/users/role/AUDITOR/reassign").param("to", "USER"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected", is(3)));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/users/search")
     class SearchUsersTests {
@@ -260,7 +623,7 @@ class UserControllerTest {
         @DisplayName("Doit retourner les utilisateurs correspondants")
         void shouldReturnMatchingUsers() throws Exception {
             // Given
-            when(userService.searchUsersByUsername("john")).thenReturn(List.of(userDTO));
+            when(userService.searchUsersByUsername("john", UserService.DEFAULT_SEARCH_LIMIT)).thenReturn(List.of(userDTO));
 
             // When/Then
             mockMvc.perform(get("/api/users/search")
@@ -270,6 +633,64 @@ class UserControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/users/suggest")
+    class SuggestUsersTests {
+
+        @Test
+        @DisplayName("Doit retourner les suggestions du préfixe")
+        void shouldReturnSuggestions() throws Exception {
+            // Given
+            when(userService.suggestUsers("jo", 5)).thenReturn(List.of(
+                    UserSuggestionDTO.builder().id(1L).username("john.doe").email("john@example.com").build()));
+
+            // When/Then
+            mockMvc.perform(get("/api/users/suggest")
+                            .param("prefix", "jo")
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].username").value("john.doe"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/users/filter")
+    class FilterUsersTests {
+
+        @Test
+        @DisplayName("Doit retourner le comptage et les utilisateurs correspondants")
+        void shouldReturnFilterResult() throws Exception {
+            // Given
+            when(userService.filterUsers("AUDITOR", "client.com", "2024-07", "2024-09", UserService.DEFAULT_PAGE_SIZE, false))
+                    .thenReturn(UserFilterResultDTO.builder().count(42).content(List.of(userDTO)).build());
+
+            // When/Then
+            mockMvc.perform(get("/api/users/filter")
+                            .param("role", "AUDITOR")
+                            .param("emailDomain", "client.com")
+                            .param("createdFrom", "2024-07")
+                            .param("createdTo", "2024-09"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(42))
+                    .andExpect(jsonPath("$.content", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("Doit retourner 400 pour un mois invalide")
+        void shouldReturnBadRequestForInvalidMonth() throws Exception {
+            // Given
+            when(userService.filterUsers(null, null, "juillet", null, UserService.DEFAULT_PAGE_SIZE, true))
+                    .thenThrow(new BadRequestException("createdFrom", "juillet"));
+
+            // When/Then
+            mockMvc.perform(get("/api/users/filter")
+                            .param("createdFrom", "juillet")
+                            .param("countOnly", "true"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/users/role/{role}")
     class GetUsersByRoleTests {
@@ -0,0 +1,69 @@
+package com.example.audit.audit_management.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires du cookie de lecture de ses propres écritures.
+ */
+@DisplayName("ReadYourWritesFilter - Tests unitaires")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("Doit poser le cookie à la première écriture")
+    void shouldSetCookieOnWrite() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/users"), response,
+                (req, res) -> ReplicaRoutingContext.writeRouted());
+
+        // Then
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Doit envoyer au primaire un client dont le cookie est valide")
+    void shouldRequirePrimaryForRecentWriter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() + 2_000)));
+        AtomicBoolean primaryRequired = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> primaryRequired.set(ReplicaRoutingContext.isPrimaryRequired()));
+
+        assertThat(primaryRequired).isTrue();
+        assertThat(ReplicaRoutingContext.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Doit ignorer un cookie expiré ou trop lointain")
+    void shouldIgnoreExpiredOrForgedCookie() throws Exception {
+        for (long offset : new long[]{-1_000, 3_600_000}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+            request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                    Long.toString(System.currentTimeMillis() + offset)));
+            AtomicBoolean primaryRequired = new AtomicBoolean(true);
+
+            filter.doFilter(request, new MockHttpServletResponse(),
+                    (req, res) -> primaryRequired.set(ReplicaRoutingContext.isPrimaryRequired()));
+
+            assertThat(primaryRequired).isFalse();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.audit.audit_management.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires du routage lecture/écriture: deux bases H2 en mémoire
+ * jouent le primaire et le réplica, chacune identifiée par une table marqueur.
+ */
+@DisplayName("ReplicaRoutingDataSource - Tests unitaires")
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaPools pools;
+    private ReplicaPools.Replica replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DriverManagerDataSource primary = database("primary");
+        replica = new ReplicaPools.Replica("replica-1", database("replica"));
+        pools = new ReplicaPools(primary, List.of(replica));
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(pools, meterRegistry);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.end();
+    }
+
+    @Test
+    @DisplayName("Doit servir une transaction readOnly depuis un réplica disponible")
+    void shouldRouteReadOnlyToReplica() {
+        // Given
+        replica.update(0, true);
+
+        // When
+        String served = readOnly.execute(status -> whoAmI());
+
+        // Then
+        assertThat(served).isEqualTo("replica");
+        assertThat(meterRegistry.get("db.reads.routed").tag("target", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Doit servir une transaction en écriture depuis le primaire")
+    void shouldRouteWritesToPrimary() {
+        replica.update(0, true);
+
+        String served = readWrite.execute(status -> whoAmI());
+
+        assertThat(served).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Doit retomber sur le primaire si aucun réplica n'est disponible")
+    void shouldFallBackToPrimaryWhenReplicaUnavailable() {
+        // Given: réplica jamais mesuré
+        // When
+        String served = readOnly.execute(status -> whoAmI());
+
+        // Then
+        assertThat(served).isEqualTo("primary");
+        assertThat(meterRegistry.get("db.reads.routed").tag("reason", "replica-unavailable").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Doit lire sur le primaire après une écriture dans la même requête")
+    void shouldReadOwnWritesWithinRequest() {
+        // Given
+        replica.update(0, true);
+        AtomicInteger writes = new AtomicInteger();
+        ReplicaRoutingContext.begin(false, writes::incrementAndGet);
+
+        // When
+        readWrite.executeWithoutResult(status -> whoAmI());
+        readWrite.executeWithoutResult(status -> whoAmI());
+        String served = readOnly.execute(status -> whoAmI());
+
+        // Then
+        assertThat(writes).hasValue(1);
+        assertThat(served).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Doit lire sur le primaire pour un client qui vient d'écrire")
+    void shouldRouteStickyClientToPrimary() {
+        replica.update(0, true);
+        ReplicaRoutingContext.begin(true, () -> { });
+
+        String served = readOnly.execute(status -> whoAmI());
+
+        assertThat(served).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Doit lire sur le primaire dans une portée primaire, même imbriquée")
+    void shouldRouteLocalStateLoadsToPrimary() {
+        // Given
+        replica.update(0, true);
+
+        // When
+        String nested = ReplicaRoutingContext.onPrimary(() -> {
+            ReplicaRoutingContext.runOnPrimary(() -> { });
+            return readOnly.execute(status -> whoAmI());
+        });
+        String after = readOnly.execute(status -> whoAmI());
+
+        // Then
+        assertThat(nested).isEqualTo("primary");
+        assertThat(after).isEqualTo("replica");
+        assertThat(meterRegistry.get("db.reads.routed").tag("reason", "local-state").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Doit écarter un réplica en retard puis le réintégrer")
+    void shouldTrackReplicaLag() {
+        // Given: le retard est lu dans une table du réplica
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica.dataSource());
+        replicaJdbc.execute("CREATE TABLE replication_lag (seconds DOUBLE PRECISION)");
+        replicaJdbc.update("INSERT INTO replication_lag VALUES (30)");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(pools, meterRegistry, Duration.ofSeconds(10),
+                "SELECT seconds FROM replication_lag");
+
+        // When / Then
+        monitor.checkLag();
+        assertThat(replica.isAvailable()).isFalse();
+        assertThat(meterRegistry.get("db.replica.lag").gauge().value()).isEqualTo(30.0);
+
+        replicaJdbc.update("UPDATE replication_lag SET seconds = 1");
+        monitor.checkLag();
+        assertThat(replica.isAvailable()).isTrue();
+        assertThat(meterRegistry.get("db.replica.available").gauge().value()).isEqualTo(1.0);
+
+        replicaJdbc.execute("DROP TABLE replication_lag");
+        monitor.checkLag();
+        assertThat(replica.isAvailable()).isFalse();
+        assertThat(replica.lagSeconds()).isNaN();
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static DriverManagerDataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE whoami (name VARCHAR(20))");
+        jdbc.update("INSERT INTO whoami VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.audit.audit_management.entity.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires du générateur d'identifiants Snowflake.
+ */
+@DisplayName("SnowflakeIdGenerator - Tests unitaires")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Doit produire des ids strictement croissants et JavaScript-safe")
+    void shouldGenerateIncreasingSafeIds() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(id).isLessThan(1L << 53);
+            assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(3);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("Doit rester unique quand l'horloge recule ou que la séquence déborde")
+    void shouldStayUniqueWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 1_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+
+        long first = generator.nextId();
+        // 2 000 ids dans la même milliseconde: dépasse les 512 valeurs de séquence
+        long last = first;
+        for (int i = 0; i < 2_000; i++) {
+            last = generator.nextId();
+        }
+        clock.addAndGet(-500);
+        long afterRewind = generator.nextId();
+
+        assertThat(last).isGreaterThan(first);
+        assertThat(afterRewind).isGreaterThan(last);
+    }
+
+    @Test
+    @DisplayName("Deux nœuds ne doivent jamais produire le même id")
+    void shouldNotCollideAcrossNodes() throws InterruptedException {
+        SnowflakeIdGenerator node0 = new SnowflakeIdGenerator(0);
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            SnowflakeIdGenerator generator = t % 2 == 0 ? node0 : node1;
+            executor.submit(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("Doit extraire l'ordinal d'un nom de pod de StatefulSet")
+    void shouldResolveOrdinalFromPodName() {
+        assertThat(IdGenerators.ordinalOf("audit-management-1", "audit-management")).isEqualTo(1);
+        assertThat(IdGenerators.ordinalOf("audit-management-7d9f8-xk2p", "audit-management")).isNull();
+        assertThat(IdGenerators.ordinalOf("ip-10-0-0-123", "audit-management")).isNull();
+        assertThat(IdGenerators.ordinalOf("other-app-1", "audit-management")).isNull();
+        assertThat(IdGenerators.ordinalOf("audit-management-1", null)).isNull();
+        assertThat(IdGenerators.ordinalOf(null, "audit-management")).isNull();
+        assertThat(IdGenerators.resolveNodeId(5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Doit refuser un identifiant de nœud hors limites")
+    void shouldRejectInvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.audit.audit_management.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires du filtre de Bloom concurrent.
+ */
+@DisplayName("ConcurrentBloomFilter - Tests unitaires")
+class ConcurrentBloomFilterTest {
+
+    @Test
+    @DisplayName("Ne doit jamais répondre négativement pour une valeur ajoutée")
+    void shouldHaveNoFalseNegatives() {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Doit respecter le taux de faux positifs visé")
+    void shouldStayNearTargetFalsePositiveRate() {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        // ~9.6 bits par élément pour 1%
+        assertThat(filter.memoryBytes()).isBetween(11_000L, 13_000L);
+    }
+
+    @Test
+    @DisplayName("Doit conserver tous les ajouts concurrents")
+    void shouldKeepConcurrentInsertions() throws InterruptedException {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    filter.put(thread + "-" + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain(t + "-" + i)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Doit refuser des paramètres invalides")
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new ConcurrentBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConcurrentBloomFilter(1_000, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.audit.audit_management.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de l'index de préfixes.
+ */
+@DisplayName("PrefixIndex - Tests unitaires")
+class PrefixIndexTest {
+
+    @Test
+    @DisplayName("Doit suggérer par préfixe du nom ou de l'email, par ordre alphabétique")
+    void shouldSuggestByUsernameOrEmailPrefix() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1, "john.doe", "jd@example.com");
+        index.put(2, "Johanna", "johanna@example.com");
+        index.put(3, "alice", "john.alice@example.com");
+        index.put(4, "bob", "bob@example.com");
+
+        // Ordre de la valeur trouvée: "johanna", "john.alice@example.com", "john.doe"
+        assertThat(ids(index.search("JOH", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.search("joh", 2))).containsExactly(2L, 3L);
+        assertThat(index.search("zed", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Ne doit retourner qu'une fois un utilisateur correspondant sur le nom et l'email")
+    void shouldNotDuplicateUsers() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1, "john", "john@example.com");
+
+        assertThat(ids(index.search("john", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Doit refléter les renommages et suppressions")
+    void shouldApplyRenamesAndRemovals() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1, "john", "john@example.com");
+        index.put(2, "jack", "jack@example.com");
+        long sizeBefore = index.estimatedMemoryBytes();
+
+        index.put(1, "paul", "john@example.com");
+        index.remove(2);
+
+        assertThat(ids(index.search("paul", 10))).containsExactly(1L);
+        assertThat(ids(index.search("john", 10))).containsExactly(1L);
+        assertThat(index.search("jack", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.estimatedMemoryBytes()).isPositive().isLessThan(sizeBefore);
+    }
+
+    private static List<Long> ids(List<PrefixIndex.Entry> entries) {
+        return entries.stream().map(PrefixIndex.Entry::id).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.audit.audit_management.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de la reconstruction et de la bascule d'un index en mémoire.
+ */
+@DisplayName("SwappableIndex - Tests unitaires")
+class SwappableIndexTest {
+
+    @Test
+    @DisplayName("Doit rejouer sur le nouvel index les écritures reçues pendant la reconstruction")
+    void shouldReplayWritesReceivedDuringRebuild() {
+        SwappableIndex<List<String>> index = new SwappableIndex<>("l'index de test", new ArrayList<>());
+
+        index.rebuild(() -> {
+            index.apply(values -> values.add("pendant"));
+            return new ArrayList<>(List.of("base"));
+        });
+        index.apply(values -> values.add("après"));
+
+        assertThat(index.current()).containsExactly("base", "pendant", "après");
+    }
+
+    @Test
+    @DisplayName("Doit relancer une reconstruction demandée pendant celle en cours")
+    void shouldRerunRebuildRequestedWhileRunning() throws Exception {
+        SwappableIndex<List<String>> index = new SwappableIndex<>("l'index de test", new ArrayList<>());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Given - une reconstruction bloquée pendant son chargement
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> index.rebuild(() -> {
+            int load = loads.incrementAndGet();
+            if (load == 1) {
+                loading.countDown();
+                await(release);
+            }
+            return new ArrayList<>(List.of("chargement " + load));
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - deux demandes pendant celle-ci: elles rendent la main sans attendre
+        index.rebuild(() -> List.of("jamais utilisé"));
+        index.rebuild(() -> List.of("jamais utilisé"));
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+
+        // Then - une seule reconstruction supplémentaire, par la première
+        assertThat(loads).hasValue(2);
+        assertThat(index.current()).containsExactly("chargement 2");
+    }
+
+    @Test
+    @DisplayName("Doit conserver l'index précédent si la construction échoue")
+    void shouldKeepPreviousIndexOnFailure() {
+        SwappableIndex<List<String>> index = new SwappableIndex<>("l'index de test", new ArrayList<>(List.of("ancien")));
+
+        index.rebuild(() -> {
+            throw new IllegalStateException("base indisponible");
+        });
+        index.apply(values -> values.add("après"));
+
+        assertThat(index.current()).containsExactly("ancien", "après");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.audit.audit_management.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de l'index trigrammes.
+ */
+@DisplayName("TrigramIndex - Tests unitaires")
+class TrigramIndexTest {
+
+    @Test
+    @DisplayName("Doit trouver les sous-chaînes, sans tenir compte de la casse")
+    void shouldFindSubstringsIgnoringCase() {
+        TrigramIndex index = TrigramIndex.builder()
+                .add(1, "john.doe")
+                .add(2, "John.Smith")
+                .add(3, "jane.doe")
+                .build();
+
+        assertThat(index.search("JOHN", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("doe", 10)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("n.d", 10)).containsExactlyInAnyOrder(1L);
+        assertThat(index.search("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Doit classer les préfixes puis les noms courts, et respecter la limite")
+    void shouldRankAndLimit() {
+        TrigramIndex index = TrigramIndex.builder()
+                .add(1, "alice.martin")
+                .add(2, "martin")
+                .add(3, "martine.durand")
+                .add(4, "jean.martin")
+                .build();
+
+        assertThat(index.search("martin", 10)).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(index.search("martin", 2)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Doit parcourir tous les noms pour un terme de moins de 3 caractères")
+    void shouldScanForShortTerms() {
+        TrigramIndex index = TrigramIndex.builder()
+                .add(1, "bob")
+                .add(2, "bobby")
+                .add(3, "alice")
+                .build();
+
+        assertThat(index.search("bo", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Doit refléter les ajouts, renommages et suppressions après construction")
+    void shouldApplyChangesAfterBuild() {
+        TrigramIndex index = TrigramIndex.builder()
+                .add(1, "john.doe")
+                .build();
+
+        index.put(2, "johnny");
+        index.put(1, "jack.doe");
+        index.remove(2);
+        index.put(3, "john.smith");
+
+        assertThat(index.search("john", 10)).containsExactly(3L);
+        assertThat(index.search("jack", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Doit borner le nombre de candidats examinés pour un terme très courant")
+    void shouldCapScannedCandidates() {
+        // Given: plus de candidats que la borne, tous correspondants
+        TrigramIndex.Builder builder = TrigramIndex.builder();
+        for (int id = 0; id < TrigramIndex.MAX_SCANNED + 5_000; id++) {
+            builder.add(id, "user" + id);
+        }
+        TrigramIndex index = builder.build();
+
+        // When / Then: la limite est remplie, sans parcours complet
+        assertThat(index.search("us", 10)).hasSize(10);
+        assertThat(index.search("user", 10)).hasSize(10);
+    }
+}
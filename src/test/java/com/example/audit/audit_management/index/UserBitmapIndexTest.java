@@ -0,0 +1,79 @@
+package com.example.audit.audit_management.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de l'index bitmap de filtrage.
+ */
+@DisplayName("UserBitmapIndex - Tests unitaires")
+class UserBitmapIndexTest {
+
+    private static final LocalDateTime JULY = LocalDateTime.of(2024, 7, 15, 10, 0);
+    private static final LocalDateTime SEPTEMBER = LocalDateTime.of(2024, 9, 30, 23, 59);
+    private static final LocalDateTime DECEMBER = LocalDateTime.of(2024, 12, 1, 0, 0);
+
+    private UserBitmapIndex sampleIndex() {
+        UserBitmapIndex index = new UserBitmapIndex();
+        index.put(10, "AUDITOR", "alice@client.com", JULY);
+        index.put(20, "AUDITOR", "bob@Client.com", SEPTEMBER);
+        index.put(30, "ADMIN", "carol@client.com", JULY);
+        index.put(40, "AUDITOR", "dave@other.org", JULY);
+        index.put(50, "AUDITOR", "erin@client.com", DECEMBER);
+        return index;
+    }
+
+    @Test
+    @DisplayName("Doit intersecter rôle, domaine et période de création")
+    void shouldIntersectCriteria() {
+        UserBitmapIndex.Result result = sampleIndex().filter(new UserBitmapIndex.Criteria(
+                "auditor", "@CLIENT.com", YearMonth.of(2024, 7), YearMonth.of(2024, 9)), 10);
+
+        assertThat(result.count()).isEqualTo(2);
+        assertThat(result.ids()).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("Doit compter sans retourner d'identifiants et respecter la limite")
+    void shouldCountAndLimit() {
+        UserBitmapIndex index = sampleIndex();
+
+        UserBitmapIndex.Result countOnly = index.filter(new UserBitmapIndex.Criteria("AUDITOR", null, null, null), 0);
+        UserBitmapIndex.Result limited = index.filter(new UserBitmapIndex.Criteria(null, null, null, null), 2);
+
+        assertThat(countOnly.count()).isEqualTo(4);
+        assertThat(countOnly.ids()).isEmpty();
+        assertThat(limited.count()).isEqualTo(5);
+        assertThat(limited.ids()).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("Doit refléter les mises à jour et suppressions")
+    void shouldApplyUpdatesAndRemovals() {
+        UserBitmapIndex index = sampleIndex();
+
+        index.put(10, "ADMIN", "alice@client.com", JULY);
+        index.remove(20);
+
+        assertThat(index.filter(new UserBitmapIndex.Criteria("AUDITOR", "client.com", null, null), 10).ids())
+                .containsExactly(50L);
+        assertThat(index.filter(new UserBitmapIndex.Criteria("ADMIN", null, null, null), 10).ids())
+                .containsExactly(10L, 30L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Doit retourner un résultat vide pour une valeur inconnue ou une période inversée")
+    void shouldReturnEmptyForUnknownValues() {
+        UserBitmapIndex index = sampleIndex();
+
+        assertThat(index.filter(new UserBitmapIndex.Criteria("GUEST", null, null, null), 10).count()).isZero();
+        assertThat(index.filter(new UserBitmapIndex.Criteria(null, null,
+                YearMonth.of(2024, 9), YearMonth.of(2024, 7)), 10).count()).isZero();
+    }
+}
@@ -2,7 +2,10 @@ package com.example.audit.audit_management.integration;
 
 import com.example.audit.audit_management.dto.UserDTO;
 import com.example.audit.audit_management.entity.User;
+import com.example.audit.audit_management.monitoring.QueryBudget;
 import com.example.audit.audit_management.repository.UserRepository;
+import com.example.audit.audit_management.service.UserJsonStreamService;
+import com.example.audit.audit_management.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,9 +15,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +49,9 @@ class UserIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
     @BeforeEach
     void setUp() {
         // Nettoyer la base avant chaque test
@@ -75,7 +85,7 @@ class UserIntegrationTest {
         // 2. READ - Récupérer l'utilisateur créé
         mockMvc.perform(get("/api/users/" + userId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(userId.intValue())))
+                .andExpect(jsonPath("$.id", is(userId)))
                 .andExpect(jsonPath("$.username", is("integration.test")));
 
         // 3. READ ALL - Vérifier qu'il apparaît dans la liste
@@ -180,13 +190,10 @@ class UserIntegrationTest {
     @Test
     @DisplayName("Recherche par nom partiel")
     void shouldSearchByUsername() throws Exception {
-        // Given
-        User user1 = User.builder().username("john.doe").email("john@test.com").role("USER").build();
-        User user2 = User.builder().username("john.smith").email("smith@test.com").role("USER").build();
-        User user3 = User.builder().username("jane.doe").email("jane@test.com").role("USER").build();
-        userRepository.save(user1);
-        userRepository.save(user2);
-        userRepository.save(user3);
+        // Given - créés via le service, qui alimente l'index de recherche
+        userService.createUser(UserDTO.builder().username("john.doe").email("john@test.com").role("USER").build());
+        userService.createUser(UserDTO.builder().username("john.smith").email("smith@test.com").role("USER").build());
+        userService.createUser(UserDTO.builder().username("jane.doe").email("jane@test.com").role("USER").build());
 
         // When/Then - Recherche "john"
         mockMvc.perform(get("/api/users/search").param("username", "john"))
@@ -197,6 +204,247 @@ class UserIntegrationTest {
         mockMvc.perform(get("/api/users/search").param("username", "doe"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)));
+
+        // Terme court (sans trigramme), insensible à la casse, et limite
+        mockMvc.perform(get("/api/users/search").param("username", "JA").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username").value("jane.doe"));
+    }
+
+    @Test
+    @DisplayName("Budget de requêtes SQL - Pas de N+1 sur les listes")
+    void shouldStayWithinQueryBudget() throws Exception {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            userRepository.save(User.builder().username("budget" + i).email("budget" + i + "@test.com").role("AUDITOR").build());
+        }
+        userRepository.flush();
+
+        // When/Then - Liste paginée: ETag de liste + page, quel que soit le nombre de lignes
+        QueryBudget budget = QueryBudget.start();
+        mockMvc.perform(get("/api/users").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(20)));
+        budget.assertSelectsAtMost(2).assertNoWrites();
+
+        // Liste par rôle
+        budget = QueryBudget.start();
+        mockMvc.perform(get("/api/users/role/AUDITOR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(20)));
+        budget.assertSelectsAtMost(2).assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("Export NDJSON - Une ligne JSON par utilisateur")
+    void shouldExportUsersAsNdjson() throws Exception {
+        // Given
+        userRepository.save(User.builder().username("export.one").email("one@test.com").role("USER").build());
+        userRepository.save(User.builder().username("export.two").email("two@test.com").role("ADMIN").build());
+
+        // When
+        String body = mockMvc.perform(get("/api/users/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], UserDTO.class).getUsername())
+                .isEqualTo("export.one");
+        assertThat(objectMapper.readValue(lines[1], UserDTO.class).getUsername())
+                .isEqualTo("export.two");
+    }
+
+    @Test
+    @DisplayName("Réponses en flux - JSON identique à application/json")
+    void shouldStreamSameJsonAsDefaultRepresentation() throws Exception {
+        // Given - écrits en base: la lecture en flux passe par JDBC, hors contexte de persistance
+        userRepository.saveAndFlush(User.builder().username("stream.one").email("one@test.com").role("AUDITOR").build());
+        userRepository.saveAndFlush(User.builder().username("stream.two").email("two@test.com").role("AUDITOR").build());
+        userRepository.saveAndFlush(User.builder().username("stream.three").email("three@test.com").role("ADMIN").build());
+        MediaType streamType = MediaType.parseMediaType(UserJsonStreamService.MEDIA_TYPE);
+
+        // When
+        String json = mockMvc.perform(get("/api/users/role/AUDITOR").accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+        String streamed = mockMvc.perform(get("/api/users/role/AUDITOR").accept(streamType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(streamType))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(objectMapper.readTree(streamed)).isEqualTo(objectMapper.readTree(json));
+
+        // Pagination: le curseur suivant est dans le corps
+        mockMvc.perform(get("/api/users").param("limit", "2").accept(streamType))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andExpect(jsonPath("$.nextCursor").isString());
+    }
+
+    @Test
+    @DisplayName("Requêtes conditionnelles - ETag, 304 et If-Match")
+    void shouldHonorConditionalRequests() throws Exception {
+        // Given: données validées, chaque requête dans sa propre transaction; l'empreinte
+        // des listes n'est invalidée qu'après commit
+        UserDTO created = userService.createUser(UserDTO.builder()
+                .username("etag.user").email("etag@test.com").role("USER").build());
+        String path = "/api/users/" + created.getId();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            String etag = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"0\""))
+                    .andExpect(header().exists("Last-Modified"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // When/Then - Client à jour
+            mockMvc.perform(get(path).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+
+            // Mise à jour avec la version lue, puis avec une version périmée
+            UserDTO changes = UserDTO.builder().username("etag.user2").email("etag@test.com").role("USER").build();
+            mockMvc.perform(put(path).header("If-Match", etag)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(changes)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"1\""))
+                    .andExpect(jsonPath("$.version", is(1)));
+            mockMvc.perform(put(path).header("If-Match", etag)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(changes)))
+                    .andExpect(status().isPreconditionFailed());
+
+            // Liste: l'ETag change après une écriture
+            String listEtag = mockMvc.perform(get("/api/users/role/USER"))
+                    .andReturn().getResponse().getHeader("ETag");
+            mockMvc.perform(get("/api/users/role/USER").header("If-None-Match", listEtag))
+                    .andExpect(status().isNotModified());
+            userService.createUser(UserDTO.builder().username("etag.other").email("other@test.com").role("USER").build());
+            mockMvc.perform(get("/api/users/role/USER").header("If-None-Match", listEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+        } finally {
+            userService.deleteUsers(userRepository.findAll().stream().map(User::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("PATCH - Une seule instruction, contrôle de version et unicité")
+    void shouldPatchUser() throws Exception {
+        // Given
+        UserDTO created = userService.createUser(UserDTO.builder()
+                .username("patch.user").email("patch@test.com").role("USER").build());
+        userService.createUser(UserDTO.builder().username("patch.other").email("other@test.com").role("USER").build());
+        String path = "/api/users/" + created.getId();
+
+        // When/Then - Seul le rôle change, la version est incrémentée
+        mockMvc.perform(patch(path).header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.username", is("patch.user")))
+                .andExpect(jsonPath("$.role", is("ADMIN")))
+                .andExpect(jsonPath("$.version", is(1)));
+
+        // Version périmée
+        mockMvc.perform(patch(path).header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"USER\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        // Email déjà pris
+        mockMvc.perform(patch(path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"other@test.com\"}"))
+                .andExpect(status().isConflict());
+
+        // Utilisateur inexistant
+        mockMvc.perform(patch("/api/users/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"USER\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Opérations ensemblistes - Comptes et invalidation du cache")
+    void shouldRunBulkOperations() throws Exception {
+        // Given
+        UserDTO auditor = userService.createUser(UserDTO.builder().username("bulk.a1").email("a1@bulk.com").role("AUDITOR").build());
+        userService.createUser(UserDTO.builder().username("bulk.a2").email("a2@bulk.com").role("AUDITOR").build());
+        UserDTO intern = userService.createUser(UserDTO.builder().username("bulk.i1").email("i1@bulk.com").role("INTERN").build());
+        userService.createUser(UserDTO.builder().username("bulk.i2").email("i2@bulk.com").role("INTERN").build());
+        // Mise en cache avant les écritures ensemblistes
+        userService.getUserById(auditor.getId());
+
+        // When/Then - Réattribution: nouvelle version, cache invalidé
+        mockMvc.perform(post("/api/users/role/AUDITOR/reassign").param("to", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(2)));
+        mockMvc.perform(get("/api/users/" + auditor.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role", is("USER")))
+                .andExpect(jsonPath("$.version", is(1)));
+
+        // Suppression par rôle
+        mockMvc.perform(delete("/api/users/role/USER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(2)));
+        mockMvc.perform(get("/api/users/" + auditor.getId()))
+                .andExpect(status().isNotFound());
+
+        // Suppression par ids (un id inexistant est ignoré)
+        mockMvc.perform(post("/api/users/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + intern.getId() + ", 1]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(1)));
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Création en lot - Rejets partiels par élément")
+    void shouldCreateUsersInBatch() throws Exception {
+        // Given: une ligne validée hors du service, que le filtre d'unicité ne connaît pas;
+        // le lot s'exécute alors dans sa propre transaction, comme en production
+        userRepository.save(User.builder().username("taken.name").email("taken@test.com").role("USER").build());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        List<UserDTO> batch = List.of(
+                UserDTO.builder().username("batch.one").email("batch1@test.com").role("USER").build(),
+                UserDTO.builder().username("taken.name").email("free@test.com").role("USER").build(),
+                UserDTO.builder().username("ab").email("invalid").role("USER").build(),
+                UserDTO.builder().username("batch.two").email("batch2@test.com").role("ADMIN").build());
+
+        try {
+            // When/Then
+            mockMvc.perform(post("/api/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(status().isMultiStatus())
+                    .andExpect(jsonPath("$.created", is(2)))
+                    .andExpect(jsonPath("$.rejected", is(2)))
+                    .andExpect(jsonPath("$.items[0].status", is("CREATED")))
+                    .andExpect(jsonPath("$.items[0].user.id").exists())
+                    .andExpect(jsonPath("$.items[1].errors.username").exists())
+                    .andExpect(jsonPath("$.items[2].errors.username").exists())
+                    .andExpect(jsonPath("$.items[2].errors.email").exists())
+                    .andExpect(jsonPath("$.items[3].status", is("CREATED")));
+
+            assertThat(userRepository.count()).isEqualTo(3);
+        } finally {
+            // Données validées: suppression par le service (index et caches compris)
+            userService.deleteUsers(userRepository.findAll().stream().map(User::getId).toList());
+        }
     }
 
     @Test
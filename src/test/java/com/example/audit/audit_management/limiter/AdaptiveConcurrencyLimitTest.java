@@ -0,0 +1,111 @@
+package com.example.audit.audit_management.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de la limite de concurrence adaptative (latences simulées).
+ */
+@DisplayName("AdaptiveConcurrencyLimit - Tests unitaires")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final int WINDOW = 10;
+
+    @Test
+    @DisplayName("Doit refuser les requêtes au-delà de la limite")
+    void shouldRejectAboveLimit() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, WINDOW);
+
+        // When / Then
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+
+        limit.onIgnore();
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Doit augmenter la limite sous charge à latence stable")
+    void shouldGrowWhenSaturatedAtStableLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 100, 1.5, WINDOW);
+
+        for (int i = 0; i < 10; i++) {
+            saturatedWindow(limit, 5);
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Doit réduire la limite quand la latence augmente")
+    void shouldShrinkWhenLatencyIncreases() {
+        // Given: référence à 5 ms
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 4, 100, 1.5, WINDOW);
+        for (int i = 0; i < 5; i++) {
+            saturatedWindow(limit, 5);
+        }
+        int before = limit.getLimit();
+
+        // When: la base ralentit (50 ms)
+        for (int i = 0; i < 10; i++) {
+            saturatedWindow(limit, 50);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isLessThan(before / 2);
+    }
+
+    @Test
+    @DisplayName("Ne doit pas augmenter la limite sans charge")
+    void shouldNotGrowWhenApplicationLimited() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 4, 100, 1.5, WINDOW);
+
+        for (int i = 0; i < 10 * WINDOW; i++) {
+            limit.tryAcquire();
+            limit.onSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Doit réduire la limite à chaque échec de saturation, sans passer sous le minimum")
+    void shouldShrinkOnDropsDownToMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 100, 1.5, WINDOW);
+
+        limit.tryAcquire();
+        limit.onDropped();
+        assertThat(limit.getLimit()).isEqualTo(18);
+
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.onDropped();
+        }
+        assertThat(limit.getLimit()).isEqualTo(4);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    /**
+     * Une fenêtre où toute la limite est occupée, chaque requête durant rttMillis.
+     */
+    private static void saturatedWindow(AdaptiveConcurrencyLimit limit, long rttMillis) {
+        int acquired = 0;
+        while (acquired < WINDOW && limit.tryAcquire()) {
+            acquired++;
+        }
+        int current = limit.getLimit();
+        while (limit.getInFlight() < current && limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.onSuccess(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.audit.audit_management.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires du filtre de délestage: 503 rapide, limites lecture/écriture séparées.
+ */
+@DisplayName("ConcurrencyLimitFilter - Tests unitaires")
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimit readLimit;
+    private AdaptiveConcurrencyLimit writeLimit;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readLimit = new AdaptiveConcurrencyLimit(1, 1, 10, 1.5, 10);
+        writeLimit = new AdaptiveConcurrencyLimit(1, 1, 10, 1.5, 10);
+        filter = new ConcurrencyLimitFilter(readLimit, writeLimit, meterRegistry,
+                new ObjectMapper().findAndRegisterModules(), Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Doit laisser passer une requête sous la limite et libérer sa place")
+    void shouldPassUnderLimit() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users/1"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(readLimit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Doit répondre 503 avec Retry-After quand la limite est atteinte")
+    void shouldRejectWithRetryAfter() throws Exception {
+        // Given: la seule place en lecture est occupée
+        readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"status\":503", "\"path\":\"/api/users\"");
+        assertThat(meterRegistry.get("http.server.concurrency.rejected").tag("type", "read").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Doit servir les écritures quand les lectures sont saturées")
+    void shouldIsolateWritesFromReads() throws Exception {
+        readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/users"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.server.concurrency.inflight").tag("type", "read").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Doit réduire la limite quand la requête finit en 503")
+    void shouldShrinkLimitOnServiceUnavailable() throws Exception {
+        writeLimit = new AdaptiveConcurrencyLimit(10, 1, 10, 1.5, 10);
+        filter = new ConcurrencyLimitFilter(readLimit, writeLimit, new SimpleMeterRegistry(),
+                new ObjectMapper(), Duration.ofSeconds(1));
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/users/1"), new MockHttpServletResponse(),
+                (request, response) -> ((MockHttpServletResponse) response).setStatus(503));
+
+        assertThat(writeLimit.getLimit()).isEqualTo(9);
+        assertThat(writeLimit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ne doit pas mesurer la durée d'un export ou d'un flux")
+    void shouldIgnoreStreamingResponses() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users/export"), new MockHttpServletResponse(),
+                (request, response) -> response.setContentType("application/x-ndjson;charset=UTF-8"));
+
+        // Then: la place est libérée, la réponse est reconnue comme un flux
+        assertThat(readLimit.getInFlight()).isZero();
+        assertThat(ConcurrencyLimitFilter.isStreaming("application/vnd.audit.users+json")).isTrue();
+        assertThat(ConcurrencyLimitFilter.isStreaming("text/csv;charset=UTF-8")).isTrue();
+        assertThat(ConcurrencyLimitFilter.isStreaming("application/json")).isFalse();
+        assertThat(ConcurrencyLimitFilter.isStreaming(null)).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.audit.audit_management.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mesures d'un scénario (fenêtre de mesure, préchauffage exclu).
+ * Latences en millisecondes, mesurées depuis l'instant d'émission prévu:
+ * une requête retardée par un serveur saturé compte tout son retard.
+ *
+ * @param scenario Le nom du scénario
+ * @param requests Le nombre de requêtes prévues pendant la fenêtre
+ * @param throughput Le débit de réponses obtenu, en requêtes/s
+ * @param p50 La médiane
+ * @param p99 Le 99e centile
+ * @param p999 Le 99,9e centile
+ * @param max La latence maximale
+ * @param errorRate La part de 5xx, d'erreurs réseau et de requêtes abandonnées
+ * @param clientErrors Le nombre de réponses 4xx (non comptées comme erreurs)
+ * @param operationP99 Le 99e centile par opération
+ */
+record LoadResult(String scenario,
+                  long requests,
+                  double throughput,
+                  double p50,
+                  double p99,
+                  double p999,
+                  double max,
+                  double errorRate,
+                  long clientErrors,
+                  Map<String, Double> operationP99) {
+
+    /**
+     * @return Les SLO non respectés (vide si tous le sont)
+     */
+    List<String> sloViolations(LoadScenario.Slo slo) {
+        List<String> violations = new ArrayList<>();
+        check(violations, "p50", p50, slo.p50().toMillis());
+        check(violations, "p99", p99, slo.p99().toMillis());
+        check(violations, "p999", p999, slo.p999().toMillis());
+        if (errorRate > slo.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "taux d'erreur %.4f > %.4f", errorRate, slo.maxErrorRate()));
+        }
+        return violations;
+    }
+
+    /**
+     * Compare à une référence: p99 plus lent ou débit plus faible au-delà du seuil.
+     *
+     * @param threshold L'écart relatif toléré (0.2 = 20 %)
+     * @return Les régressions constatées (vide si aucune)
+     */
+    List<String> regressionsAgainst(LoadResult baseline, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        if (p99 > baseline.p99() * (1 + threshold)) {
+            regressions.add(String.format(Locale.ROOT, "p99 %.1f ms > référence %.1f ms (+%.0f %% toléré)",
+                    p99, baseline.p99(), threshold * 100));
+        }
+        if (throughput < baseline.throughput() * (1 - threshold)) {
+            regressions.add(String.format(Locale.ROOT, "débit %.0f req/s < référence %.0f req/s (-%.0f %% toléré)",
+                    throughput, baseline.throughput(), threshold * 100));
+        }
+        return regressions;
+    }
+
+    String summary() {
+        return String.format(Locale.ROOT,
+                "%-14s %8d req %8.0f req/s  p50 %7.1f ms  p99 %7.1f ms  p999 %7.1f ms  max %7.1f ms  erreurs %.4f  4xx %d",
+                scenario, requests, throughput, p50, p99, p999, max, errorRate, clientErrors);
+    }
+
+    private static void check(List<String> violations, String name, double actualMs, long limitMs) {
+        if (actualMs > limitMs) {
+            violations.add(String.format(Locale.ROOT, "%s %.1f ms > %d ms", name, actualMs, limitMs));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.audit.audit_management.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Scénario de charge en modèle ouvert: un mélange d'opérations pondérées,
+ * un débit d'arrivée imposé (indépendant des temps de réponse) et les SLO
+ * à respecter.
+ *
+ * @param name Le nom du scénario (clé de la référence de non-régression)
+ * @param tags Les étiquettes; "gate" soumet le scénario au contrôle de non-régression
+ * @param mix Les opérations et leurs poids
+ * @param arrivals Le débit d'arrivée, en requêtes/s, en fonction du temps écoulé
+ * @param slo Les objectifs de latence et de taux d'erreur
+ */
+record LoadScenario(String name, Set<String> tags, List<Operation> mix, ArrivalRate arrivals, Slo slo) {
+
+    /**
+     * Étiquette des scénarios dont une régression fait échouer le build.
+     */
+    static final String GATE = "gate";
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Opération du mélange.
+     *
+     * @param name Le nom de l'opération (latences par opération dans le rapport)
+     * @param weight Le poids relatif dans le mélange
+     * @param request La requête à émettre
+     * @param onResponse Le traitement de la réponse (ex: mémoriser l'id créé), ou null
+     */
+    record Operation(String name,
+                     int weight,
+                     Function<UserTraffic, HttpRequest> request,
+                     BiConsumer<UserTraffic, HttpResponse<String>> onResponse) {
+
+        static Operation of(String name, int weight, Function<UserTraffic, HttpRequest> request) {
+            return new Operation(name, weight, request, null);
+        }
+    }
+
+    /**
+     * Débit d'arrivée en fonction du temps écoulé depuis le début du scénario.
+     */
+    @FunctionalInterface
+    interface ArrivalRate {
+
+        double perSecondAt(Duration elapsed);
+
+        static ArrivalRate constant(double perSecond) {
+            return elapsed -> perSecond;
+        }
+
+        /**
+         * Débit de base entrecoupé de rafales: {@code burstLength} à {@code burstPerSecond}
+         * toutes les {@code period}.
+         */
+        static ArrivalRate bursty(double basePerSecond, double burstPerSecond, Duration period, Duration burstLength) {
+            return elapsed -> elapsed.toMillis() % period.toMillis() < burstLength.toMillis()
+                    ? burstPerSecond
+                    : basePerSecond;
+        }
+
+        default ArrivalRate scaled(double factor) {
+            return elapsed -> perSecondAt(elapsed) * factor;
+        }
+    }
+
+    /**
+     * Objectifs de niveau de service d'un scénario.
+     *
+     * @param p50 La médiane maximale
+     * @param p99 Le 99e centile maximal
+     * @param p999 Le 99,9e centile maximal
+     * @param maxErrorRate Le taux d'erreur maximal (5xx, erreurs réseau, requêtes abandonnées)
+     */
+    record Slo(Duration p50, Duration p99, Duration p999, double maxErrorRate) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.audit.audit_management.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Générateur de charge en modèle ouvert.
+ *
+ * Les requêtes partent à intervalles fixes dictés par le débit d'arrivée,
+ * que les précédentes aient répondu ou non (contrairement à N clients en
+ * boucle, qui ralentissent avec le serveur et masquent sa saturation).
+ * La latence est mesurée depuis l'instant d'émission prévu: un retard
+ * d'émission est compté (pas d'omission coordonnée).
+ *
+ * Au-delà de {@code maxInFlight} requêtes sans réponse, les nouvelles
+ * arrivées sont abandonnées et comptées comme erreurs.
+ */
+final class OpenModelLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient client;
+    private final int maxInFlight;
+
+    OpenModelLoadGenerator(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    LoadResult run(LoadScenario scenario, UserTraffic traffic, Duration warmup, Duration duration)
+            throws InterruptedException {
+        Window window = new Window(scenario.mix());
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<LoadScenario.Operation> mix = scenario.mix();
+        int totalWeight = mix.stream().mapToInt(LoadScenario.Operation::weight).sum();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long intended = next;
+            boolean measured = intended >= measureFrom;
+            LoadScenario.Operation operation = pick(mix, totalWeight);
+            if (measured) {
+                window.requests.increment();
+            }
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    window.dropped.increment();
+                }
+            } else {
+                send(operation, traffic, intended, measured ? window : null, inFlight);
+            }
+            double rate = scenario.arrivals().perSecondAt(Duration.ofNanos(intended - start));
+            next += (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(rate, 1.0));
+        }
+        // Attente des dernières réponses (le délai d'expiration des requêtes borne l'attente)
+        inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - measureFrom) / 1e9;
+        return window.result(scenario.name(), elapsedSeconds);
+    }
+
+    private void send(LoadScenario.Operation operation, UserTraffic traffic, long intended,
+                      Window window, Semaphore inFlight) {
+        HttpRequest request;
+        try {
+            request = operation.request().apply(traffic);
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            throw ex;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        long latency = System.nanoTime() - intended;
+                        if (response != null && operation.onResponse() != null) {
+                            operation.onResponse().accept(traffic, response);
+                        }
+                        if (window != null) {
+                            window.record(operation.name(), latency, response == null ? -1 : response.statusCode());
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    private static LoadScenario.Operation pick(List<LoadScenario.Operation> mix, int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (LoadScenario.Operation operation : mix) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    /**
+     * Compteurs et histogrammes de la fenêtre de mesure (écrits par les threads de réponse).
+     */
+    private static final class Window {
+
+        private final Recorder all = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Map<String, Recorder> byOperation = new LinkedHashMap<>();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        Window(List<LoadScenario.Operation> mix) {
+            for (LoadScenario.Operation operation : mix) {
+                byOperation.put(operation.name(), new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            }
+        }
+
+        void record(String operation, long latencyNanos, int status) {
+            long value = Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS);
+            all.recordValue(value);
+            byOperation.get(operation).recordValue(value);
+            completed.increment();
+            if (status < 0 || status >= 500) {
+                errors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            }
+        }
+
+        LoadResult result(String scenario, double elapsedSeconds) {
+            Histogram histogram = all.getIntervalHistogram();
+            Map<String, Double> operationP99 = new LinkedHashMap<>();
+            byOperation.forEach((name, recorder) ->
+                    operationP99.put(name, millis(recorder.getIntervalHistogram().getValueAtPercentile(99))));
+            long total = requests.sum();
+            double errorRate = total == 0 ? 0 : (double) (errors.sum() + dropped.sum()) / total;
+            return new LoadResult(scenario,
+                    total,
+                    completed.sum() / elapsedSeconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    errorRate,
+                    clientErrors.sum(),
+                    operationP99);
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.audit.audit_management.loadtest;
+
+import com.example.audit.audit_management.dto.UserBatchItemDTO;
+import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.service.UserService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de charge HTTP de bout en bout de /api/users (modèle ouvert).
+ *
+ * L'application démarre sur un port aléatoire avec H2 en mode PostgreSQL,
+ * pré-chargée de {@link #SEEDED_USERS} utilisateurs. Chaque scénario impose
+ * un débit d'arrivée et vérifie ses SLO; les scénarios étiquetés "gate" sont
+ * en plus comparés à la référence enregistrée (p99 et débit) et font échouer
+ * le build au-delà du seuil de régression.
+ *
+ * Exclus du build par défaut (étiquette "load"). Exécution: mvn -Pload test
+ *
+ * Propriétés système:
+ * - loadtest.scenarios / loadtest.tags: restreindre les scénarios (listes séparées par des virgules)
+ * - loadtest.warmup / loadtest.duration: durées en secondes (5 et 20 par défaut)
+ * - loadtest.rateFactor: multiplicateur des débits d'arrivée (1 par défaut)
+ * - loadtest.regressionThreshold: écart toléré par rapport à la référence (0.2 par défaut)
+ * - loadtest.baseline: fichier de référence (src/test/resources/loadtest/baseline.json)
+ * - loadtest.updateBaseline=true: réécrire la référence avec les mesures de l'exécution
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "logging.level.com.example.audit=WARN"
+        })
+@ActiveProfiles("test")
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Tests de charge - API Users")
+class UserLoadTest {
+
+    private static final int SEEDED_USERS = 5_000;
+    private static final int MAX_IN_FLIGHT = 512;
+    private static final Path RESULTS = Path.of("target", "load-test", "results.json");
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration", 20));
+    private static final double RATE_FACTOR = Double.parseDouble(System.getProperty("loadtest.rateFactor", "1"));
+    private static final double REGRESSION_THRESHOLD =
+            Double.parseDouble(System.getProperty("loadtest.regressionThreshold", "0.2"));
+    private static final Path BASELINE =
+            Path.of(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.json"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("loadtest.updateBaseline");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, LoadResult> results = new LinkedHashMap<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    private ExecutorService executor;
+    private OpenModelLoadGenerator generator;
+    private List<Long> seededIds;
+
+    @BeforeAll
+    void setUp() {
+        seededIds = seed();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        generator = new OpenModelLoadGenerator(client, MAX_IN_FLIGHT);
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        executor.shutdownNow();
+        Files.createDirectories(RESULTS.getParent());
+        objectMapper.writeValue(RESULTS.toFile(), results);
+        if (UPDATE_BASELINE && !results.isEmpty()) {
+            Map<String, LoadResult> baseline = new LinkedHashMap<>(readBaseline());
+            baseline.putAll(results);
+            Files.createDirectories(BASELINE.toAbsolutePath().getParent());
+            objectMapper.writeValue(BASELINE.toFile(), baseline);
+        }
+    }
+
+    static Stream<LoadScenario> scenarios() {
+        Set<String> names = listProperty("loadtest.scenarios");
+        Set<String> tags = listProperty("loadtest.tags");
+        return Stream.of(readHeavy(), writeHeavy(), searchHeavy(), bursty())
+                .filter(s -> names.isEmpty() || names.contains(s.name()))
+                .filter(s -> tags.isEmpty() || s.tags().stream().anyMatch(tags::contains));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    @DisplayName("Scénario de charge - SLO et non-régression")
+    void scenario(LoadScenario scenario) throws Exception {
+        UserTraffic traffic = new UserTraffic(URI.create("http://localhost:" + port), seededIds);
+        LoadScenario scaled = new LoadScenario(scenario.name(), scenario.tags(), scenario.mix(),
+                scenario.arrivals().scaled(RATE_FACTOR), scenario.slo());
+
+        LoadResult result = generator.run(scaled, traffic, WARMUP, DURATION);
+        results.put(scenario.name(), result);
+        System.out.println(result.summary());
+        System.out.println("  p99 par opération (ms): " + result.operationP99());
+
+        List<String> failures = new ArrayList<>(result.sloViolations(scenario.slo()));
+        LoadResult baseline = readBaseline().get(scenario.name());
+        if (!UPDATE_BASELINE && baseline != null && scenario.tags().contains(LoadScenario.GATE)) {
+            failures.addAll(result.regressionsAgainst(baseline, REGRESSION_THRESHOLD));
+        }
+        assertThat(failures).as("%s: SLO ou régression", scenario.name()).isEmpty();
+    }
+
+    // ============ Scénarios (débits et SLO: objectifs, pas mesures) ============
+
+    private static LoadScenario readHeavy() {
+        return new LoadScenario("read-heavy", Set.of(LoadScenario.GATE, "read"), readMix(),
+                LoadScenario.ArrivalRate.constant(500),
+                new LoadScenario.Slo(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(200), 0.001));
+    }
+
+    private static LoadScenario writeHeavy() {
+        return new LoadScenario("write-heavy", Set.of(LoadScenario.GATE, "write"), List.of(
+                new LoadScenario.Operation("create", 50, UserTraffic::create, UserTraffic::onCreated),
+                LoadScenario.Operation.of("patch", 30, UserTraffic::patch),
+                LoadScenario.Operation.of("delete", 10, UserTraffic::delete),
+                LoadScenario.Operation.of("getById", 10, UserTraffic::getById)),
+                LoadScenario.ArrivalRate.constant(200),
+                new LoadScenario.Slo(Duration.ofMillis(20), Duration.ofMillis(100), Duration.ofMillis(400), 0.001));
+    }
+
+    private static LoadScenario searchHeavy() {
+        return new LoadScenario("search-heavy", Set.of(LoadScenario.GATE, "search"), List.of(
+                LoadScenario.Operation.of("search", 60, UserTraffic::search),
+                LoadScenario.Operation.of("suggest", 30, UserTraffic::suggest),
+                LoadScenario.Operation.of("filter", 10, UserTraffic::filter)),
+                LoadScenario.ArrivalRate.constant(300),
+                new LoadScenario.Slo(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(200), 0.001));
+    }
+
+    /**
+     * Lectures à 200 req/s avec une rafale à 1000 req/s d'une seconde toutes les 5 secondes.
+     */
+    private static LoadScenario bursty() {
+        return new LoadScenario("bursty", Set.of("burst"), readMix(),
+                LoadScenario.ArrivalRate.bursty(200, 1_000, Duration.ofSeconds(5), Duration.ofSeconds(1)),
+                new LoadScenario.Slo(Duration.ofMillis(20), Duration.ofMillis(250), Duration.ofMillis(1_000), 0.001));
+    }
+
+    private static List<LoadScenario.Operation> readMix() {
+        return List.of(
+                LoadScenario.Operation.of("getById", 70, UserTraffic::getById),
+                LoadScenario.Operation.of("page", 20, UserTraffic::page),
+                LoadScenario.Operation.of("patch", 5, UserTraffic::patch),
+                new LoadScenario.Operation("create", 5, UserTraffic::create, UserTraffic::onCreated));
+    }
+
+    // ============ Utilitaires ============
+
+    private List<Long> seed() {
+        List<Long> ids = new ArrayList<>(SEEDED_USERS);
+        for (int from = 0; from < SEEDED_USERS; from += UserService.MAX_BATCH_SIZE) {
+            List<UserDTO> batch = new ArrayList<>(UserService.MAX_BATCH_SIZE);
+            for (int i = from; i < Math.min(from + UserService.MAX_BATCH_SIZE, SEEDED_USERS); i++) {
+                batch.add(UserDTO.builder()
+                        .username(UserTraffic.seededUsername(i))
+                        .email(UserTraffic.seededEmail(i))
+                        .role(UserTraffic.ROLES[i % UserTraffic.ROLES.length])
+                        .build());
+            }
+            userService.createUsers(batch).getItems().stream()
+                    .filter(item -> item.getStatus() == UserBatchItemDTO.Status.CREATED)
+                    .forEach(item -> ids.add(item.getUser().getId()));
+        }
+        assertThat(ids).as("utilisateurs pré-chargés").hasSize(SEEDED_USERS);
+        return ids;
+    }
+
+    private Map<String, LoadResult> readBaseline() {
+        if (!Files.exists(BASELINE)) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(BASELINE.toFile(), new TypeReference<Map<String, LoadResult>>() { });
+        } catch (IOException ex) {
+            Assumptions.abort("Référence illisible (" + BASELINE + "): " + ex.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static Set<String> listProperty(String name) {
+        String value = System.getProperty(name, "");
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
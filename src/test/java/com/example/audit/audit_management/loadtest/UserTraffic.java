@@ -0,0 +1,135 @@
+package com.example.audit.audit_management.loadtest;
+
+import com.example.audit.audit_management.service.impl.UserCursorCodec;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Requêtes de l'API /api/users pour les scénarios de charge, et l'état
+ * partagé qu'elles nécessitent:
+ * - les identifiants des utilisateurs pré-chargés (lectures)
+ * - les identifiants créés pendant le scénario (modifiés puis supprimés)
+ * - un compteur pour des noms et emails uniques
+ */
+final class UserTraffic {
+
+    static final String[] ROLES = {"AUDITOR", "ADMIN", "MANAGER"};
+    static final String[] DOMAINS = {"example.com", "client.com", "audit.fr", "corp.net", "mail.org"};
+
+    private static final Pattern CREATED_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI baseUri;
+    private final List<Long> seededIds;
+    private final int seededUsers;
+    private final ConcurrentLinkedDeque<Long> createdIds = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    UserTraffic(URI baseUri, List<Long> seededIds) {
+        this.baseUri = baseUri;
+        this.seededIds = List.copyOf(seededIds);
+        this.seededUsers = seededIds.size();
+    }
+
+    static String seededUsername(int index) {
+        return "load.user" + index;
+    }
+
+    static String seededEmail(int index) {
+        return seededUsername(index) + "@" + DOMAINS[index % DOMAINS.length];
+    }
+
+    // ============ Lectures ============
+
+    HttpRequest getById() {
+        return get("/api/users/" + randomSeededId());
+    }
+
+    HttpRequest page() {
+        String cursor = UserCursorCodec.encode(randomSeededId());
+        return get("/api/users?limit=50&after=" + cursor);
+    }
+
+    HttpRequest search() {
+        // Fragment de nom: "user12" correspond à une centaine d'utilisateurs
+        return get("/api/users/search?username=user" + random().nextInt(100) + "&limit=20");
+    }
+
+    HttpRequest suggest() {
+        return get("/api/users/suggest?prefix=load.user" + random().nextInt(1000) + "&limit=10");
+    }
+
+    HttpRequest filter() {
+        String role = ROLES[random().nextInt(ROLES.length)];
+        String domain = DOMAINS[random().nextInt(DOMAINS.length)];
+        return get("/api/users/filter?role=" + role + "&emailDomain=" + domain + "&countOnly=true");
+    }
+
+    // ============ Écritures ============
+
+    HttpRequest create() {
+        long n = sequence.incrementAndGet();
+        String username = "load.new" + n;
+        String body = String.format(Locale.ROOT, "{\"username\":\"%s\",\"email\":\"%s@%s\",\"role\":\"%s\"}",
+                username, username, DOMAINS[(int) (n % DOMAINS.length)], ROLES[(int) (n % ROLES.length)]);
+        return request("/api/users")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    void onCreated(HttpResponse<String> response) {
+        if (response.statusCode() == 201) {
+            Matcher matcher = CREATED_ID.matcher(response.body());
+            if (matcher.find()) {
+                createdIds.addLast(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+
+    HttpRequest patch() {
+        Long id = createdIds.peekLast();
+        String role = ROLES[random().nextInt(ROLES.length)];
+        return request("/api/users/" + (id != null ? id : randomSeededId()))
+                .header("Content-Type", "application/merge-patch+json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"role\":\"" + role + "\"}"))
+                .build();
+    }
+
+    /**
+     * Supprime le plus ancien utilisateur créé par le scénario (lecture si aucun).
+     */
+    HttpRequest delete() {
+        Long id = createdIds.pollFirst();
+        if (id == null) {
+            return getById();
+        }
+        return request("/api/users/" + id).DELETE().build();
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(TIMEOUT);
+    }
+
+    private long randomSeededId() {
+        return seededIds.get(random().nextInt(seededUsers));
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
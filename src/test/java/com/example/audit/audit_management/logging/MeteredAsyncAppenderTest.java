@@ -0,0 +1,123 @@
+package com.example.audit.audit_management.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de l'appender asynchrone: l'appelant ne bloque jamais,
+ * les événements qui ne tiennent pas dans le tampon sont comptés.
+ */
+@DisplayName("MeteredAsyncAppender - Tests unitaires")
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MeteredAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        // Un contexte nu n'a pas d'adaptateur MDC: AsyncAppender le lit à chaque événement
+        context.setMDCAdapter(new LogbackMDCAdapter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Doit abandonner sans bloquer quand le tampon est plein")
+    void shouldDropWithoutBlockingWhenFull() throws InterruptedException {
+        // Given - écriture bloquée sur un premier événement: le tampon se remplit
+        BlockedAppender delegate = new BlockedAppender(release);
+        appender = start(delegate, 4);
+        Logger logger = context.getLogger("test");
+        appender.doAppend(new LoggingEvent(Logger.FQCN, logger, Level.WARN, "premier", null, null));
+        assertThat(delegate.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(new LoggingEvent(Logger.FQCN, logger, Level.WARN, "événement {}", null, new Object[]{i}));
+        }
+
+        // Then
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(1);
+        assertThat(appender.getDroppedCount()).isGreaterThanOrEqualTo(90);
+        assertThat(appender.getRemainingCapacity()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ne doit rien abandonner tant que le tampon a de la place")
+    void shouldNotDropBelowCapacity() {
+        BlockedAppender delegate = new BlockedAppender(release);
+        appender = start(delegate, 1_024);
+        Logger logger = context.getLogger("test");
+
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(new LoggingEvent(Logger.FQCN, logger, Level.INFO, "événement {}", null, new Object[]{i}));
+        }
+
+        assertThat(appender.getDroppedCount()).isZero();
+
+        // Une fois l'écriture débloquée, l'arrêt vide le tampon: tout est remis
+        release.countDown();
+        appender.stop();
+        assertThat(delegate.received).hasValue(100);
+    }
+
+    private MeteredAsyncAppender start(BlockedAppender delegate, int queueSize) {
+        delegate.setContext(context);
+        delegate.start();
+        MeteredAsyncAppender async = new MeteredAsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setQueueSize(queueSize);
+        async.setNeverBlock(true);
+        async.setMaxFlushTime(100);
+        async.addAppender(delegate);
+        async.start();
+        return async;
+    }
+
+    /**
+     * Appender dont l'écriture attend le signal de fin du test (I/O saturée).
+     */
+    private static final class BlockedAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch release;
+        private final AtomicInteger received = new AtomicInteger();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        BlockedAppender(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            received.incrementAndGet();
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
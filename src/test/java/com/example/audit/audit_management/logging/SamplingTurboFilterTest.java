@@ -0,0 +1,69 @@
+package com.example.audit.audit_management.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de l'échantillonnage des logs INFO.
+ */
+@DisplayName("SamplingTurboFilter - Tests unitaires")
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger controllerLogger = context.getLogger("com.example.audit.audit_management.controller.UserController");
+    private final Logger serviceLogger = context.getLogger("com.example.audit.audit_management.service.impl.UserServiceImpl");
+
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setLoggers("com.example.audit.audit_management.controller, ");
+        filter.setRate(10);
+    }
+
+    @Test
+    @DisplayName("Doit conserver environ une ligne INFO sur N et compter les autres")
+    void shouldSampleInfoLines() {
+        long kept = IntStream.range(0, 10_000)
+                .mapToObj(i -> decide(controllerLogger, Level.INFO))
+                .filter(reply -> reply == FilterReply.NEUTRAL)
+                .count();
+
+        assertThat(kept).isBetween(700L, 1_300L);
+        assertThat(filter.getSampledOutCount()).isEqualTo(10_000 - kept);
+    }
+
+    @Test
+    @DisplayName("Ne doit jamais écarter WARN, les autres loggers ni les tests isInfoEnabled")
+    void shouldNotSampleOtherEvents() {
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(decide(controllerLogger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(serviceLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, controllerLogger, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(filter.getSampledOutCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Taux 1: aucun échantillonnage")
+    void shouldKeepEverythingWithRateOne() {
+        filter.setRate(1);
+
+        assertThat(IntStream.range(0, 1_000).mapToObj(i -> decide(controllerLogger, Level.INFO)))
+                .containsOnly(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "GET /api/users/{} - Récupération de l'utilisateur", new Object[]{1L}, null);
+    }
+}
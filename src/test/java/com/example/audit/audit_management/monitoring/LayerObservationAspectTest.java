@@ -0,0 +1,90 @@
+package com.example.audit.audit_management.monitoring;
+
+import com.example.audit.audit_management.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires de l'instrumentation par couche (proxy AspectJ, registre en mémoire).
+ */
+@DisplayName("LayerObservationAspect - Tests unitaires")
+class LayerObservationAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObservedService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ObservedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LayerObservationAspect(observationRegistry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Doit chronométrer l'appel avec les étiquettes layer et operation")
+    void shouldTimeServiceCall() {
+        assertThat(service.lookup(2L)).isEqualTo(4L);
+        service.lookup(3L);
+
+        Timer timer = meterRegistry.get(LayerObservationAspect.OBSERVATION_NAME)
+                .tag(LayerObservationAspect.LAYER, "service")
+                .tag(LayerObservationAspect.OPERATION, "ObservedService.lookup")
+                .tag("error", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Doit propager l'exception et l'étiqueter")
+    void shouldTagErrors() {
+        assertThatThrownBy(() -> service.fail()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(LayerObservationAspect.OBSERVATION_NAME)
+                .tag(LayerObservationAspect.OPERATION, "ObservedService.fail")
+                .tag("error", "IllegalStateException")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Doit nommer un proxy JDK d'après son interface applicative")
+    void shouldNameJdkProxyAfterApplicationInterface() throws NoSuchMethodException {
+        Class<?> proxyType = Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> null).getClass();
+
+        assertThat(LayerObservationAspect.operationName(proxyType, UserRepository.class.getMethod("findAll")))
+                .isEqualTo("UserRepository.findAll");
+    }
+
+    /**
+     * Classe interne non statique: ignorée par le scan de composants des tests @SpringBootTest.
+     */
+    @Service
+    public class ObservedService {
+
+        public long lookup(long id) {
+            return id * 2;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("échec");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.audit.audit_management.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Budget d'instructions SQL pour les tests (détection des N+1).
+ *
+ * Compte les instructions exécutées sur le thread du test depuis {@link #start()},
+ * via le proxy JDBC (contexte Spring complet, app.sql.metrics.enabled non désactivé).
+ * Avec MockMvc, la requête s'exécute sur ce même thread:
+ *
+ * <pre>
+ * userRepository.flush();  // écritures en attente hors budget
+ * QueryBudget budget = QueryBudget.start();
+ * mockMvc.perform(get("/api/users?limit=20")).andExpect(status().isOk());
+ * budget.assertSelectsAtMost(2).assertNoWrites();
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private final SqlQueryCounter.Snapshot start;
+
+    private QueryBudget(SqlQueryCounter.Snapshot start) {
+        this.start = start;
+    }
+
+    public static QueryBudget start() {
+        return new QueryBudget(SqlQueryCounter.snapshot());
+    }
+
+    /**
+     * @return Les instructions exécutées depuis le début du budget
+     */
+    public SqlQueryCounter.Snapshot used() {
+        return SqlQueryCounter.snapshot().minus(start);
+    }
+
+    public QueryBudget assertAtMost(long statements) {
+        SqlQueryCounter.Snapshot used = used();
+        assertThat(used.total()).as("instructions SQL (%s)", used).isLessThanOrEqualTo(statements);
+        return this;
+    }
+
+    public QueryBudget assertSelectsAtMost(long selects) {
+        SqlQueryCounter.Snapshot used = used();
+        assertThat(used.selects()).as("SELECT (%s)", used).isLessThanOrEqualTo(selects);
+        return this;
+    }
+
+    public QueryBudget assertWritesAtMost(long writes) {
+        SqlQueryCounter.Snapshot used = used();
+        assertThat(used.inserts() + used.updates() + used.deletes())
+                .as("INSERT/UPDATE/DELETE (%s)", used)
+                .isLessThanOrEqualTo(writes);
+        return this;
+    }
+
+    public QueryBudget assertNoWrites() {
+        return assertWritesAtMost(0);
+    }
+}
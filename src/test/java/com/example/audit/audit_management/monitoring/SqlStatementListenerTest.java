@@ -0,0 +1,74 @@
+package com.example.audit.audit_management.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires du listener JDBC: comptage, timer par type et forme des paramètres.
+ */
+@DisplayName("SqlStatementListener - Tests unitaires")
+class SqlStatementListenerTest {
+
+    @Test
+    @DisplayName("Doit compter l'instruction et la chronométrer par type")
+    void shouldCountAndTimeStatements() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatementListener listener = new SqlStatementListener(meterRegistry, Duration.ofSeconds(1));
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setSuccess(true);
+        List<QueryInfo> queries = List.of(new QueryInfo("select u.id from users u where u.id = ?"));
+
+        QueryBudget budget = QueryBudget.start();
+        listener.beforeQuery(execInfo, queries);
+        listener.afterQuery(execInfo, queries);
+
+        assertThat(budget.used().selects()).isEqualTo(1);
+        assertThat(budget.used().total()).isEqualTo(1);
+        assertThat(meterRegistry.get(SqlStatementListener.METRIC_NAME)
+                .tag("type", "select")
+                .tag("outcome", "success")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Doit décrire les paramètres par leur type, sans les valeurs")
+    void shouldDescribeParameterShapes() throws NoSuchMethodException {
+        List<ParameterSetOperation> first = List.of(
+                parameter("setString", 2, "secret@example.com"),
+                parameter("setLong", 1, 42L),
+                parameter("setNull", 3, 12));
+
+        String shapes = SqlStatementListener.parameterShapes(List.of(first, first));
+
+        assertThat(shapes).isEqualTo("[Long, String, null] x 2");
+        assertThat(shapes).doesNotContain("secret");
+    }
+
+    @Test
+    @DisplayName("Doit normaliser les espaces du SQL journalisé")
+    void shouldNormalizeSql() {
+        assertThat(SqlStatementListener.normalize("select *\n   from users\n where id = ?"))
+                .isEqualTo("select * from users where id = ?");
+    }
+
+    private static ParameterSetOperation parameter(String method, int index, Object value) throws NoSuchMethodException {
+        Class<?> type = switch (method) {
+            case "setString" -> String.class;
+            case "setLong" -> long.class;
+            default -> int.class;
+        };
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(method, int.class, type),
+                new Object[]{index, value});
+    }
+}
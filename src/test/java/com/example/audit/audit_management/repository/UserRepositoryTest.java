@@ -1,12 +1,15 @@
 package com.example.audit.audit_management.repository;
 
+import com.example.audit.audit_management.dto.UserDTO;
 import com.example.audit.audit_management.entity.User;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -141,6 +144,31 @@ class UserRepositoryTest {
         assertThat(results.get(0).getUsername()).isEqualTo("john.doe");
     }
 
+    @Test
+    @DisplayName("Projections DTO - Doivent lire sans charger d'entité dans le contexte de persistance")
+    void dtoProjections_ShouldNotHydrateEntities() {
+        // Given
+        entityManager.clear();
+
+        // When
+        List<UserDTO> firstPage = userRepository.findDtoPage(Limit.of(1));
+        List<UserDTO> nextPage = userRepository.findDtoPageAfter(firstPage.get(0).getId(), Limit.of(5));
+        Optional<UserDTO> byId = userRepository.findDtoById(user2.getId());
+        List<UserDTO> admins = userRepository.findDtosByRole("ADMIN");
+        List<UserDTO> byIds = userRepository.findDtosByIdIn(List.of(user1.getId(), user2.getId()));
+
+        // Then
+        assertThat(firstPage).extracting(UserDTO::getUsername).containsExactly("john.doe");
+        assertThat(nextPage).extracting(UserDTO::getUsername).containsExactly("jane.smith");
+        assertThat(byId).get().satisfies(dto -> {
+            assertThat(dto.getEmail()).isEqualTo("jane.smith@example.com");
+            assertThat(dto.getCreatedAt()).isNotNull();
+        });
+        assertThat(admins).extracting(UserDTO::getUsername).containsExactly("jane.smith");
+        assertThat(byIds).hasSize(2);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
     @Test
     @DisplayName("save - Doit définir createdAt automatiquement")
     void save_ShouldSetCreatedAt() {
@@ -1,12 +1,33 @@
 package com.example.audit.audit_management.service;
 
+import com.example.audit.audit_management.cache.UserCache;
+import com.example.audit.audit_management.cache.UserListStampCache;
+import com.example.audit.audit_management.dto.UserBatchItemDTO;
+import com.example.audit.audit_management.dto.UserBatchResultDTO;
+import com.example.audit.audit_management.dto.UserBulkResultDTO;
 import com.example.audit.audit_management.dto.UserDTO;
+import com.example.audit.audit_management.dto.UserFilterResultDTO;
+import com.example.audit.audit_management.dto.UserPageDTO;
+import com.example.audit.audit_management.dto.UserPatchDTO;
+import com.example.audit.audit_management.dto.UserSuggestionDTO;
+import com.example.audit.audit_management.exception.BadRequestException;
 import com.example.audit.audit_management.entity.User;
+import com.example.audit.audit_management.event.UserChangedEvent;
 import com.example.audit.audit_management.exception.DuplicateResourceException;
+import com.example.audit.audit_management.exception.PreconditionFailedException;
 import com.example.audit.audit_management.exception.ResourceNotFoundException;
+import com.example.audit.audit_management.index.UserBitmapIndex;
+import com.example.audit.audit_management.index.UserFilterIndex;
+import com.example.audit.audit_management.index.UserSuggestionIndex;
+import com.example.audit.audit_management.index.UserUniquenessFilter;
 import com.example.audit.audit_management.mapper.UserMapper;
+import com.example.audit.audit_management.repository.UserBulkRepository;
+import com.example.audit.audit_management.repository.UserPatchRepository;
 import com.example.audit.audit_management.repository.UserRepository;
+import com.example.audit.audit_management.search.UserSearchBackend;
 import com.example.audit.audit_management.service.impl.UserServiceImpl;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,16 +35,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -42,12 +75,54 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private UserCache userCache = new UserCache(1_000_000, Duration.ofMinutes(5));
+
+    @Spy
+    private UserListStampCache listStampCache = new UserListStampCache(Duration.ofMinutes(5));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserSearchBackend userSearchBackend;
+
+    @Mock
+    private UserSuggestionIndex userSuggestionIndex;
+
+    @Mock
+    private UserFilterIndex userFilterIndex;
+
+    @Mock
+    private UserPatchRepository userPatchRepository;
+
+    @Mock
+    private UserBulkRepository userBulkRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    /** Jamais construit ici: toutes les valeurs sont vérifiées en base. */
+    @Spy
+    private UserUniquenessFilter uniquenessFilter = new UserUniquenessFilter(null, null, 0.01, 1_000);
+
     @InjectMocks
     private UserServiceImpl userService;
 
     private User user;
     private UserDTO userDTO;
 
+    /**
+     * Simule l'exception traduite par Spring lorsqu'une contrainte d'unicité est violée.
+     */
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraintName));
+    }
+
     @BeforeEach
     void setUp() {
         // Données de test réutilisables
@@ -73,33 +148,62 @@ class UserServiceTest {
     class GetAllUsersTests {
 
         @Test
-        @DisplayName("Doit retourner la liste de tous les utilisateurs")
-        void shouldReturnAllUsers() {
+        @DisplayName("Doit retourner la première page sans curseur suivant")
+        void shouldReturnFirstPage() {
             // Given
-            List<User> users = Arrays.asList(user);
-            when(userRepository.findAll()).thenReturn(users);
-            when(userMapper.toDTO(user)).thenReturn(userDTO);
+            when(userRepository.findDtoPage(Limit.of(11))).thenReturn(List.of(userDTO));
 
             // When
-            List<UserDTO> result = userService.getAllUsers();
+            UserPageDTO result = userService.getAllUsers(null, 10);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getUsername()).isEqualTo("john.doe");
-            verify(userRepository).findAll();
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).getUsername()).isEqualTo("john.doe");
+            assertThat(result.isHasMore()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Doit fournir un curseur quand une page suivante existe")
+        void shouldReturnCursorWhenMoreUsers() {
+            // Given
+            UserDTO other = UserDTO.builder().id(2L).username("jane.doe").build();
+            when(userRepository.findDtoPage(Limit.of(2))).thenReturn(List.of(userDTO, other));
+
+            // When
+            UserPageDTO page = userService.getAllUsers(null, 1);
+
+            // Then
+            assertThat(page.getContent()).hasSize(1);
+            assertThat(page.isHasMore()).isTrue();
+            assertThat(page.getNextCursor()).isNotBlank();
+
+            // Le curseur permet de reprendre après le dernier élément renvoyé
+            when(userRepository.findDtoPageAfter(1L, Limit.of(2))).thenReturn(List.of());
+            UserPageDTO next = userService.getAllUsers(page.getNextCursor(), 1);
+            assertThat(next.getContent()).isEmpty();
+            verify(userRepository).findDtoPageAfter(1L, Limit.of(2));
         }
 
         @Test
-        @DisplayName("Doit retourner une liste vide si aucun utilisateur")
-        void shouldReturnEmptyListWhenNoUsers() {
+        @DisplayName("Doit plafonner la taille de page")
+        void shouldCapPageSize() {
             // Given
-            when(userRepository.findAll()).thenReturn(List.of());
+            when(userRepository.findDtoPage(any(Limit.class))).thenReturn(List.of());
 
             // When
-            List<UserDTO> result = userService.getAllUsers();
+            userService.getAllUsers(null, 1_000_000);
 
             // Then
-            assertThat(result).isEmpty();
+            verify(userRepository).findDtoPage(Limit.of(UserService.MAX_PAGE_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("Doit lever BadRequestException si le curseur est invalide")
+        void shouldRejectInvalidCursor() {
+            assertThatThrownBy(() -> userService.getAllUsers("not-a-cursor", 10))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("after");
         }
     }
 
@@ -111,8 +215,7 @@ class UserServiceTest {
         @DisplayName("Doit retourner l'utilisateur quand il existe")
         void shouldReturnUserWhenFound() {
             // Given
-            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-            when(userMapper.toDTO(user)).thenReturn(userDTO);
+            when(userRepository.findDtoById(1L)).thenReturn(Optional.of(userDTO));
 
             // When
             UserDTO result = userService.getUserById(1L);
@@ -122,11 +225,43 @@ class UserServiceTest {
             assertThat(result.getUsername()).isEqualTo("john.doe");
         }
 
+        @Test
+        @DisplayName("Doit servir les lectures suivantes depuis le cache, avec des copies indépendantes")
+        void shouldServeFromCacheWithIndependentCopies() {
+            // Given
+            when(userRepository.findDtoById(1L)).thenReturn(Optional.of(userDTO));
+
+            // When
+            UserDTO first = userService.getUserById(1L);
+            first.setUsername("modifié par l'appelant");
+            UserDTO second = userService.getUserById(1L);
+
+            // Then
+            verify(userRepository, times(1)).findDtoById(1L);
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getUsername()).isEqualTo("john.doe");
+        }
+
+        @Test
+        @DisplayName("Doit relire la base après invalidation")
+        void shouldReloadAfterInvalidation() {
+            // Given
+            when(userRepository.findDtoById(1L)).thenReturn(Optional.of(userDTO));
+            userService.getUserById(1L);
+
+            // When
+            userCache.onUserChanged(UserChangedEvent.deleted(1L));
+            userService.getUserById(1L);
+
+            // Then
+            verify(userRepository, times(2)).findDtoById(1L);
+        }
+
         @Test
         @DisplayName("Doit lever ResourceNotFoundException quand utilisateur non trouvé")
         void shouldThrowExceptionWhenNotFound() {
             // Given
-            when(userRepository.findById(99L)).thenReturn(Optional.empty());
+            when(userRepository.findDtoById(99L)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> userService.getUserById(99L))
@@ -141,13 +276,11 @@ class UserServiceTest {
     class CreateUserTests {
 
         @Test
-        @DisplayName("Doit créer un utilisateur avec succès")
+        @DisplayName("Doit créer un utilisateur avec succès en un seul INSERT")
         void shouldCreateUserSuccessfully() {
             // Given
-            when(userRepository.findByUsername(userDTO.getUsername())).thenReturn(Optional.empty());
-            when(userRepository.findByEmail(userDTO.getEmail())).thenReturn(Optional.empty());
             when(userMapper.toEntity(userDTO)).thenReturn(user);
-            when(userRepository.save(any(User.class))).thenReturn(user);
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
             when(userMapper.toDTO(user)).thenReturn(userDTO);
 
             // When
@@ -156,14 +289,17 @@ class UserServiceTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getUsername()).isEqualTo("john.doe");
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).saveAndFlush(any(User.class));
+            verify(userRepository, never()).findByUsername(any());
+            verify(userRepository, never()).findByEmail(any());
         }
 
         @Test
         @DisplayName("Doit lever DuplicateResourceException si username existe déjà")
         void shouldThrowExceptionWhenUsernameExists() {
             // Given
-            when(userRepository.findByUsername(userDTO.getUsername())).thenReturn(Optional.of(user));
+            when(userMapper.toEntity(userDTO)).thenReturn(user);
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.UK_USERNAME));
 
             // When/Then
             assertThatThrownBy(() -> userService.createUser(userDTO))
@@ -175,14 +311,144 @@ class UserServiceTest {
         @DisplayName("Doit lever DuplicateResourceException si email existe déjà")
         void shouldThrowExceptionWhenEmailExists() {
             // Given
-            when(userRepository.findByUsername(userDTO.getUsername())).thenReturn(Optional.empty());
-            when(userRepository.findByEmail(userDTO.getEmail())).thenReturn(Optional.of(user));
+            when(userMapper.toEntity(userDTO)).thenReturn(user);
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(uniqueViolation("PUBLIC." + User.UK_EMAIL.toUpperCase() + "_INDEX_4"));
 
             // When/Then
             assertThatThrownBy(() -> userService.createUser(userDTO))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessageContaining("email");
         }
+
+        @Test
+        @DisplayName("Doit reconnaître la colonne si la contrainte garde un nom généré (table existante)")
+        void shouldThrowExceptionWhenLegacyConstraintViolated() {
+            // Given: nom généré par Hibernate avant le nommage des contraintes
+            String legacyName = "ukr43af9ap4edm43mmtq01oddj6";
+            when(userMapper.toEntity(userDTO)).thenReturn(user);
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new ConstraintViolationException("duplicate key", new SQLException(
+                            "ERROR: duplicate key value violates unique constraint \"" + legacyName + "\"\n"
+                                    + "  Detail: Key (email)=(john.doe@example.com) already exists."), legacyName)));
+
+            // When/Then
+            assertThatThrownBy(() -> userService.createUser(userDTO))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessageContaining("email");
+        }
+
+        @Test
+        @DisplayName("Doit propager les autres violations d'intégrité")
+        void shouldPropagateOtherIntegrityViolations() {
+            // Given
+            when(userMapper.toEntity(userDTO)).thenReturn(user);
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users_role_not_null"));
+
+            // When/Then
+            assertThatThrownBy(() -> userService.createUser(userDTO))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("createUsers()")
+    class CreateUsersTests {
+
+        private UserDTO newUser(String username, String email) {
+            return UserDTO.builder().username(username).email(email).role("USER").build();
+        }
+
+        @Test
+        @DisplayName("Doit créer tout le lot avec deux requêtes d'unicité et un saveAll")
+        void shouldCreateWholeBatch() {
+            // Given
+            UserDTO first = newUser("first.user", "first@example.com");
+            UserDTO second = newUser("second.user", "second@example.com");
+            User firstEntity = User.builder().username("first.user").build();
+            User secondEntity = User.builder().username("second.user").build();
+            when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+            when(userMapper.toEntity(first)).thenReturn(firstEntity);
+            when(userMapper.toEntity(second)).thenReturn(secondEntity);
+            when(userRepository.saveAllAndFlush(anyList())).thenReturn(List.of(firstEntity, secondEntity));
+            when(userMapper.toDTO(firstEntity)).thenReturn(first);
+            when(userMapper.toDTO(secondEntity)).thenReturn(second);
+
+            // When
+            UserBatchResultDTO result = userService.createUsers(List.of(first, second));
+
+            // Then
+            assertThat(result.getCreated()).isEqualTo(2);
+            assertThat(result.getRejected()).isZero();
+            assertThat(result.getItems()).extracting(UserBatchItemDTO::getStatus)
+                    .containsExactly(UserBatchItemDTO.Status.CREATED, UserBatchItemDTO.Status.CREATED);
+            verify(userRepository, times(1)).findExistingUsernames(anyCollection());
+            verify(userRepository, times(1)).saveAllAndFlush(anyList());
+            verify(userRepository, never()).findByUsername(any());
+        }
+
+        @Test
+        @DisplayName("Doit rejeter individuellement les doublons du lot et de la base")
+        void shouldRejectDuplicatesPerItem() {
+            // Given
+            UserDTO existing = newUser("john.doe", "other@example.com");
+            UserDTO accepted = newUser("new.user", "new@example.com");
+            UserDTO inBatchDuplicate = newUser("new.user", "another@example.com");
+            User acceptedEntity = User.builder().username("new.user").build();
+            when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of("john.doe"));
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+            when(userMapper.toEntity(accepted)).thenReturn(acceptedEntity);
+            when(userRepository.saveAllAndFlush(List.of(acceptedEntity))).thenReturn(List.of(acceptedEntity));
+            when(userMapper.toDTO(acceptedEntity)).thenReturn(accepted);
+
+            // When
+            UserBatchResultDTO result = userService.createUsers(List.of(existing, accepted, inBatchDuplicate));
+
+            // Then
+            assertThat(result.getCreated()).isEqualTo(1);
+            assertThat(result.getRejected()).isEqualTo(2);
+            assertThat(result.getItems().get(0).getErrors()).containsKey("username");
+            assertThat(result.getItems().get(1).getStatus()).isEqualTo(UserBatchItemDTO.Status.CREATED);
+            assertThat(result.getItems().get(2).getErrors()).containsKey("username");
+        }
+
+        @Test
+        @DisplayName("Doit revérifier tout le lot en base après un conflit non vu par le filtre")
+        void shouldRetryBatchWithoutFilterOnUniqueViolation() {
+            // Given: la première vérification ne voit pas "taken.name", l'insertion échoue
+            UserDTO taken = newUser("taken.name", "taken@example.com");
+            UserDTO accepted = newUser("new.user", "new@example.com");
+            User takenEntity = User.builder().username("taken.name").build();
+            User acceptedEntity = User.builder().username("new.user").build();
+            when(userRepository.findExistingUsernames(anyCollection()))
+                    .thenReturn(Set.of())
+                    .thenReturn(Set.of("taken.name"));
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+            when(userMapper.toEntity(taken)).thenReturn(takenEntity);
+            when(userMapper.toEntity(accepted)).thenReturn(acceptedEntity);
+            when(userRepository.saveAllAndFlush(List.of(takenEntity, acceptedEntity)))
+                    .thenThrow(uniqueViolation("uk_users_username"));
+            when(userRepository.saveAllAndFlush(List.of(acceptedEntity))).thenReturn(List.of(acceptedEntity));
+            when(userMapper.toDTO(acceptedEntity)).thenReturn(accepted);
+
+            // When
+            UserBatchResultDTO result = userService.createUsers(List.of(taken, accepted));
+
+            // Then: rejet individuel, l'autre élément est créé
+            assertThat(result.getCreated()).isEqualTo(1);
+            assertThat(result.getItems().get(0).getErrors()).containsKey("username");
+            assertThat(result.getItems().get(1).getStatus()).isEqualTo(UserBatchItemDTO.Status.CREATED);
+            verify(userRepository, times(2)).findExistingUsernames(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Doit lever BadRequestException si le lot est vide")
+        void shouldRejectEmptyBatch() {
+            assertThatThrownBy(() -> userService.createUsers(List.of()))
+                    .isInstanceOf(BadRequestException.class);
+        }
     }
 
     @Nested
@@ -200,9 +466,7 @@ class UserServiceTest {
                     .build();
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-            when(userRepository.findByUsername(updateDTO.getUsername())).thenReturn(Optional.empty());
-            when(userRepository.findByEmail(updateDTO.getEmail())).thenReturn(Optional.empty());
-            when(userRepository.save(any(User.class))).thenReturn(user);
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
             when(userMapper.toDTO(user)).thenReturn(updateDTO);
 
             // When
@@ -211,7 +475,22 @@ class UserServiceTest {
             // Then
             assertThat(result).isNotNull();
             verify(userMapper).updateEntityFromDTO(any(User.class), eq(updateDTO));
-            verify(userRepository).save(user);
+            verify(userRepository).saveAndFlush(user);
+            verify(userRepository, never()).findByUsername(any());
+            verify(eventPublisher).publishEvent(UserChangedEvent.updated(updateDTO));
+        }
+
+        @Test
+        @DisplayName("Doit lever DuplicateResourceException si le nouvel email est déjà pris")
+        void shouldThrowExceptionWhenEmailTaken() {
+            // Given
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.UK_EMAIL));
+
+            // When/Then
+            assertThatThrownBy(() -> userService.updateUser(1L, userDTO))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessageContaining("email");
         }
 
         @Test
@@ -224,6 +503,111 @@ class UserServiceTest {
             assertThatThrownBy(() -> userService.updateUser(99L, userDTO))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("Doit lever PreconditionFailedException si la version attendue est périmée")
+        void shouldRejectStaleExpectedVersion() {
+            // Given
+            user.setVersion(4L);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+            // When/Then
+            assertThatThrownBy(() -> userService.updateUser(1L, userDTO, 3L))
+                    .isInstanceOf(PreconditionFailedException.class);
+            verify(userRepository, never()).saveAndFlush(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Doit lever PreconditionFailedException si une écriture concurrente passe avant le flush")
+        void shouldTranslateConcurrentUpdateWhenVersionExpected() {
+            // Given
+            user.setVersion(3L);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(User.class, 1L));
+
+            // When/Then
+            assertThatThrownBy(() -> userService.updateUser(1L, userDTO, 3L))
+                    .isInstanceOf(PreconditionFailedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("patchUser()")
+    class PatchUserTests {
+
+        private final UserPatchDTO patch = UserPatchDTO.builder().role("ADMIN").build();
+
+        @Test
+        @DisplayName("Doit appliquer le patch en une instruction et publier l'événement")
+        void shouldPatchInSingleStatement() {
+            // Given
+            UserDTO patched = UserDTO.builder().id(1L).username("john.doe").role("ADMIN").version(4L).build();
+            when(userPatchRepository.patch(1L, patch, 3L)).thenReturn(Optional.of(patched));
+
+            // When
+            UserDTO result = userService.patchUser(1L, patch, 3L);
+
+            // Then
+            assertThat(result.getVersion()).isEqualTo(4L);
+            verifyNoInteractions(userRepository);
+            verify(eventPublisher).publishEvent(UserChangedEvent.updated(patched));
+        }
+
+        @Test
+        @DisplayName("Doit lever BadRequestException si aucun champ n'est fourni")
+        void shouldRejectEmptyPatch() {
+            assertThatThrownBy(() -> userService.patchUser(1L, new UserPatchDTO(), null))
+                    .isInstanceOf(BadRequestException.class);
+            verifyNoInteractions(userPatchRepository);
+        }
+
+        @Test
+        @DisplayName("Doit lever BadRequestException si un champ fourni est vide")
+        void shouldRejectBlankField() {
+            assertThatThrownBy(() -> userService.patchUser(1L, UserPatchDTO.builder().role("  ").build(), null))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("role");
+        }
+
+        @Test
+        @DisplayName("Doit lever PreconditionFailedException si la version a changé")
+        void shouldThrowPreconditionFailedWhenVersionStale() {
+            // Given
+            when(userPatchRepository.patch(1L, patch, 3L)).thenReturn(Optional.empty());
+            when(userRepository.existsById(1L)).thenReturn(true);
+
+            // When/Then
+            assertThatThrownBy(() -> userService.patchUser(1L, patch, 3L))
+                    .isInstanceOf(PreconditionFailedException.class);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Doit lever ResourceNotFoundException si utilisateur non trouvé")
+        void shouldThrowNotFoundWhenNoRowUpdated() {
+            // Given
+            when(userPatchRepository.patch(99L, patch, null)).thenReturn(Optional.empty());
+
+            // When/Then
+            assertThatThrownBy(() -> userService.patchUser(99L, patch, null))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(userRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Doit lever DuplicateResourceException si le nouveau nom est déjà pris")
+        void shouldTranslateUniqueViolation() {
+            // Given
+            UserPatchDTO rename = UserPatchDTO.builder().username("taken").build();
+            when(userPatchRepository.patch(1L, rename, null)).thenThrow(uniqueViolation(User.UK_USERNAME));
+
+            // When/Then
+            assertThatThrownBy(() -> userService.patchUser(1L, rename, null))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessageContaining("taken");
+        }
     }
 
     @Nested
@@ -234,25 +618,93 @@ class UserServiceTest {
         @DisplayName("Doit supprimer un utilisateur avec succès")
         void shouldDeleteUserSuccessfully() {
             // Given
-            when(userRepository.existsById(1L)).thenReturn(true);
-            doNothing().when(userRepository).deleteById(1L);
+            when(userRepository.deleteUserById(1L)).thenReturn(1);
 
             // When
             userService.deleteUser(1L);
 
             // Then
-            verify(userRepository).deleteById(1L);
+            verify(userRepository).deleteUserById(1L);
+            verify(userRepository, never()).existsById(any());
+            verify(eventPublisher).publishEvent(UserChangedEvent.deleted(1L));
         }
 
         @Test
         @DisplayName("Doit lever ResourceNotFoundException si utilisateur non trouvé")
         void shouldThrowExceptionWhenUserNotFound() {
             // Given
-            when(userRepository.existsById(99L)).thenReturn(false);
+            when(userRepository.deleteUserById(99L)).thenReturn(0);
 
             // When/Then
             assertThatThrownBy(() -> userService.deleteUser(99L))
                     .isInstanceOf(ResourceNotFoundException.class);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Opérations ensemblistes")
+    class BulkOperationTests {
+
+        @Test
+        @DisplayName("Doit supprimer un ensemble d'ids en une instruction et invalider chacun")
+        void shouldDeleteIdsInOneStatement() {
+            // Given
+            when(userRepository.deleteAllByIdIn(Set.of(1L, 2L, 3L))).thenReturn(2);
+
+            // When
+            UserBulkResultDTO result = userService.deleteUsers(List.of(1L, 2L, 3L, 2L));
+
+            // Then
+            assertThat(result.getAffected()).isEqualTo(2);
+            verify(eventPublisher).publishEvent(UserChangedEvent.deleted(1L));
+            verify(eventPublisher).publishEvent(UserChangedEvent.deleted(2L));
+            verify(eventPublisher).publishEvent(UserChangedEvent.deleted(3L));
+        }
+
+        @Test
+        @DisplayName("Doit lever BadRequestException si la liste est vide")
+        void shouldRejectEmptyIdList() {
+            assertThatThrownBy(() -> userService.deleteUsers(List.of()))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("Doit supprimer un rôle et invalider les ids renvoyés par la base")
+        void shouldDeleteRoleAndInvalidateReturnedIds() {
+            // Given
+            when(userBulkRepository.deleteByRole("AUDITOR")).thenReturn(List.of(5L, 6L));
+
+            // When
+            UserBulkResultDTO result = userService.deleteUsersByRole("AUDITOR");
+
+            // Then
+            assertThat(result.getAffected()).isEqualTo(2);
+            verify(eventPublisher).publishEvent(UserChangedEvent.deleted(5L));
+            verify(eventPublisher).publishEvent(UserChangedEvent.deleted(6L));
+        }
+
+        @Test
+        @DisplayName("Doit réattribuer un rôle et publier le nouvel état de chaque utilisateur")
+        void shouldReassignRole() {
+            // Given
+            UserDTO moved = UserDTO.builder().id(5L).username("john.doe").role("USER").version(2L).build();
+            when(userBulkRepository.reassignRole("AUDITOR", "USER")).thenReturn(List.of(moved));
+
+            // When
+            UserBulkResultDTO result = userService.reassignRole("AUDITOR", "USER");
+
+            // Then
+            assertThat(result.getAffected()).isEqualTo(1);
+            verify(eventPublisher).publishEvent(UserChangedEvent.updated(moved));
+        }
+
+        @Test
+        @DisplayName("Doit refuser une réattribution vers le même rôle")
+        void shouldRejectSameRole() {
+            assertThatThrownBy(() -> userService.reassignRole("AUDITOR", "AUDITOR"))
+                    .isInstanceOf(BadRequestException.class);
+            verifyNoInteractions(userBulkRepository);
         }
     }
 
@@ -264,8 +716,7 @@ class UserServiceTest {
         @DisplayName("Doit retourner les utilisateurs avec le rôle spécifié")
         void shouldReturnUsersByRole() {
             // Given
-            when(userRepository.findByRole("AUDITOR")).thenReturn(List.of(user));
-            when(userMapper.toDTO(user)).thenReturn(userDTO);
+            when(userRepository.findDtosByRole("AUDITOR")).thenReturn(List.of(userDTO));
 
             // When
             List<UserDTO> result = userService.getUsersByRole("AUDITOR");
@@ -284,15 +735,107 @@ class UserServiceTest {
         @DisplayName("Doit retourner les utilisateurs correspondant à la recherche")
         void shouldReturnMatchingUsers() {
             // Given
-            when(userRepository.findByUsernameContainingIgnoreCase("john")).thenReturn(List.of(user));
-            when(userMapper.toDTO(user)).thenReturn(userDTO);
+            when(userSearchBackend.search("john", 20)).thenReturn(List.of(userDTO));
 
             // When
-            List<UserDTO> result = userService.searchUsersByUsername("john");
+            List<UserDTO> result = userService.searchUsersByUsername("john", 20);
 
             // Then
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getUsername()).contains("john");
         }
+
+        @Test
+        @DisplayName("Doit plafonner le nombre de résultats")
+        void shouldCapLimit() {
+            // Given
+            when(userSearchBackend.search("john", UserService.MAX_SEARCH_LIMIT)).thenReturn(List.of(userDTO));
+
+            // When
+            userService.searchUsersByUsername(" john ", 10_000);
+
+            // Then
+            verify(userSearchBackend).search("john", UserService.MAX_SEARCH_LIMIT);
+        }
+
+        @Test
+        @DisplayName("Doit retourner une liste vide pour un terme vide")
+        void shouldReturnEmptyForBlankTerm() {
+            assertThat(userService.searchUsersByUsername("  ", 20)).isEmpty();
+            verifyNoInteractions(userSearchBackend);
+        }
+    }
+
+    @Nested
+    @DisplayName("suggestUsers()")
+    class SuggestUsersTests {
+
+        @Test
+        @DisplayName("Doit servir les suggestions depuis l'index, sans accès à la base")
+        void shouldSuggestFromIndex() {
+            // Given
+            UserSuggestionDTO suggestion = UserSuggestionDTO.builder().id(1L).username("john.doe").build();
+            when(userSuggestionIndex.suggest("jo", UserService.MAX_SUGGEST_LIMIT)).thenReturn(List.of(suggestion));
+
+            // When
+            List<UserSuggestionDTO> result = userService.suggestUsers(" jo", 1_000);
+
+            // Then
+            assertThat(result).containsExactly(suggestion);
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Doit retourner une liste vide pour un préfixe vide")
+        void shouldReturnEmptyForBlankPrefix() {
+            assertThat(userService.suggestUsers("", 10)).isEmpty();
+            verifyNoInteractions(userSuggestionIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("filterUsers()")
+    class FilterUsersTests {
+
+        @Test
+        @DisplayName("Doit compter depuis l'index et ne lire que les ids retournés")
+        void shouldCountFromIndexAndFetchIds() {
+            // Given
+            UserBitmapIndex.Criteria criteria = new UserBitmapIndex.Criteria(
+                    "AUDITOR", "client.com", YearMonth.of(2024, 7), YearMonth.of(2024, 9));
+            when(userFilterIndex.filter(criteria, 50)).thenReturn(new UserBitmapIndex.Result(120, List.of(1L)));
+            when(userRepository.findDtosByIdIn(List.of(1L))).thenReturn(List.of(userDTO));
+
+            // When
+            UserFilterResultDTO result = userService.filterUsers("AUDITOR", "client.com", "2024-07", "2024-09", 50, false);
+
+            // Then
+            assertThat(result.getCount()).isEqualTo(120);
+            assertThat(result.getContent()).containsExactly(userDTO);
+        }
+
+        @Test
+        @DisplayName("Ne doit pas accéder à la base en mode comptage")
+        void shouldNotTouchDatabaseWhenCountOnly() {
+            // Given
+            UserBitmapIndex.Criteria criteria = new UserBitmapIndex.Criteria("ADMIN", null, null, null);
+            when(userFilterIndex.filter(criteria, 0)).thenReturn(new UserBitmapIndex.Result(3, List.of()));
+
+            // When
+            UserFilterResultDTO result = userService.filterUsers("ADMIN", null, null, null, 50, true);
+
+            // Then
+            assertThat(result.getCount()).isEqualTo(3);
+            assertThat(result.getContent()).isEmpty();
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Doit rejeter un mois mal formé")
+        void shouldRejectInvalidMonth() {
+            assertThatThrownBy(() -> userService.filterUsers(null, null, "2024-13", null, 50, false))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("createdFrom");
+        }
     }
 }
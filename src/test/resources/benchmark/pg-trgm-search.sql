@@ -0,0 +1,50 @@
+-- ===========================================
+-- Benchmark de la recherche pg_trgm à 1 000 000 d'utilisateurs
+-- ===========================================
+-- À exécuter sur une base jetable (psql -f), jamais en production:
+--   psql -h localhost -p 5433 -U postgres -d auditdb_bench -f pg-trgm-search.sql
+-- Compare le plan et la latence avec et sans l'index GiST créé par
+-- PgTrigramUserSearchBackend, pour un terme sélectif et un terme fréquent.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP TABLE IF EXISTS users_bench;
+CREATE TABLE users_bench (
+    id         bigint PRIMARY KEY,
+    username   varchar(50)  NOT NULL,
+    email      varchar(100) NOT NULL,
+    role       varchar(30)  NOT NULL,
+    created_at timestamp    NOT NULL
+);
+
+INSERT INTO users_bench (id, username, email, role, created_at)
+SELECT g,
+       (ARRAY['jean','marie','pierre','sophie','lucas','emma','louis','lea','hugo','zoe'])[1 + g % 10]
+           || '.' || (ARRAY['martin','bernard','dubois','thomas','robert','petit','durand','garcia','roux','simon'])[1 + (g / 10) % 10]
+           || g,
+       'user' || g || '@bench.test',
+       'USER',
+       now()
+FROM generate_series(1, 1000000) AS g;
+ANALYZE users_bench;
+
+\timing on
+
+-- Sans index: parcours séquentiel
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, username FROM users_bench
+WHERE lower(username) LIKE '%zoe.ga%' ORDER BY lower(username) <-> 'zoe.ga' LIMIT 20;
+
+CREATE INDEX idx_users_bench_username_trgm ON users_bench USING gist (lower(username) gist_trgm_ops);
+ANALYZE users_bench;
+
+-- Avec index: terme sélectif, puis terme fréquent (le parcours s'arrête au LIMIT)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, username FROM users_bench
+WHERE lower(username) LIKE '%zoe.ga%' ORDER BY lower(username) <-> 'zoe.ga' LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, username FROM users_bench
+WHERE lower(username) LIKE '%mar%' ORDER BY lower(username) <-> 'mar' LIMIT 20;
+
+DROP TABLE users_bench;